@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Provides default {@link Executor} used by {@link RuleSession#executeAsync}.
+ * <p>
+ * On Java 21+ a virtual thread per task executor is used, on older runtimes a pool of daemon threads bounded
+ * by the number of available processors. Once its queue is full, further tasks are rejected with
+ * {@link RejectedExecutionException} (surfacing as exceptionally completed future) rather than run by submitting
+ * threads, so that callers such as event loops are never blocked by rules execution. Clients expecting bursts
+ * exceeding the queue capacity should provide their own executor.
+ */
+public final class AsyncExecutors {
+    private static final String THREAD_NAME_PREFIX = "yare-async-";
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private AsyncExecutors() {
+    }
+
+    /**
+     * Returns executor used for asynchronous executions when none is configured with
+     * {@link RulesEngineBuilder#withAsyncExecutor(Executor)}. The executor is created once and shared by all engines.
+     *
+     * @return default executor
+     */
+    public static Executor getDefault() {
+        return Holder.EXECUTOR;
+    }
+
+    /**
+     * Runs {@code supplier} using {@code executor}, like {@link CompletableFuture#supplyAsync(Supplier, Executor)},
+     * but reports rejection of the task as exceptionally completed future instead of throwing it to the caller.
+     *
+     * @param supplier supplier to run
+     * @param executor executor running {@code supplier}
+     * @param <T>      type of result
+     * @return future completed with result of {@code supplier}
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, executor);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<T> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(e);
+            return rejected;
+        }
+    }
+
+    static Executor create() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return createThreadPool(Runtime.getRuntime().availableProcessors(), QUEUE_CAPACITY);
+        }
+    }
+
+    static ThreadPoolExecutor createThreadPool(int poolSize, int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new DaemonThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static final class Holder {
+        private static final Executor EXECUTOR = create();
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -27,6 +27,7 @@ package com.sabre.oss.yare.core;
 import com.sabre.oss.yare.core.ExecutionContext.Key;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 public interface DefaultContextKey {
@@ -52,4 +53,26 @@ public interface DefaultContextKey {
      */
     Key<AtomicReference<Object>> RULE_EXECUTION_SET = Key.create(DefaultContextKey.class, "rule-execution-set");
 
+    /**
+     * Deadline of the current execution expressed as {@link System#nanoTime()} value. When absent execution is not time bounded.
+     */
+    Key<Long> EXECUTION_DEADLINE = Key.create(DefaultContextKey.class, "execution-deadline");
+
+    /**
+     * Set by rules executor to {@code true} when evaluation was cut short by {@link #EXECUTION_DEADLINE},
+     * meaning not all rules were evaluated against all facts.
+     */
+    Key<Boolean> PARTIAL_RESULT = Key.create(DefaultContextKey.class, "partial-result");
+
+    /**
+     * Inputs of batch execution. Present instead of {@link #RESULT} and {@link #FACTS} when the whole batch is passed
+     * through the execution pipeline as a single invocation.
+     */
+    Key<List<ExecutionInput<?>>> BATCH_INPUTS = Key.create(DefaultContextKey.class, "batch-inputs");
+
+    /**
+     * Results of batch execution, one per {@link #BATCH_INPUTS} element and in the same order.
+     */
+    Key<List<Object>> BATCH_RESULTS = Key.create(DefaultContextKey.class, "batch-results");
+
 }
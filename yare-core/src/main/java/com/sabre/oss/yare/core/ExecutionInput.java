@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Single input of {@link RuleSession#executeBatch(java.util.List)}: pre-initialized result and facts it is evaluated against.
+ *
+ * @param <T> type of result
+ */
+public final class ExecutionInput<T> {
+    private final T result;
+    private final Collection<?> facts;
+
+    public ExecutionInput(T result, Collection<?> facts) {
+        this.result = result;
+        this.facts = Objects.requireNonNull(facts, "facts must not be null");
+    }
+
+    public static <T> ExecutionInput<T> of(T result, Collection<?> facts) {
+        return new ExecutionInput<>(result, facts);
+    }
+
+    public T getResult() {
+        return result;
+    }
+
+    public Collection<?> getFacts() {
+        return facts;
+    }
+}
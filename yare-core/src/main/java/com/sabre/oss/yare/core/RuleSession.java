@@ -24,7 +24,14 @@
 
 package com.sabre.oss.yare.core;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * {@link RuleSession} is an interface exposing method(s) for rules execution.
@@ -54,4 +61,83 @@ public interface RuleSession {
      * @return {@code result} (in general this not must be the same instance as passed to the method - but type have to be preserved)
      */
     <T> T execute(T result, Collection<?> facts);
+
+    /**
+     * Executes rules against provided {@code facts} like {@link #execute(Object, Collection)}, but stops
+     * evaluating further rules and facts once {@code timeout} elapses.
+     * <p>
+     * When evaluation is cut short {@link ExecutionTimeoutException} is thrown, carrying the partially
+     * updated result.
+     * <p>
+     * Default implementation waits for {@link #executeAsync(Object, Collection)} at most {@code timeout}.
+     * Since the underlying execution cannot be interrupted, rules may still be evaluated after the timeout
+     * exception is thrown, so the partial result should be treated as a read-only snapshot of work in progress.
+     *
+     * @param result  result (can be partially initialized)
+     * @param facts   facts based on which rules will be applied
+     * @param timeout maximum time of rules evaluation
+     * @param <T>     type of result
+     * @return {@code result} (in general this not must be the same instance as passed to the method - but type have to be preserved)
+     * @throws ExecutionTimeoutException when {@code timeout} elapsed before all rules were evaluated
+     */
+    default <T> T execute(T result, Collection<?> facts, Duration timeout) {
+        CompletableFuture<T> execution = executeAsync(result, facts);
+        try {
+            // durations beyond nanosecond range (about 292 years) are waited for as long as the long range allows
+            long timeoutNanos = timeout.compareTo(Duration.ofNanos(Long.MAX_VALUE)) < 0 ? timeout.toNanos() : Long.MAX_VALUE;
+            return execution.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            execution.cancel(false);
+            throw new ExecutionTimeoutException(String.format("Rules execution exceeded %s", timeout), result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for rules execution", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Executes rules against provided {@code facts} asynchronously, using executor configured with
+     * {@link RulesEngineBuilder#withAsyncExecutor(java.util.concurrent.Executor)}.
+     * <p>
+     * Default implementation runs {@link #execute(Object, Collection)} using {@link AsyncExecutors#getDefault()}.
+     * When the executor cannot accept more work, the returned future completes exceptionally with
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     *
+     * @param result result (can be partially initialized)
+     * @param facts  facts based on which rules will be applied
+     * @param <T>    type of result
+     * @return future completed with {@code result} or exceptionally when execution failed
+     */
+    default <T> CompletableFuture<T> executeAsync(T result, Collection<?> facts) {
+        return AsyncExecutors.supplyAsync(() -> execute(result, facts), AsyncExecutors.getDefault());
+    }
+
+    /**
+     * Executes rules against each of provided {@code inputs}. Rules executor may evaluate the whole batch at once,
+     * reusing work shared by its inputs (such as resolving rules or grouping facts), which makes it cheaper than calling
+     * {@link #execute(Object, Collection)} per input. Interceptors which need per-input result and facts still see every
+     * input as a separate execution.
+     * <p>
+     * Default implementation calls {@link #execute(Object, Collection)} for each input.
+     *
+     * @param inputs results and facts to evaluate
+     * @param <T>    type of result
+     * @return results, one per input and in the order of {@code inputs}
+     */
+    default <T> List<T> executeBatch(List<ExecutionInput<T>> inputs) {
+        List<T> results = new ArrayList<>(inputs.size());
+        for (ExecutionInput<T> input : inputs) {
+            results.add(execute(input.getResult(), input.getFacts()));
+        }
+        return results;
+    }
 }
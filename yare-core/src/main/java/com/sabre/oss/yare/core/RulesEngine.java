@@ -24,6 +24,11 @@
 
 package com.sabre.oss.yare.core;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
 public interface RulesEngine {
 
     /**
@@ -33,4 +38,32 @@ public interface RulesEngine {
      * @return new instance of {@link RuleSession}
      */
     RuleSession createSession(String uri);
+
+    /**
+     * Loads and compiles rules execution sets identified by {@code uris} concurrently, so that first executions
+     * do not pay for it. Uses number of available processors as parallelism and does not run synthetic evaluations.
+     *
+     * @param uris rules execution set uris
+     * @return time of loading and compiling rules per uri
+     */
+    default Map<String, Duration> warmUp(Collection<String> uris) {
+        return warmUp(uris, Runtime.getRuntime().availableProcessors(), 0);
+    }
+
+    /**
+     * Loads and compiles rules execution sets identified by {@code uris} using at most {@code parallelism} threads.
+     * When {@code syntheticEvaluations} is positive, predicates of the rules are additionally evaluated against facts
+     * built from rules' constants, which lets JIT compile hot paths. Rules whose predicates call functions are not
+     * evaluated synthetically, so functions are never called with made-up arguments. Actions are never executed.
+     * <p>
+     * Default implementation does not prepare any rules and returns empty map, rules are then loaded on first execution.
+     *
+     * @param uris                 rules execution set uris
+     * @param parallelism          maximum number of rules execution sets prepared concurrently
+     * @param syntheticEvaluations number of synthetic evaluations per uri
+     * @return time of loading and compiling rules per uri, in order of {@code uris}
+     */
+    default Map<String, Duration> warmUp(Collection<String> uris, int parallelism, int syntheticEvaluations) {
+        return Collections.emptyMap();
+    }
 }
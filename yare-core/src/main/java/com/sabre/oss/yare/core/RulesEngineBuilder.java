@@ -32,6 +32,7 @@ import com.sabre.oss.yare.core.internal.DefaultRulesEngine;
 import com.sabre.oss.yare.core.invocation.Interceptor;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 
 /**
  * Configures and creates {@link RulesEngine} instance.
@@ -45,6 +46,7 @@ public class RulesEngineBuilder {
     private RulesRepository rulesRepository;
     private RulesExecutorBuilder rulesExecutorBuilder;
     private ErrorHandler errorHandler;
+    private Executor asyncExecutor;
 
     /**
      * Specify {@link RulesRepository} used by the rules engine.
@@ -150,6 +152,19 @@ public class RulesEngineBuilder {
         return this;
     }
 
+    /**
+     * Specify {@link Executor} running {@link RuleSession#executeAsync(Object, java.util.Collection)} executions.
+     * When not specified, virtual threads are used on Java 21+ and a shared pool of daemon threads otherwise;
+     * the latter rejects executions once its queue is full instead of running them on the calling thread.
+     *
+     * @param asyncExecutor executor for asynchronous executions
+     * @return this rulesEngineBuilder instance
+     */
+    public RulesEngineBuilder withAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+        return this;
+    }
+
     /**
      * Builds previously configured {@link RulesEngine} instance.
      *
@@ -172,7 +187,8 @@ public class RulesEngineBuilder {
                 .withFunctionMappings(functionMappings)
                 .withErrorHandler(errorHandler)
                 .build();
-        return new DefaultRulesEngine(rulesExecutor, fixedInterceptors);
+        return new DefaultRulesEngine(rulesExecutor, fixedInterceptors,
+                asyncExecutor != null ? asyncExecutor : AsyncExecutors.getDefault());
     }
 
     private RulesExecutorBuilder createDefaultRulesExecutorBuilder() {
@@ -35,4 +35,15 @@ public interface ArgumentValueResolver {
      * @return resolved argument value
      */
     Object resolve(VariableResolver variableResolver, Argument argument);
+
+    /**
+     * Prepares resolver of {@link Argument} value, to be invoked on every call. Implementations should do
+     * all work not depending on {@link VariableResolver} here.
+     *
+     * @param argument argument definition
+     * @return compiled argument
+     */
+    default CompiledArgument compile(Argument argument) {
+        return variableResolver -> resolve(variableResolver, argument);
+    }
 }
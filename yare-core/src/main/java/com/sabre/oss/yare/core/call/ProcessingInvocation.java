@@ -26,20 +26,34 @@ package com.sabre.oss.yare.core.call;
 
 import com.sabre.oss.yare.core.invocation.Invocation;
 
-import java.util.List;
 import java.util.Objects;
 
 public abstract class ProcessingInvocation<R> implements Invocation<ProcessingContext, R> {
     protected final Argument.Invocation invocation;
-    private final ArgumentValueResolver argumentValueResolver;
     private final Object[] constantArguments;
+    private final CompiledArgument[] compiledArguments;
 
     protected ProcessingInvocation(Argument.Invocation invocation, ArgumentValueResolver argumentValueResolver) {
         this.invocation = Objects.requireNonNull(invocation);
-        this.argumentValueResolver = Objects.requireNonNull(argumentValueResolver);
+        Objects.requireNonNull(argumentValueResolver);
         this.constantArguments = invocation.getArguments().stream().allMatch(a -> a instanceof Argument.Value)
-                ? prepareArgumentValues(null)
+                ? invocation.getArguments().stream().map(a -> argumentValueResolver.resolve(null, a)).toArray()
                 : null;
+        this.compiledArguments = constantArguments == null
+                ? invocation.getArguments().stream().map(argumentValueResolver::compile).toArray(CompiledArgument[]::new)
+                : null;
+    }
+
+    /**
+     * Creates invocation of the same call reusing arguments already compiled by {@code source}, e.g. when
+     * decorating another invocation.
+     *
+     * @param source invocation to take call definition and compiled arguments from
+     */
+    protected ProcessingInvocation(ProcessingInvocation<?> source) {
+        this.invocation = source.invocation;
+        this.constantArguments = source.constantArguments;
+        this.compiledArguments = source.compiledArguments;
     }
 
     @Override
@@ -54,11 +68,9 @@ public abstract class ProcessingInvocation<R> implements Invocation<ProcessingCo
             return constantArguments;
         }
 
-        List<Argument> arguments = invocation.getArguments();
-        Object[] args = new Object[arguments.size()];
-        int index = 0;
-        for (Argument arg : arguments) {
-            args[index++] = argumentValueResolver.resolve(processingContext, arg);
+        Object[] args = new Object[compiledArguments.length];
+        for (int index = 0; index < compiledArguments.length; index++) {
+            args[index] = compiledArguments[index].resolve(processingContext);
         }
         return args;
     }
@@ -26,10 +26,9 @@ package com.sabre.oss.yare.core.interceptor;
 
 import com.sabre.oss.yare.core.ErrorHandler;
 import com.sabre.oss.yare.core.ExecutionContext;
-import com.sabre.oss.yare.core.invocation.Interceptor;
 import com.sabre.oss.yare.core.invocation.Invocation;
 
-public class ErrorHandlerSetUpInterceptor implements Interceptor<ExecutionContext, ExecutionContext> {
+public class ErrorHandlerSetUpInterceptor implements InputIndependentInterceptor {
     public static final ExecutionContext.Key<ErrorHandler> ERROR_HANDLER = ExecutionContext.Key.create(ErrorHandlerSetUpInterceptor.class, "ERROR_HANDLER");
 
     private final ErrorHandler errorHandler;
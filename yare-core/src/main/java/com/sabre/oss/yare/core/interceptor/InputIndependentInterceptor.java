@@ -0,0 +1,38 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.interceptor;
+
+import com.sabre.oss.yare.core.ExecutionContext;
+import com.sabre.oss.yare.core.invocation.Interceptor;
+
+/**
+ * {@link Interceptor} which neither reads nor replaces per-input {@link com.sabre.oss.yare.core.DefaultContextKey#RESULT}
+ * and {@link com.sabre.oss.yare.core.DefaultContextKey#FACTS}.
+ * <p>
+ * When all interceptors of the rules engine are input independent, {@link com.sabre.oss.yare.core.RuleSession#executeBatch(java.util.List)}
+ * runs them once for the whole batch, passing inputs under {@link com.sabre.oss.yare.core.DefaultContextKey#BATCH_INPUTS}.
+ */
+public interface InputIndependentInterceptor extends Interceptor<ExecutionContext, ExecutionContext> {
+}
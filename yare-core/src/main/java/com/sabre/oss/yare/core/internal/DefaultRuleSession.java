@@ -24,23 +24,51 @@
 
 package com.sabre.oss.yare.core.internal;
 
+import com.sabre.oss.yare.core.AsyncExecutors;
 import com.sabre.oss.yare.core.DefaultContextKey;
 import com.sabre.oss.yare.core.ExecutionContext;
+import com.sabre.oss.yare.core.ExecutionInput;
+import com.sabre.oss.yare.core.ExecutionTimeoutException;
 import com.sabre.oss.yare.core.RuleSession;
 import com.sabre.oss.yare.core.invocation.Invocation;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class DefaultRuleSession implements RuleSession {
+    private static final Duration MAX_BOUNDED_TIMEOUT = Duration.ofNanos(Long.MAX_VALUE / 2);
+
     private final String uri;
     private final Invocation<ExecutionContext, ExecutionContext> invocation;
+    private final Executor asyncExecutor;
+    private final Invocation<ExecutionContext, ExecutionContext> batchInvocation;
     private final AtomicReference<Object> executionSet = new AtomicReference<>();
 
     public DefaultRuleSession(String uri, Invocation<ExecutionContext, ExecutionContext> invocation) {
+        this(uri, invocation, AsyncExecutors.getDefault());
+    }
+
+    public DefaultRuleSession(String uri, Invocation<ExecutionContext, ExecutionContext> invocation, Executor asyncExecutor) {
+        this(uri, invocation, asyncExecutor, null);
+    }
+
+    /**
+     * Creates session which executes batches with {@code batchInvocation}, passing all inputs under
+     * {@link DefaultContextKey#BATCH_INPUTS} and expecting results under {@link DefaultContextKey#BATCH_RESULTS}.
+     * When {@code batchInvocation} is {@code null} inputs of a batch are executed one by one with {@code invocation}.
+     */
+    public DefaultRuleSession(String uri, Invocation<ExecutionContext, ExecutionContext> invocation, Executor asyncExecutor,
+                              Invocation<ExecutionContext, ExecutionContext> batchInvocation) {
         this.uri = Objects.requireNonNull(uri);
         this.invocation = Objects.requireNonNull(invocation);
+        this.asyncExecutor = Objects.requireNonNull(asyncExecutor);
+        this.batchInvocation = batchInvocation;
     }
 
     @Override
@@ -51,14 +79,63 @@ public class DefaultRuleSession implements RuleSession {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T execute(T result, Collection<?> facts) {
+        ExecutionContext outputCtx = invocation.proceed(createInputContext(result, facts));
+
+        return (T) outputCtx.get(DefaultContextKey.RESULT);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T execute(T result, Collection<?> facts, Duration timeout) {
+        ExecutionContext inputCtx = createInputContext(result, facts);
+        if (isBounded(timeout)) {
+            inputCtx.put(DefaultContextKey.EXECUTION_DEADLINE, System.nanoTime() + timeout.toNanos());
+        }
+
+        ExecutionContext outputCtx = invocation.proceed(inputCtx);
+
+        Object outputResult = outputCtx.get(DefaultContextKey.RESULT);
+        if (Boolean.TRUE.equals(outputCtx.get(DefaultContextKey.PARTIAL_RESULT, Boolean.FALSE))) {
+            throw new ExecutionTimeoutException(String.format("Execution of %s exceeded timeout of %s", uri, timeout), outputResult);
+        }
+        return (T) outputResult;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeAsync(T result, Collection<?> facts) {
+        return AsyncExecutors.supplyAsync(() -> execute(result, facts), asyncExecutor);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> List<T> executeBatch(List<ExecutionInput<T>> inputs) {
+        if (batchInvocation == null) {
+            return RuleSession.super.executeBatch(inputs);
+        }
         ExecutionContext inputCtx = new BaseExecutionContext();
         inputCtx.put(DefaultContextKey.RULE_EXECUTION_SET, executionSet);
         inputCtx.put(DefaultContextKey.RULE_EXECUTION_SET_URI, uri);
-        inputCtx.put(DefaultContextKey.RESULT, result);
-        inputCtx.put(DefaultContextKey.FACTS, facts);
+        inputCtx.put(DefaultContextKey.BATCH_INPUTS, Collections.<ExecutionInput<?>>unmodifiableList(inputs));
 
-        ExecutionContext outputCtx = invocation.proceed(inputCtx);
+        ExecutionContext outputCtx = batchInvocation.proceed(inputCtx);
 
-        return (T) outputCtx.get(DefaultContextKey.RESULT);
+        return (List<T>) outputCtx.get(DefaultContextKey.BATCH_RESULTS);
+    }
+
+    /**
+     * Deadlines are compared by difference with {@link System#nanoTime()}, which stays correct only for timeouts
+     * below half of the {@code long} range (about 146 years); longer ones never elapse in practice.
+     */
+    private static boolean isBounded(Duration timeout) {
+        return timeout.compareTo(MAX_BOUNDED_TIMEOUT) <= 0;
+    }
+
+    private ExecutionContext createInputContext(Object result, Collection<?> facts) {
+        ExecutionContext inputCtx = new BaseExecutionContext();
+        inputCtx.put(DefaultContextKey.RULE_EXECUTION_SET, executionSet);
+        inputCtx.put(DefaultContextKey.RULE_EXECUTION_SET_URI, uri);
+        inputCtx.put(DefaultContextKey.RESULT, result);
+        inputCtx.put(DefaultContextKey.FACTS, facts);
+        return inputCtx;
     }
 }
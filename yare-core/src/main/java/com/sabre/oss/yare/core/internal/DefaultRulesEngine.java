@@ -25,25 +25,89 @@
 package com.sabre.oss.yare.core.internal;
 
 import com.sabre.oss.yare.core.*;
+import com.sabre.oss.yare.core.interceptor.InputIndependentInterceptor;
 import com.sabre.oss.yare.core.invocation.InterceptedInvocation;
 import com.sabre.oss.yare.core.invocation.Interceptor;
 import com.sabre.oss.yare.core.invocation.Invocation;
+import com.sabre.oss.yare.core.management.BatchExecutionCapable;
+import com.sabre.oss.yare.core.management.WarmUpCapable;
 
-import java.util.List;
-import java.util.Objects;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
 
 public class DefaultRulesEngine implements RulesEngine, Wrapper {
     private final RulesExecutor rulesExecutor;
     private final Invocation<ExecutionContext, ExecutionContext> invocation;
+    private final Executor asyncExecutor;
+    private final Invocation<ExecutionContext, ExecutionContext> batchInvocation;
 
     public DefaultRulesEngine(RulesExecutor rulesExecutor, List<Interceptor<ExecutionContext, ExecutionContext>> interceptors) {
+        this(rulesExecutor, interceptors, AsyncExecutors.getDefault());
+    }
+
+    public DefaultRulesEngine(RulesExecutor rulesExecutor, List<Interceptor<ExecutionContext, ExecutionContext>> interceptors,
+                              Executor asyncExecutor) {
         this.rulesExecutor = Objects.requireNonNull(rulesExecutor, "rulesExecutor must not be null");
         this.invocation = new InterceptedInvocation<>(interceptors, rulesExecutor);
+        this.asyncExecutor = Objects.requireNonNull(asyncExecutor, "asyncExecutor must not be null");
+        this.batchInvocation = createBatchInvocation(interceptors);
     }
 
     @Override
     public RuleSession createSession(String uri) {
-        return new DefaultRuleSession(uri, invocation);
+        return new DefaultRuleSession(uri, invocation, asyncExecutor, batchInvocation);
+    }
+
+    @Override
+    public Map<String, Duration> warmUp(Collection<String> uris, int parallelism, int syntheticEvaluations) {
+        WarmUpCapable warmUpCapable = unwrap(WarmUpCapable.class);
+        if (warmUpCapable == null || uris.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, uris.size())));
+        try {
+            Map<String, Future<Duration>> futures = new LinkedHashMap<>();
+            for (String uri : uris) {
+                futures.put(uri, executorService.submit(() -> warmUpCapable.warmUp(uri, syntheticEvaluations)));
+            }
+            Map<String, Duration> compileTimes = new LinkedHashMap<>();
+            for (Map.Entry<String, Future<Duration>> future : futures.entrySet()) {
+                compileTimes.put(future.getKey(), getWarmUpResult(future.getValue()));
+            }
+            return compileTimes;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private Invocation<ExecutionContext, ExecutionContext> createBatchInvocation(List<Interceptor<ExecutionContext, ExecutionContext>> interceptors) {
+        BatchExecutionCapable batchExecutionCapable = unwrap(BatchExecutionCapable.class);
+        if (batchExecutionCapable == null || !interceptors.stream().allMatch(i -> i instanceof InputIndependentInterceptor)) {
+            return null;
+        }
+        return new InterceptedInvocation<>(interceptors, context -> {
+            context.put(DefaultContextKey.BATCH_RESULTS, batchExecutionCapable.executeBatch(context, context.get(DefaultContextKey.BATCH_INPUTS)));
+            return context;
+        });
+    }
+
+    private static Duration getWarmUpResult(Future<Duration> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Warm-up interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
     }
 
     @Override
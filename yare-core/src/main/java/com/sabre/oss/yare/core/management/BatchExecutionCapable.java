@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.management;
+
+import com.sabre.oss.yare.core.ExecutionContext;
+import com.sabre.oss.yare.core.ExecutionInput;
+
+import java.util.List;
+
+/**
+ * {@link BatchExecutionCapable} rules executor evaluates all inputs of a single
+ * {@link com.sabre.oss.yare.core.RuleSession#executeBatch(java.util.List)} call at once, so work shared by the inputs
+ * (such as resolving rules or grouping facts) is done once per batch instead of once per input.
+ * <p>
+ * Batch is passed through the execution pipeline as a single invocation, which is possible only when all interceptors
+ * are {@link com.sabre.oss.yare.core.interceptor.InputIndependentInterceptor}s. Otherwise inputs are executed one by one.
+ */
+public interface BatchExecutionCapable {
+
+    /**
+     * Executes rules against each of provided {@code inputs}.
+     *
+     * @param context execution context identifying rules execution set, without {@link com.sabre.oss.yare.core.DefaultContextKey#RESULT}
+     *                and {@link com.sabre.oss.yare.core.DefaultContextKey#FACTS}
+     * @param inputs  results and facts to evaluate
+     * @return results, one per input and in the order of {@code inputs}
+     */
+    List<Object> executeBatch(ExecutionContext context, List<ExecutionInput<?>> inputs);
+}
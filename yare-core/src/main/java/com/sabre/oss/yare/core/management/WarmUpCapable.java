@@ -0,0 +1,43 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.management;
+
+import java.time.Duration;
+
+/**
+ * {@link WarmUpCapable} implementation should be able to prepare rules execution set ahead of first execution.
+ */
+public interface WarmUpCapable {
+
+    /**
+     * Loads and compiles rules execution set identified by {@code uri}, optionally evaluating its rules'
+     * predicates against synthetic facts to let JIT compile hot paths. Actions are never executed during warm-up.
+     *
+     * @param uri                  rules execution set uri
+     * @param syntheticEvaluations number of synthetic evaluations (0 to only compile rules)
+     * @return time spent on loading and compiling rules
+     */
+    Duration warmUp(String uri, int syntheticEvaluations);
+}
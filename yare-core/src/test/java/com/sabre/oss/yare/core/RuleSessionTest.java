@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RuleSessionTest {
+
+    @Test
+    void shouldExecuteWithinTimeoutByDefault() {
+        // given
+        RuleSession session = new CollectingRuleSession();
+
+        // when
+        List<Object> result = session.execute(new ArrayList<>(), Collections.singletonList("fact"), Duration.ofSeconds(10));
+
+        // then
+        assertThat(result).containsExactly("fact");
+    }
+
+    @Test
+    void shouldExecuteWithTimeoutBeyondNanosecondRangeByDefault() {
+        // given
+        RuleSession session = new CollectingRuleSession();
+
+        // when
+        List<Object> result = session.execute(new ArrayList<>(), Collections.singletonList("fact"), ChronoUnit.FOREVER.getDuration());
+
+        // then
+        assertThat(result).containsExactly("fact");
+    }
+
+    @Test
+    void shouldExposePartialResultWhenTimeoutElapsed() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        RuleSession session = new BlockingRuleSession(release);
+        List<Object> result = new ArrayList<>();
+
+        // when / then
+        try {
+            assertThatThrownBy(() -> session.execute(result, Arrays.asList("first", "second"), Duration.ofMillis(50)))
+                    .isInstanceOfSatisfying(ExecutionTimeoutException.class,
+                            e -> assertThat(e.getPartialResult()).isSameAs(result));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shouldPropagateExecutionFailureWhenExecutingWithTimeout() {
+        // given
+        RuleSession session = new FailingRuleSession();
+
+        // when / then
+        assertThatThrownBy(() -> session.execute(new ArrayList<>(), Collections.emptyList(), Duration.ofSeconds(10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("failure");
+    }
+
+    @Test
+    void shouldExecuteAsynchronouslyByDefault() {
+        // given
+        RuleSession session = new CollectingRuleSession();
+
+        // when
+        List<Object> result = session.executeAsync(new ArrayList<>(), Collections.singletonList("fact")).join();
+
+        // then
+        assertThat(result).containsExactly("fact");
+    }
+
+    @Test
+    void shouldExecuteBatchInputsOneByOneByDefault() {
+        // given
+        RuleSession session = new CollectingRuleSession();
+
+        // when
+        List<List<Object>> results = session.executeBatch(Arrays.asList(
+                ExecutionInput.of(new ArrayList<>(), Collections.singletonList("first")),
+                ExecutionInput.of(new ArrayList<>(), Arrays.asList("second", "third"))));
+
+        // then
+        assertThat(results).containsExactly(
+                Collections.singletonList("first"),
+                Arrays.asList("second", "third"));
+    }
+
+    private static class CollectingRuleSession implements RuleSession {
+
+        @Override
+        public String getUri() {
+            return "uri";
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T execute(T result, Collection<?> facts) {
+            ((List<Object>) result).addAll(facts);
+            return result;
+        }
+    }
+
+    private static final class BlockingRuleSession extends CollectingRuleSession {
+        private final CountDownLatch release;
+
+        private BlockingRuleSession(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public <T> T execute(T result, Collection<?> facts) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.execute(result, facts);
+        }
+    }
+
+    private static class FailingRuleSession extends CollectingRuleSession {
+
+        @Override
+        public <T> T execute(T result, Collection<?> facts) {
+            throw new IllegalArgumentException("failure");
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.core.internal;
+
+import com.sabre.oss.yare.core.DefaultContextKey;
+import com.sabre.oss.yare.core.ExecutionContext;
+import com.sabre.oss.yare.core.ExecutionInput;
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.invocation.Invocation;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DefaultRuleSessionTest {
+    private static final Executor SAME_THREAD = Runnable::run;
+
+    @Test
+    void shouldExecuteInputsOneByOneWithoutBatchInvocation() {
+        // given
+        List<ExecutionContext> invocations = new ArrayList<>();
+        RuleSession session = new DefaultRuleSession("uri", recording(invocations), SAME_THREAD, null);
+
+        // when
+        List<String> results = session.executeBatch(Arrays.asList(
+                ExecutionInput.of("first", Collections.singletonList(1)),
+                ExecutionInput.of("second", Collections.singletonList(2))));
+
+        // then
+        assertThat(results).containsExactly("first", "second");
+        assertThat(invocations).hasSize(2);
+        assertThat(invocations).noneMatch(context -> context.contains(DefaultContextKey.BATCH_INPUTS));
+        assertThat(invocations.get(1).get(DefaultContextKey.FACTS)).containsExactly(2);
+    }
+
+    @Test
+    void shouldPassWholeBatchToBatchInvocation() {
+        // given
+        List<ExecutionContext> invocations = new ArrayList<>();
+        List<ExecutionContext> batchInvocations = new ArrayList<>();
+        RuleSession session = new DefaultRuleSession("uri", recording(invocations), SAME_THREAD, context -> {
+            batchInvocations.add(context);
+            context.put(DefaultContextKey.BATCH_RESULTS, Arrays.asList("first-done", "second-done"));
+            return context;
+        });
+
+        // when
+        List<String> results = session.executeBatch(Arrays.asList(
+                ExecutionInput.of("first", Collections.singletonList(1)),
+                ExecutionInput.of("second", Collections.singletonList(2))));
+
+        // then
+        assertThat(results).containsExactly("first-done", "second-done");
+        assertThat(invocations).isEmpty();
+        assertThat(batchInvocations).hasSize(1);
+        ExecutionContext batchContext = batchInvocations.get(0);
+        assertThat(batchContext.get(DefaultContextKey.RULE_EXECUTION_SET_URI)).isEqualTo("uri");
+        assertThat(batchContext.contains(DefaultContextKey.RESULT)).isFalse();
+        List<ExecutionInput<?>> batchInputs = batchContext.get(DefaultContextKey.BATCH_INPUTS);
+        assertThat(batchInputs).hasSize(2);
+        assertThat(batchInputs.get(1).getResult()).isEqualTo("second");
+    }
+
+    @Test
+    void shouldSetDeadlineForBoundedTimeout() {
+        // given
+        List<ExecutionContext> invocations = new ArrayList<>();
+        RuleSession session = new DefaultRuleSession("uri", recording(invocations), SAME_THREAD, null);
+
+        // when
+        String result = session.execute("result", Collections.singletonList(1), Duration.ofSeconds(10));
+
+        // then
+        assertThat(result).isEqualTo("result");
+        assertThat(invocations).hasSize(1);
+        assertThat(invocations.get(0).contains(DefaultContextKey.EXECUTION_DEADLINE)).isTrue();
+    }
+
+    @Test
+    void shouldTreatTimeoutBeyondNanosecondRangeAsUnbounded() {
+        // given
+        List<ExecutionContext> invocations = new ArrayList<>();
+        RuleSession session = new DefaultRuleSession("uri", recording(invocations), SAME_THREAD, null);
+
+        // when
+        String forever = session.execute("forever", Collections.singletonList(1), ChronoUnit.FOREVER.getDuration());
+        String maxDays = session.execute("maxDays", Collections.singletonList(2), Duration.ofDays(Long.MAX_VALUE / 86400));
+
+        // then
+        assertThat(forever).isEqualTo("forever");
+        assertThat(maxDays).isEqualTo("maxDays");
+        assertThat(invocations).hasSize(2);
+        assertThat(invocations).noneMatch(context -> context.contains(DefaultContextKey.EXECUTION_DEADLINE));
+    }
+
+    private static Invocation<ExecutionContext, ExecutionContext> recording(List<ExecutionContext> invocations) {
+        return context -> {
+            invocations.add(context);
+            return context;
+        };
+    }
+}
@@ -24,8 +24,6 @@
 
 package com.sabre.oss.yare.engine;
 
-import com.sabre.oss.yare.core.call.Argument;
-import com.sabre.oss.yare.core.call.ArgumentValueResolver;
 import com.sabre.oss.yare.core.call.ProcessingContext;
 import com.sabre.oss.yare.core.call.ProcessingInvocation;
 
@@ -40,8 +38,8 @@ class CachingDelegatingProcessingInvocation<R> extends ProcessingInvocation<R> {
     private final ProcessingInvocation<R> delegate;
     private final CallInvocationResultCache invocationCache;
 
-    CachingDelegatingProcessingInvocation(Argument.Invocation invocation, ArgumentValueResolver argumentValueResolver, ProcessingInvocation<R> delegate, CallInvocationResultCache invocationCache) {
-        super(invocation, argumentValueResolver);
+    CachingDelegatingProcessingInvocation(ProcessingInvocation<R> delegate, CallInvocationResultCache invocationCache) {
+        super(delegate);
         this.delegate = Objects.requireNonNull(delegate);
         this.invocationCache = Objects.requireNonNull(invocationCache);
     }
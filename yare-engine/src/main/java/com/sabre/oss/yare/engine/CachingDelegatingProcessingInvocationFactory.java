@@ -32,16 +32,25 @@ import java.util.Objects;
 import java.util.function.Supplier;
 
 public class CachingDelegatingProcessingInvocationFactory<R> implements ProcessingInvocationFactory<R> {
-    private final Supplier<ArgumentValueResolver> argumentValueResolverSupplier;
     private final ProcessingInvocationFactory<R> delegate;
     private final CallInvocationResultCache invocationCache;
     private final ExecutorConfiguration configuration;
 
+    /**
+     * @deprecated caching invocations reuse arguments compiled by the invocations they wrap, so argument value resolver
+     * is no longer needed. Use {@link #CachingDelegatingProcessingInvocationFactory(ProcessingInvocationFactory, CallInvocationResultCache, ExecutorConfiguration)} instead.
+     */
+    @Deprecated
     public CachingDelegatingProcessingInvocationFactory(ProcessingInvocationFactory<R> delegate,
                                                         Supplier<ArgumentValueResolver> argumentValueResolverSupplier,
                                                         CallInvocationResultCache invocationCache,
                                                         ExecutorConfiguration configuration) {
-        this.argumentValueResolverSupplier = Objects.requireNonNull(argumentValueResolverSupplier);
+        this(delegate, invocationCache, configuration);
+    }
+
+    public CachingDelegatingProcessingInvocationFactory(ProcessingInvocationFactory<R> delegate,
+                                                        CallInvocationResultCache invocationCache,
+                                                        ExecutorConfiguration configuration) {
         this.delegate = Objects.requireNonNull(delegate);
         this.invocationCache = Objects.requireNonNull(invocationCache);
         this.configuration = Objects.requireNonNull(configuration);
@@ -53,8 +62,14 @@ public class CachingDelegatingProcessingInvocationFactory<R> implements Processi
         if (processingInvocation == null) {
             return null;
         }
-        return configuration.isFunctionCacheable(invocation.getCall()) && processingInvocation instanceof ProcessingInvocation
-                ? new CachingDelegatingProcessingInvocation<>(invocation, argumentValueResolverSupplier.get(), (ProcessingInvocation<R>) processingInvocation, invocationCache)
+        if (!(processingInvocation instanceof ProcessingInvocation)) {
+            return processingInvocation;
+        }
+        if (configuration.isFunctionRequestScoped(invocation.getCall())) {
+            return new RequestScopedProcessingInvocation<>((ProcessingInvocation<R>) processingInvocation);
+        }
+        return configuration.isFunctionCacheable(invocation.getCall())
+                ? new CachingDelegatingProcessingInvocation<>((ProcessingInvocation<R>) processingInvocation, invocationCache)
                 : processingInvocation;
     }
 }
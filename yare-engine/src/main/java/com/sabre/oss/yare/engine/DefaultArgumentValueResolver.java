@@ -27,9 +27,12 @@ package com.sabre.oss.yare.engine;
 import com.sabre.oss.yare.core.call.*;
 import com.sabre.oss.yare.core.invocation.Invocation;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
-import com.sabre.oss.yare.engine.executor.runtime.value.FieldReferringClassFactory;
+import com.sabre.oss.yare.engine.executor.runtime.value.PropertyAccessorFactory;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
 import org.apache.commons.lang3.reflect.TypeUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
@@ -37,9 +40,15 @@ import static java.util.Objects.requireNonNull;
 public class DefaultArgumentValueResolver implements ArgumentValueResolver {
 
     private final ProcessingInvocationFactory<Object> processingInvocationFactory;
+    private final PropertyAccessorFactory propertyAccessorFactory;
 
     public DefaultArgumentValueResolver(ProcessingInvocationFactory<Object> processingInvocationFactory) {
+        this(processingInvocationFactory, new PropertyAccessorFactory());
+    }
+
+    public DefaultArgumentValueResolver(ProcessingInvocationFactory<Object> processingInvocationFactory, PropertyAccessorFactory propertyAccessorFactory) {
         this.processingInvocationFactory = requireNonNull(processingInvocationFactory);
+        this.propertyAccessorFactory = requireNonNull(propertyAccessorFactory);
     }
 
     @Override
@@ -69,7 +78,7 @@ public class DefaultArgumentValueResolver implements ArgumentValueResolver {
             referenceType = resolvedValue != null && Object.class.equals(referenceType)
                     ? resolvedValue.getClass()
                     : referenceType;
-            return FieldReferringClassFactory.create(referenceType, identifier, path).get((PredicateContext) variableResolver);
+            return propertyAccessorFactory.create(referenceType, identifier, path).get((PredicateContext) variableResolver);
         }
         if (argument instanceof Argument.Invocation) {
             if (!(variableResolver instanceof ProcessingContext)) {
@@ -82,4 +91,97 @@ public class DefaultArgumentValueResolver implements ArgumentValueResolver {
 
         throw new IllegalArgumentException(String.format("Unsupported argument type %s", argument.getClass()));
     }
+
+    @Override
+    public CompiledArgument compile(Argument argument) {
+        if (argument instanceof Argument.Value) {
+            Object value = ((Argument.Value) argument).getValue();
+            return variableResolver -> value;
+        }
+        if (argument instanceof Argument.Values) {
+            CompiledArgument[] values = ((Argument.Values) argument).getArguments().stream()
+                    .map(this::compile)
+                    .toArray(CompiledArgument[]::new);
+            return variableResolver -> {
+                List<Object> resolved = new ArrayList<>(values.length);
+                for (CompiledArgument value : values) {
+                    resolved.add(value.resolve(variableResolver));
+                }
+                return resolved;
+            };
+        }
+        if (argument instanceof Argument.Reference) {
+            Argument.Reference reference = (Argument.Reference) argument;
+            String path = reference.getReference();
+            int dotIndex = path.indexOf(".");
+            if (dotIndex == -1) {
+                return variableResolver -> toPredicateContext(variableResolver).resolve(path);
+            }
+            return new FieldReference(propertyAccessorFactory, path.substring(0, dotIndex), path.substring(dotIndex + 1),
+                    TypeUtils.getRawType(reference.getReferenceType(), null));
+        }
+        if (argument instanceof Argument.Invocation) {
+            Invocation<ProcessingContext, Object> invocation = processingInvocationFactory.create((Argument.Invocation) argument);
+            return variableResolver -> {
+                if (!(variableResolver instanceof ProcessingContext)) {
+                    throw new IllegalArgumentException("Expected ProcessingContext as VariableResolver");
+                }
+                return invocation.proceed((ProcessingContext) variableResolver);
+            };
+        }
+        return variableResolver -> resolve(variableResolver, argument);
+    }
+
+    private static PredicateContext toPredicateContext(VariableResolver variableResolver) {
+        if (!(variableResolver instanceof PredicateContext)) {
+            throw new IllegalArgumentException("Expected PredicateContext as VariableResolver");
+        }
+        return (PredicateContext) variableResolver;
+    }
+
+    /**
+     * Reads field path of referenced variable using {@link ValueProvider} created by {@link PropertyAccessorFactory}. When reference type is known
+     * the provider is bound once, otherwise it is bound to the runtime type of the variable and rebound only when
+     * that type changes.
+     */
+    private static final class FieldReference implements CompiledArgument {
+        private final PropertyAccessorFactory propertyAccessorFactory;
+        private final String identifier;
+        private final String path;
+        private final Class<?> referenceType;
+        private volatile BoundProvider boundProvider;
+
+        private FieldReference(PropertyAccessorFactory propertyAccessorFactory, String identifier, String path, Class<?> referenceType) {
+            this.propertyAccessorFactory = propertyAccessorFactory;
+            this.identifier = identifier;
+            this.path = path;
+            this.referenceType = referenceType;
+        }
+
+        @Override
+        public Object resolve(VariableResolver variableResolver) {
+            PredicateContext context = toPredicateContext(variableResolver);
+            Class<?> type = referenceType;
+            if (type == null || Object.class.equals(type)) {
+                Object resolvedValue = context.resolve(identifier);
+                type = resolvedValue != null ? resolvedValue.getClass() : Object.class;
+            }
+            BoundProvider bound = boundProvider;
+            if (bound == null || bound.type != type) {
+                bound = new BoundProvider(type, propertyAccessorFactory.create(type, identifier, path));
+                boundProvider = bound;
+            }
+            return bound.provider.get(context);
+        }
+    }
+
+    private static final class BoundProvider {
+        private final Class<?> type;
+        private final ValueProvider provider;
+
+        private BoundProvider(Class<?> type, ValueProvider provider) {
+            this.type = type;
+            this.provider = provider;
+        }
+    }
 }
@@ -24,40 +24,101 @@
 
 package com.sabre.oss.yare.engine;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.sabre.oss.yare.engine.executor.ExecutorConfiguration;
 
-import java.util.Arrays;
-import java.util.Optional;
+import java.time.Duration;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+/**
+ * {@link CallInvocationResultCache} keeping separate, bounded cache per function.
+ * <p>
+ * Size limits, expiration and key extraction are configured per function in {@link ExecutorConfiguration}.
+ * Results are always computed by the {@code compute} passed by the current call, so cache misses never run
+ * with the context of another call.
+ */
 public class DefaultCallInvocationResultCache implements CallInvocationResultCache {
-    private final ConcurrentMap<String, LoadingCache<ObjectsWrapper, Optional<Object>>> cachesPerFunction = new ConcurrentHashMap<>();
+    private static final FunctionCacheKeyExtractor DEFAULT_KEY_EXTRACTOR = ObjectsWrapper::new;
+
+    private final ConcurrentMap<String, FunctionCache> cachesPerFunction = new ConcurrentHashMap<>();
     private final ExecutorConfiguration configuration;
 
     public DefaultCallInvocationResultCache(ExecutorConfiguration configuration) {
         this.configuration = configuration;
     }
 
+    @SuppressWarnings("unchecked")
     public <T> T get(String callName, Object[] args, Function<Object[], T> compute) {
-        LoadingCache<ObjectsWrapper, Optional<Object>> functionResultCache = cachesPerFunction.get(callName);
-        if (functionResultCache == null) {
-            functionResultCache = CacheBuilder.<ObjectsWrapper, Optional<Object>>newBuilder()
-                    .expireAfterAccess(configuration.getFunctionCacheExpirationTime(callName).toMillis(), TimeUnit.MILLISECONDS)
-                    .build(new CacheLoader<ObjectsWrapper, Optional<Object>>() {
-                        @Override
-                        public Optional<Object> load(ObjectsWrapper arguments) {
-                            return Optional.ofNullable((compute.apply(arguments.getObjects())));
-                        }
-                    });
-            cachesPerFunction.putIfAbsent(callName, functionResultCache);
+        FunctionCache functionCache = cachesPerFunction.computeIfAbsent(callName, this::createCache);
+        Object key = functionCache.keyExtractor.extractKey(args);
+        try {
+            return (T) functionCache.cache.get(key, () -> Optional.ofNullable((Object) compute.apply(args))).orElse(null);
+        } catch (ExecutionException e) {
+            throw new UncheckedExecutionException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns statistics of results cache of given function.
+     *
+     * @param callName name of the function
+     * @return statistics, empty when function was not called yet
+     */
+    public Optional<FunctionCacheStatistics> getStatistics(String callName) {
+        FunctionCache functionCache = cachesPerFunction.get(callName);
+        return functionCache != null ? Optional.of(toStatistics(functionCache.cache)) : Optional.empty();
+    }
+
+    /**
+     * Returns statistics of results caches of all called functions.
+     *
+     * @return statistics per function name
+     */
+    public Map<String, FunctionCacheStatistics> getStatistics() {
+        Map<String, FunctionCacheStatistics> statistics = new TreeMap<>();
+        cachesPerFunction.forEach((callName, functionCache) -> statistics.put(callName, toStatistics(functionCache.cache)));
+        return statistics;
+    }
+
+    private FunctionCache createCache(String callName) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                .expireAfterAccess(configuration.getFunctionCacheExpirationTime(callName).toMillis(), TimeUnit.MILLISECONDS)
+                .recordStats();
+        long maximumWeight = configuration.getFunctionCacheMaximumWeight(callName);
+        long maximumSize = configuration.getFunctionCacheMaximumSize(callName);
+        if (maximumWeight >= 0) {
+            FunctionCacheWeigher weigher = configuration.getFunctionCacheWeigher(callName);
+            builder.maximumWeight(maximumWeight)
+                    .weigher((Object key, Object value) -> weigher.weigh(key, ((Optional<?>) value).orElse(null)));
+        } else if (maximumSize >= 0) {
+            builder.maximumSize(maximumSize);
+        }
+        FunctionCacheKeyExtractor keyExtractor = configuration.getFunctionCacheKeyExtractor(callName);
+        return new FunctionCache(builder.<Object, Optional<Object>>build(), keyExtractor != null ? keyExtractor : DEFAULT_KEY_EXTRACTOR);
+    }
+
+    private static FunctionCacheStatistics toStatistics(Cache<Object, Optional<Object>> cache) {
+        CacheStats stats = cache.stats();
+        return new FunctionCacheStatistics(stats.hitCount(), stats.missCount(), Duration.ofNanos(stats.totalLoadTime()),
+                stats.evictionCount(), cache.size());
+    }
+
+    private static final class FunctionCache {
+        private final Cache<Object, Optional<Object>> cache;
+        private final FunctionCacheKeyExtractor keyExtractor;
+
+        private FunctionCache(Cache<Object, Optional<Object>> cache, FunctionCacheKeyExtractor keyExtractor) {
+            this.cache = cache;
+            this.keyExtractor = keyExtractor;
         }
-        return (T) functionResultCache.getUnchecked(new ObjectsWrapper(args)).orElse(null);
     }
 
     private static final class ObjectsWrapper {
@@ -67,10 +128,6 @@ public class DefaultCallInvocationResultCache implements CallInvocationResultCac
             this.objects = objects;
         }
 
-        private Object[] getObjects() {
-            return objects;
-        }
-
         @Override
         public boolean equals(Object o) {
             if (this == o) {
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of statistics of a single function's results cache.
+ */
+public final class FunctionCacheStatistics {
+    private final long hitCount;
+    private final long missCount;
+    private final Duration totalLoadTime;
+    private final long evictionCount;
+    private final long size;
+
+    public FunctionCacheStatistics(long hitCount, long missCount, Duration totalLoadTime, long evictionCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.totalLoadTime = totalLoadTime;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * @return number of calls answered from cache
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return number of calls which had to invoke the function
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return total time spent invoking the function on cache misses
+     */
+    public Duration getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    /**
+     * @return number of entries removed because of size, weight or expiration limits
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return approximate number of cached entries
+     */
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "FunctionCacheStatistics{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", totalLoadTime=" + totalLoadTime +
+                ", evictionCount=" + evictionCount +
+                ", size=" + size +
+                '}';
+    }
+}
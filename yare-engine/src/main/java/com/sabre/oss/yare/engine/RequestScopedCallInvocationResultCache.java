@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * {@link CallInvocationResultCache} memoizing results of request-pure functions for the duration of a single execution.
+ * <p>
+ * A new instance is created per execution and dropped when the execution completes, so it is neither bounded
+ * nor expired. Each distinct call name and arguments pair is computed at most once, also when rules are evaluated
+ * in parallel; concurrent callers of the same pair wait for the first computation.
+ */
+public class RequestScopedCallInvocationResultCache implements CallInvocationResultCache {
+    private final ConcurrentMap<CallKey, Memo> memos = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(String callName, Object[] args, Function<Object[], T> compute) {
+        Memo memo = memos.computeIfAbsent(new CallKey(callName, args), key -> new Memo());
+        return (T) memo.get(args, compute);
+    }
+
+    private static final class Memo {
+        private volatile boolean computed;
+        private Object value;
+
+        private Object get(Object[] args, Function<Object[], ?> compute) {
+            if (!computed) {
+                synchronized (this) {
+                    if (!computed) {
+                        // failed computation is not memoized, so next call retries it
+                        value = compute.apply(args);
+                        computed = true;
+                    }
+                }
+            }
+            return value;
+        }
+    }
+
+    private static final class CallKey {
+        private final String callName;
+        private final Object[] args;
+        private final int hash;
+
+        private CallKey(String callName, Object[] args) {
+            this.callName = callName;
+            this.args = args;
+            this.hash = 31 * callName.hashCode() + Arrays.hashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CallKey that = (CallKey) o;
+            return hash == that.hash && Objects.equals(callName, that.callName) && Arrays.equals(args, that.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
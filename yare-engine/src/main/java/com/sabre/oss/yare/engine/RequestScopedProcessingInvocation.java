@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine;
+
+import com.sabre.oss.yare.core.call.ProcessingContext;
+import com.sabre.oss.yare.core.call.ProcessingInvocation;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+
+import java.util.Objects;
+
+/**
+ * {@code RequestScopedProcessingInvocation} memoizes results of the underlying {@link ProcessingInvocation} delegate
+ * in the request cache of the {@link PredicateContext} it is called with.
+ * <p>
+ * When called with a context without request cache, the delegate is called directly.
+ */
+class RequestScopedProcessingInvocation<R> extends ProcessingInvocation<R> {
+    private final ProcessingInvocation<R> delegate;
+
+    RequestScopedProcessingInvocation(ProcessingInvocation<R> delegate) {
+        super(delegate);
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public R call(ProcessingContext ctx, Object[] args) {
+        CallInvocationResultCache requestCache = ctx instanceof PredicateContext ? ((PredicateContext) ctx).getRequestCache() : null;
+        return requestCache != null
+                ? requestCache.get(invocation.getCall(), args, objects -> delegate.call(ctx, objects))
+                : delegate.call(ctx, args);
+    }
+}
@@ -61,6 +61,8 @@ public class DefaultPredicateFactory implements PredicateFactory {
                 new MatchString.Factory(),
 
                 new ContainsAll(),
+                new ContainsAnyPath.Factory(),
+                new ContainsAnyConstantSet.Factory(),
                 new ContainsAny.Factory()
         )));
     }
@@ -25,15 +25,21 @@
 package com.sabre.oss.yare.engine.executor;
 
 import com.google.common.base.Stopwatch;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.sabre.oss.yare.core.*;
 import com.sabre.oss.yare.core.call.ProcessingContext;
 import com.sabre.oss.yare.core.invocation.Invocation;
 import com.sabre.oss.yare.core.management.EvictableCache;
+import com.sabre.oss.yare.core.management.BatchExecutionCapable;
+import com.sabre.oss.yare.core.management.WarmUpCapable;
 import com.sabre.oss.yare.core.model.Attribute;
 import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.engine.CallInvocationResultCache;
+import com.sabre.oss.yare.engine.RequestScopedCallInvocationResultCache;
+import com.sabre.oss.yare.engine.executor.runtime.compiler.RuleSetCompiler;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTuple;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTupleLayout;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.tuple.Pair;
@@ -41,117 +47,295 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
-public class DefaultRulesExecutor implements RulesExecutor, Wrapper, EvictableCache {
+public class DefaultRulesExecutor implements RulesExecutor, Wrapper, EvictableCache, WarmUpCapable, BatchExecutionCapable {
     private static final Logger log = LoggerFactory.getLogger(DefaultRulesExecutor.class);
+    private static final int MIN_RULES_PER_TASK = 64;
+    private static final long RULES_RELOAD_KEEP_ALIVE_SECONDS = 60L;
 
     private final Map<Class<?>, String> typeNames = new ConcurrentHashMap<>();
-    private final LoadingCache<String, RuntimeRules> runtimeRulesCache;
+    private final ConcurrentMap<String, RuntimeRulesHolder> runtimeRulesHolders = new ConcurrentHashMap<>();
+    private final RulesRepository rulesRepository;
+    private final RuntimeRulesBuilder runtimeRulesBuilder;
     private final ExecutorConfiguration configuration;
-    private final EngineController engineController;
-    private final EngineListener engineListener;
+    private final CallInvocationResultCache invocationCache;
+    private final EngineListener sharedEngineListener;
+    private final Executor rulesReloadExecutor;
 
+    public DefaultRulesExecutor(RulesRepository rulesRepository, RuntimeRulesBuilder runtimeRulesBuilder,
+                                ExecutorConfiguration configuration) {
+        this(rulesRepository, runtimeRulesBuilder, configuration, null);
+    }
+
+    /**
+     * Creates executor, which executions are additionally terminated once session is closed with {@code engineController}
+     * notifying {@code engineListener}. Such termination stops all subsequent executions, as before engine controller
+     * and listener were created per execution.
+     *
+     * @deprecated engine controller and listener are created per execution, so that termination of one execution
+     * does not affect others. Use {@link #DefaultRulesExecutor(RulesRepository, RuntimeRulesBuilder, ExecutorConfiguration)}
+     * and {@link com.sabre.oss.yare.core.EngineController#closeSession()} available to actions instead.
+     */
+    @Deprecated
     public DefaultRulesExecutor(RulesRepository rulesRepository, RuntimeRulesBuilder runtimeRulesBuilder,
                                 ExecutorConfiguration configuration, EngineController engineController, EngineListener engineListener) {
+        this(rulesRepository, runtimeRulesBuilder, configuration, (CallInvocationResultCache) null, engineListener);
+    }
+
+    public DefaultRulesExecutor(RulesRepository rulesRepository, RuntimeRulesBuilder runtimeRulesBuilder,
+                                ExecutorConfiguration configuration, CallInvocationResultCache invocationCache) {
+        this(rulesRepository, runtimeRulesBuilder, configuration, invocationCache, null);
+    }
+
+    private DefaultRulesExecutor(RulesRepository rulesRepository, RuntimeRulesBuilder runtimeRulesBuilder,
+                                 ExecutorConfiguration configuration, CallInvocationResultCache invocationCache, EngineListener sharedEngineListener) {
         this.configuration = configuration;
-        this.runtimeRulesCache = buildCachingContext(rulesRepository, runtimeRulesBuilder);
-        this.engineController = engineController;
-        this.engineListener = engineListener;
+        this.invocationCache = invocationCache;
+        this.rulesRepository = rulesRepository;
+        this.runtimeRulesBuilder = runtimeRulesBuilder;
+        this.sharedEngineListener = sharedEngineListener;
+        this.rulesReloadExecutor = configuration.getRulesReloadExecutor() != null
+                ? configuration.getRulesReloadExecutor()
+                : createRulesReloadExecutor();
     }
 
     @Override
     public ExecutionContext proceed(ExecutionContext context) {
+        RuntimeRules runtimeRules = resolveRuntimeRules(context);
+        Long deadline = context.get(DefaultContextKey.EXECUTION_DEADLINE, null);
+
         Object result = context.get(DefaultContextKey.RESULT);
         Collection<?> inFacts = context.get(DefaultContextKey.FACTS);
-
-        String uri = context.get(DefaultContextKey.RULE_EXECUTION_SET_URI);
-        AtomicReference<Object> evaluationContextHolder = context.get(DefaultContextKey.RULE_EXECUTION_SET);
-        RuntimeRules runtimeRules = (RuntimeRules) evaluationContextHolder.get();
-        if (runtimeRules == null) {
-            runtimeRules = runtimeRulesCache.getUnchecked(uri);
-            if (!evaluationContextHolder.compareAndSet(null, runtimeRules)) {
-                runtimeRules = (RuntimeRules) evaluationContextHolder.get();
-            }
+        boolean deadlineExceeded = execute(runtimeRules, result, inFacts, new FactTupleIterators(runtimeRules), deadline,
+                configuration.isParallelMode());
+        if (deadlineExceeded) {
+            context.put(DefaultContextKey.PARTIAL_RESULT, Boolean.TRUE);
         }
+        return context;
+    }
 
-        if (runtimeRules == null) {
-            throw new IllegalStateException(String.format("PlainJava RE could not load rules execution set %s", uri));
+    @Override
+    public List<Object> executeBatch(ExecutionContext context, List<ExecutionInput<?>> inputs) {
+        RuntimeRules runtimeRules = resolveRuntimeRules(context);
+        Long deadline = context.get(DefaultContextKey.EXECUTION_DEADLINE, null);
+
+        Object[] results = new Object[inputs.size()];
+        boolean deadlineExceeded = configuration.isParallelMode() && inputs.size() > 1
+                ? executeBatchInParallel(runtimeRules, inputs, results, deadline)
+                : executeBatch(runtimeRules, inputs, 0, inputs.size(), results, deadline);
+        if (deadlineExceeded) {
+            context.put(DefaultContextKey.PARTIAL_RESULT, Boolean.TRUE);
         }
+        return Arrays.asList(results);
+    }
 
-        Map<String, List<Object>> groupedFact = groupFacts(inFacts, runtimeRules.getFactNames());
-        Iterator<Map<String, Object>> iterator = groupedFact.size() == 1
-                ? new SingleTypeFactTupleIterator(groupedFact)
-                : configuration.isCrossProductMode() ? new CrossProductFactTupleIterator(groupedFact) : new SingleInstanceFactTupleIterator(groupedFact);
-
-        if (configuration.isSequentialMode()) {
-            while (iterator.hasNext() && !engineListener.isEvaluationTerminated()) {
-                evaluateSequentially(runtimeRules, result, iterator.next());
-            }
-        } else {
-            while (iterator.hasNext() && !engineListener.isEvaluationTerminated()) {
-                evaluate(runtimeRules, result, iterator.next());
-            }
+    @Override
+    public Duration warmUp(String uri, int syntheticEvaluations) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        RuntimeRules runtimeRules = getRuntimeRulesHolder(uri).get();
+        Duration compileTime = Duration.ofNanos(stopwatch.elapsed(TimeUnit.NANOSECONDS));
+        if (syntheticEvaluations > 0) {
+            evaluateSynthetically(runtimeRules, syntheticEvaluations);
         }
-        return context;
+        log.info("Warmed up rules '{}': compiled in {} ms, {} synthetic evaluations in {} ms", uri, compileTime.toMillis(),
+                syntheticEvaluations, stopwatch.elapsed(TimeUnit.MILLISECONDS) - compileTime.toMillis());
+        return compileTime;
     }
 
     @Override
     public <T> T unwrap(Class<T> expected) {
-        return expected.isAssignableFrom(getClass())
-                ? expected.cast(this)
+        if (expected.isAssignableFrom(getClass())) {
+            return expected.cast(this);
+        }
+        return expected.isInstance(invocationCache)
+                ? expected.cast(invocationCache)
                 : null;
     }
 
     @Override
     public boolean evict(Object key) {
-        runtimeRulesCache.invalidate(key);
+        RuntimeRulesHolder holder = runtimeRulesHolders.remove(key);
+        if (holder != null) {
+            holder.evict();
+        }
         return true;
     }
 
     @Override
     public boolean clear() {
-        runtimeRulesCache.invalidateAll();
+        for (Object key : runtimeRulesHolders.keySet()) {
+            evict(key);
+        }
         return true;
     }
 
-    private Map<String, List<Object>> groupFacts(Collection<?> inFacts, Map<Type, String> factNames) {
-        Map<Class<?>, List<Object>> facts = new HashMap<>();
-        for (Object fact : inFacts) {
-            List<Object> grouped = facts.computeIfAbsent(fact.getClass(), (k) -> new ArrayList<>());
-            grouped.add(fact);
+    private RuntimeRules resolveRuntimeRules(ExecutionContext context) {
+        String uri = context.get(DefaultContextKey.RULE_EXECUTION_SET_URI);
+        AtomicReference<Object> evaluationContextHolder = context.get(DefaultContextKey.RULE_EXECUTION_SET);
+        RuntimeRulesHolder holder = (RuntimeRulesHolder) evaluationContextHolder.get();
+        if (holder == null || holder.isEvicted()) {
+            holder = getRuntimeRulesHolder(uri);
+            evaluationContextHolder.set(holder);
+        }
+
+        RuntimeRules runtimeRules = holder.get();
+        if (runtimeRules == null) {
+            throw new IllegalStateException(String.format("PlainJava RE could not load rules execution set %s", uri));
+        }
+        return runtimeRules;
+    }
+
+    private RuntimeRulesHolder getRuntimeRulesHolder(String uri) {
+        return runtimeRulesHolders.computeIfAbsent(uri, key -> new RuntimeRulesHolder(
+                key, this::loadRuntimeRules, rulesReloadExecutor, configuration.getRulesCacheRefreshTime()));
+    }
+
+    private static Executor createRulesReloadExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, RULES_RELOAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setNameFormat("yare-rules-reload-%d").setDaemon(true).build());
+        // the thread is released when idle, so executors which are no longer used do not keep it
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private void evaluateSynthetically(RuntimeRules runtimeRules, int syntheticEvaluations) {
+        SyntheticFacts syntheticFacts = SyntheticFacts.of(runtimeRules);
+        if (syntheticFacts.isEmpty()) {
+            return;
+        }
+        EngineListener engineListener = new EngineListener();
+        List<RuntimeRules.ExecutableRule> executableRules = runtimeRules.getExecutableRules();
+        for (int evaluation = 0; evaluation < syntheticEvaluations; evaluation++) {
+            FactTuple facts = syntheticFacts.create(evaluation);
+            selectRules(runtimeRules, null, facts, engineListener);
+            PredicateContext context = new PredicateContext(null, null, facts, Collections.emptyMap(), engineListener.getEngineController(),
+                    engineListener.getRequestCache());
+            for (RuntimeRules.ExecutableRule executableRule : executableRules) {
+                // functions would be called with made-up arguments, polluting caches of their results
+                if (executableRule.isCallingFunctions()) {
+                    continue;
+                }
+                context.rebind(executableRule.getRuleId(), executableRule.getAttributes());
+                try {
+                    executableRule.getPredicate().evaluate(context);
+                } catch (RuntimeException e) {
+                    // getters of fact types run against default-constructed instances, which they do not have to support
+                    log.debug("Synthetic evaluation of rule {} failed", executableRule.getRuleId(), e);
+                }
+            }
+        }
+    }
+
+    private boolean executeBatch(RuntimeRules runtimeRules, List<ExecutionInput<?>> inputs, int from, int to,
+                                 Object[] results, Long deadline) {
+        FactTupleIterators iterators = new FactTupleIterators(runtimeRules);
+        boolean deadlineExceeded = false;
+        for (int i = from; i < to; i++) {
+            ExecutionInput<?> input = inputs.get(i);
+            results[i] = input.getResult();
+            deadlineExceeded |= execute(runtimeRules, input.getResult(), input.getFacts(), iterators, deadline, false);
+        }
+        return deadlineExceeded;
+    }
+
+    private boolean executeBatchInParallel(RuntimeRules runtimeRules, List<ExecutionInput<?>> inputs, Object[] results, Long deadline) {
+        int size = inputs.size();
+        int tasks = Math.max(1, Math.min(configuration.getParallelism(), size));
+        int partitionSize = (size + tasks - 1) / tasks;
+        List<CompletableFuture<Boolean>> partitions = new ArrayList<>(tasks - 1);
+        for (int from = partitionSize; from < size; from += partitionSize) {
+            int start = from;
+            int end = Math.min(size, from + partitionSize);
+            partitions.add(CompletableFuture.supplyAsync(
+                    () -> executeBatch(runtimeRules, inputs, start, end, results, deadline), configuration.getParallelExecutor()));
         }
-        Map<String, List<Object>> result = new HashMap<>(facts.size());
-        for (Entry<Class<?>, List<Object>> entry : facts.entrySet()) {
-            result.put(typeNames.computeIfAbsent(entry.getKey(), factNames::get), entry.getValue());
+        // the calling thread executes the first partition instead of waiting idle
+        boolean deadlineExceeded = executeBatch(runtimeRules, inputs, 0, Math.min(size, partitionSize), results, deadline);
+        awaitPartitions(partitions);
+        for (CompletableFuture<Boolean> partition : partitions) {
+            deadlineExceeded |= partition.join();
         }
-        return result;
+        return deadlineExceeded;
     }
 
-    private void evaluateSequentially(RuntimeRules runtimeRules, Object result, Map<String, Object> factMap) {
+    private boolean execute(RuntimeRules runtimeRules, Object result, Collection<?> inFacts, FactTupleIterators iterators, Long deadline,
+                            boolean parallelRules) {
+        EngineListener engineListener = new EngineListener(deadline,
+                configuration.hasRequestScopedFunctions() ? new RequestScopedCallInvocationResultCache() : null, sharedEngineListener);
+        Iterator<FactTuple> iterator = iterators.iterate(inFacts, result, engineListener);
+
+        if (configuration.isSequentialMode()) {
+            while (iterator.hasNext() && !engineListener.isEvaluationTerminated()) {
+                evaluateSequentially(runtimeRules, result, iterator.next(), engineListener);
+            }
+        } else if (parallelRules) {
+            while (iterator.hasNext() && !engineListener.isEvaluationTerminated()) {
+                FactTuple facts = iterator.next();
+                evaluateInParallel(selectRules(runtimeRules, result, facts, engineListener), result, facts, engineListener);
+            }
+        } else {
+            while (iterator.hasNext() && !engineListener.isEvaluationTerminated()) {
+                FactTuple facts = iterator.next();
+                evaluate(selectRules(runtimeRules, result, facts, engineListener), result, facts, engineListener);
+            }
+        }
+        return engineListener.isDeadlineExceeded();
+    }
+
+    private void evaluateSequentially(RuntimeRules runtimeRules, Object result, FactTuple facts, EngineListener engineListener) {
         List<RuntimeRules.ExecutableRule> executableRules = runtimeRules.getExecutableRules();
+        PredicateContext context = new PredicateContext(null, result, facts, Collections.emptyMap(), engineListener.getEngineController(),
+                engineListener.getRequestCache());
         for (int i = 0; i < executableRules.size() && !engineListener.isEvaluationTerminated(); ++i) {
             RuntimeRules.ExecutableRule executableRule = executableRules.get(i);
-            PredicateContext context = new PredicateContext(executableRule.getRuleId(), result, factMap, executableRule.getAttributes(), engineController);
+            context.rebind(executableRule.getRuleId(), executableRule.getAttributes());
             Boolean evaluationResult = executableRule.getPredicate().evaluate(context);
             if (Boolean.TRUE.equals(evaluationResult)) {
-                executableRule.getConsequence().proceed(context);
+                executableRule.getConsequence().proceed(context.snapshot());
+                context.invalidateProjections();
             }
         }
     }
 
-    private void evaluate(RuntimeRules runtimeRules, Object result, Map<String, Object> factMap) {
-        List<Pair<Invocation<ProcessingContext, Void>, PredicateContext>> consequences = new LinkedList<>();
-        for (RuntimeRules.ExecutableRule executableRule : runtimeRules.getExecutableRules()) {
-            PredicateContext context = new PredicateContext(executableRule.getRuleId(), result, factMap, executableRule.getAttributes(), engineController);
+    private List<RuntimeRules.ExecutableRule> selectRules(RuntimeRules runtimeRules, Object result, FactTuple facts,
+                                                          EngineListener engineListener) {
+        List<RuntimeRules.ExecutableRule> executableRules = runtimeRules.getExecutableRules();
+        RuleIndex ruleIndex = runtimeRules.getRuleIndex();
+        if (!configuration.isIndexedMode() || ruleIndex == null || ruleIndex.getIndexedPathsCount() == 0) {
+            return executableRules;
+        }
+        int[] positions = ruleIndex.select(new PredicateContext(null, result, facts, Collections.emptyMap(), engineListener.getEngineController(),
+                engineListener.getRequestCache()));
+        List<RuntimeRules.ExecutableRule> selected = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            selected.add(executableRules.get(position));
+        }
+        return selected;
+    }
+
+    private void evaluate(List<RuntimeRules.ExecutableRule> executableRules, Object result, FactTuple facts, EngineListener engineListener) {
+        List<Pair<Invocation<ProcessingContext, Void>, PredicateContext>> consequences = new ArrayList<>();
+        PredicateContext context = new PredicateContext(null, result, facts, Collections.emptyMap(), engineListener.getEngineController(),
+                engineListener.getRequestCache());
+        for (int i = 0; i < executableRules.size() && !engineListener.isEvaluationTerminated(); ++i) {
+            RuntimeRules.ExecutableRule executableRule = executableRules.get(i);
+            context.rebind(executableRule.getRuleId(), executableRule.getAttributes());
             Boolean evaluationResult = executableRule.getPredicate().evaluate(context);
             if (Boolean.TRUE.equals(evaluationResult)) {
-                consequences.add(Pair.of(executableRule.getConsequence(), context));
+                consequences.add(Pair.of(executableRule.getConsequence(), context.snapshot()));
             }
         }
 
@@ -161,30 +345,98 @@ public class DefaultRulesExecutor implements RulesExecutor, Wrapper, EvictableCa
         }
     }
 
-    private LoadingCache<String, RuntimeRules> buildCachingContext(RulesRepository rulesRepository, RuntimeRulesBuilder runtimeRulesBuilder) {
-        return CacheBuilder.newBuilder()
-                .refreshAfterWrite(configuration.getRulesCacheRefreshTime().toMillis(), TimeUnit.MILLISECONDS)
-                .build(new CacheLoader<String, RuntimeRules>() {
-                    @Override
-                    public RuntimeRules load(String key) {
-                        log.info("Loading rules base for {} ...", key);
-                        Stopwatch stopwatch = Stopwatch.createStarted();
-
-                        List<Rule> rules = rulesRepository.get(key).stream()
-                                .filter(rule -> rule.getAttribute("ignored") == null || Boolean.FALSE.equals(rule.getAttribute("ignored").getValue()))
-                                .sorted((a, b) -> {
-                                    long priorityA = getPriority(a);
-                                    long priorityB = getPriority(b);
-                                    return Long.compare(priorityB, priorityA);
-                                })
-                                .collect(Collectors.toList());
-
-                        RuntimeRules runtimeRules = runtimeRulesBuilder.build(rules);
-
-                        log.info("Loaded rules '{}' in {} seconds", key, stopwatch.elapsed(TimeUnit.SECONDS));
-                        return runtimeRules;
-                    }
-                });
+    private void evaluateInParallel(List<RuntimeRules.ExecutableRule> executableRules, Object result, FactTuple facts,
+                                    EngineListener engineListener) {
+        int size = executableRules.size();
+        int tasks = Math.min(configuration.getParallelism(), (size + MIN_RULES_PER_TASK - 1) / MIN_RULES_PER_TASK);
+        if (tasks <= 1) {
+            evaluate(executableRules, result, facts, engineListener);
+            return;
+        }
+
+        PredicateContext[] matched = new PredicateContext[size];
+        int partitionSize = (size + tasks - 1) / tasks;
+        List<CompletableFuture<Void>> partitions = new ArrayList<>(tasks - 1);
+        for (int from = partitionSize; from < size; from += partitionSize) {
+            int start = from;
+            int end = Math.min(size, from + partitionSize);
+            partitions.add(CompletableFuture.runAsync(
+                    () -> evaluatePredicates(executableRules, start, end, result, facts, matched, engineListener), configuration.getParallelExecutor()));
+        }
+        // the calling thread evaluates the first partition instead of waiting idle
+        evaluatePredicates(executableRules, 0, Math.min(size, partitionSize), result, facts, matched, engineListener);
+        awaitPartitions(partitions);
+
+        for (int i = 0; i < size && !engineListener.isEvaluationTerminated(); ++i) {
+            if (matched[i] != null) {
+                executableRules.get(i).getConsequence().proceed(matched[i]);
+            }
+        }
+    }
+
+    private void evaluatePredicates(List<RuntimeRules.ExecutableRule> executableRules, int from, int to, Object result,
+                                    FactTuple facts, PredicateContext[] matched, EngineListener engineListener) {
+        PredicateContext context = new PredicateContext(null, result, facts, Collections.emptyMap(), engineListener.getEngineController(),
+                engineListener.getRequestCache());
+        for (int i = from; i < to && !engineListener.isEvaluationTerminated(); ++i) {
+            RuntimeRules.ExecutableRule executableRule = executableRules.get(i);
+            context.rebind(executableRule.getRuleId(), executableRule.getAttributes());
+            if (Boolean.TRUE.equals(executableRule.getPredicate().evaluate(context))) {
+                matched[i] = context.snapshot();
+            }
+        }
+    }
+
+    private static void awaitPartitions(List<? extends CompletableFuture<?>> partitions) {
+        try {
+            CompletableFuture.allOf(partitions.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private RuntimeRules loadRuntimeRules(String key) {
+        log.info("Loading rules base for {} ...", key);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        List<Rule> rules = rulesRepository.get(key).stream()
+                .filter(rule -> rule.getAttribute("ignored") == null || Boolean.FALSE.equals(rule.getAttribute("ignored").getValue()))
+                .sorted((a, b) -> {
+                    long priorityA = getPriority(a);
+                    long priorityB = getPriority(b);
+                    return Long.compare(priorityB, priorityA);
+                })
+                .collect(Collectors.toList());
+
+        RuntimeRules runtimeRules = runtimeRulesBuilder.build(rules);
+        if (configuration.isCompiledMode()) {
+            runtimeRules = compile(runtimeRules);
+        }
+
+        log.info("Loaded rules '{}' in {} seconds", key, stopwatch.elapsed(TimeUnit.SECONDS));
+        return runtimeRules;
+    }
+
+    private RuntimeRules compile(RuntimeRules runtimeRules) {
+        List<RuntimeRules.ExecutableRule> executableRules = runtimeRules.getExecutableRules();
+        List<Predicate> predicates = RuleSetCompiler.compile(executableRules.stream()
+                .map(RuntimeRules.ExecutableRule::getPredicate)
+                .collect(Collectors.toList()));
+        List<RuntimeRules.ExecutableRule> compiledRules = new ArrayList<>(executableRules.size());
+        for (int i = 0; i < executableRules.size(); i++) {
+            RuntimeRules.ExecutableRule rule = executableRules.get(i);
+            compiledRules.add(RuntimeRules.ExecutableRule.of(rule.getRuleId(), rule.getAttributes(), predicates.get(i), rule.getConsequence(), rule.getOrder(),
+                    rule.isCallingFunctions()));
+        }
+        return new RuntimeRules(compiledRules, runtimeRules.getFactNames(), runtimeRules.getRuleIndex(), runtimeRules.getFactTupleLayout(),
+                runtimeRules.getFactJoins());
     }
 
     private long getPriority(Rule a) {
@@ -192,11 +444,97 @@ public class DefaultRulesExecutor implements RulesExecutor, Wrapper, EvictableCa
         return attribute != null ? (Long) attribute.getValue() : 0L;
     }
 
-    static class SingleInstanceFactTupleIterator implements Iterator<Map<String, Object>> {
-        private final Map<String, Object> factMap;
-        private boolean end;
+    /**
+     * Creates iterators over fact tuples of consecutive executions of the same rules, reusing fact groups, the fact tuple
+     * and iterators between them. Not thread safe, so each thread executing inputs of a batch has its own instance.
+     */
+    private final class FactTupleIterators {
+        private final RuntimeRules runtimeRules;
+        private final FactGroups factGroups = new FactGroups(typeNames);
+        private final FactTuple factTuple;
+        private SingleTypeFactTupleIterator singleType;
+        private SingleInstanceFactTupleIterator singleInstance;
+        private CrossProductFactTupleIterator crossProduct;
+
+        FactTupleIterators(RuntimeRules runtimeRules) {
+            this.runtimeRules = runtimeRules;
+            this.factTuple = new FactTuple(runtimeRules.getFactTupleLayout());
+        }
+
+        Iterator<FactTuple> iterate(Collection<?> facts, Object result, EngineListener engineListener) {
+            Map<String, List<Object>> groupedFact = factGroups.group(facts, runtimeRules.getFactNames());
+            factTuple.clear();
+            if (groupedFact.size() == 1) {
+                if (singleType == null) {
+                    singleType = new SingleTypeFactTupleIterator(factTuple);
+                }
+                return singleType.reset(groupedFact);
+            }
+            if (!configuration.isCrossProductMode()) {
+                if (singleInstance == null) {
+                    singleInstance = new SingleInstanceFactTupleIterator(factTuple);
+                }
+                return singleInstance.reset(groupedFact);
+            }
+            List<FactJoin> factJoins = runtimeRules.getFactJoins();
+            if (!factJoins.isEmpty()) {
+                return new HashJoinFactTupleIterator(groupedFact, factTuple, factJoins, result, engineListener.getEngineController());
+            }
+            if (crossProduct == null) {
+                crossProduct = new CrossProductFactTupleIterator(factTuple);
+            }
+            return crossProduct.reset(groupedFact);
+        }
+    }
+
+    /**
+     * Groups facts by their identifiers. Group lists are reused between {@link #group(Collection, Map)} calls,
+     * so a returned map is valid only until the next call.
+     */
+    private static final class FactGroups {
+        private final Map<Class<?>, String> typeNames;
+        private final Map<Class<?>, List<Object>> byType = new HashMap<>();
+        private final Map<String, List<Object>> byName = new HashMap<>();
+
+        FactGroups(Map<Class<?>, String> typeNames) {
+            this.typeNames = typeNames;
+        }
+
+        Map<String, List<Object>> group(Collection<?> facts, Map<Type, String> factNames) {
+            for (List<Object> grouped : byType.values()) {
+                grouped.clear();
+            }
+            byName.clear();
+            for (Object fact : facts) {
+                List<Object> grouped = byType.computeIfAbsent(fact.getClass(), (k) -> new ArrayList<>());
+                if (grouped.isEmpty()) {
+                    byName.put(typeNames.computeIfAbsent(fact.getClass(), factNames::get), grouped);
+                }
+                grouped.add(fact);
+            }
+            return byName;
+        }
+    }
+
+    static class SingleInstanceFactTupleIterator implements Iterator<FactTuple> {
+        private final FactTuple factTuple;
+        private boolean end = true;
 
         SingleInstanceFactTupleIterator(Map<String, List<Object>> groupedFacts) {
+            this(groupedFacts, FactTupleLayout.of(groupedFacts.keySet()));
+        }
+
+        SingleInstanceFactTupleIterator(Map<String, List<Object>> groupedFacts, FactTupleLayout layout) {
+            this(new FactTuple(layout));
+            reset(groupedFacts);
+        }
+
+        SingleInstanceFactTupleIterator(FactTuple factTuple) {
+            this.factTuple = factTuple;
+        }
+
+        SingleInstanceFactTupleIterator reset(Map<String, List<Object>> groupedFacts) {
+            FactTupleLayout layout = factTuple.getLayout();
             if (groupedFacts.values().stream().anyMatch(l -> l.size() > 1)) {
                 log.warn("Multiple instances of {} fact type(s) found. First one will be used",
                         groupedFacts.keySet().stream()
@@ -210,10 +548,10 @@ public class DefaultRulesExecutor implements RulesExecutor, Wrapper, EvictableCa
                 if (value == null || value.isEmpty()) {
                     throw new IllegalArgumentException(String.format("No fact instances for identifier '%s'", key));
                 }
+                factTuple.set(layout.slotOf(key), value.get(0));
             }
-            factMap = groupedFacts.entrySet().stream()
-                    .collect(Collectors.toMap(Entry::getKey, e -> e.getValue().get(0)));
             end = groupedFacts.isEmpty();
+            return this;
         }
 
         @Override
@@ -222,30 +560,46 @@ public class DefaultRulesExecutor implements RulesExecutor, Wrapper, EvictableCa
         }
 
         @Override
-        public Map<String, Object> next() {
+        public FactTuple next() {
             end = true;
-            return factMap;
+            return factTuple;
         }
     }
 
-    static class SingleTypeFactTupleIterator implements Iterator<Map<String, Object>> {
-        private final String identifier;
-        private final List<Object> instances;
-        private final int size;
-        private final Map<String, Object> factTuple = new HashMap<>(2);
+    static class SingleTypeFactTupleIterator implements Iterator<FactTuple> {
+        private final FactTuple factTuple;
+        private List<Object> instances;
+        private int size;
+        private int slot;
         private int index = 0;
-        private boolean end;
+        private boolean end = true;
 
         SingleTypeFactTupleIterator(Map<String, List<Object>> groupedFacts) {
+            this(groupedFacts, FactTupleLayout.of(groupedFacts.keySet()));
+        }
+
+        SingleTypeFactTupleIterator(Map<String, List<Object>> groupedFacts, FactTupleLayout layout) {
+            this(new FactTuple(layout));
+            reset(groupedFacts);
+        }
+
+        SingleTypeFactTupleIterator(FactTuple factTuple) {
+            this.factTuple = factTuple;
+        }
+
+        SingleTypeFactTupleIterator reset(Map<String, List<Object>> groupedFacts) {
             Validate.isTrue(groupedFacts.size() == 1, "SingleTypeFactTupleIterator purpose is to support fact instances with the same type");
             Entry<String, List<Object>> entry = groupedFacts.entrySet().iterator().next();
-            this.identifier = entry.getKey();
+            String identifier = entry.getKey();
             this.instances = entry.getValue();
             if (instances == null || instances.isEmpty()) {
                 throw new IllegalArgumentException(String.format("No fact instances for identifier '%s'", identifier));
             }
             this.size = this.instances.size();
-            end = groupedFacts.isEmpty();
+            this.slot = factTuple.getLayout().slotOf(identifier);
+            this.index = 0;
+            this.end = false;
+            return this;
         }
 
         @Override
@@ -254,58 +608,70 @@ public class DefaultRulesExecutor implements RulesExecutor, Wrapper, EvictableCa
         }
 
         @Override
-        public Map<String, Object> next() {
+        public FactTuple next() {
             int current = index;
             index = (index + 1) % size;
             if (index == 0) {
                 end = true;
             }
-            factTuple.put(identifier, instances.get(current));
+            factTuple.set(slot, instances.get(current));
             return factTuple;
         }
     }
 
-    static class CrossProductFactTupleIterator implements Iterator<Map<String, Object>> {
-        private final Map<String, List<Object>> groupedFact;
-        private final int[] sizes;
-        private final int[] values;
-        private final String[] names;
-        private int valuesSize;
-        private int valuesIdx;
-
-        private Map<String, Object> next;
+    /**
+     * Iterates over cartesian product of fact groups. Single {@link FactTuple} instance is updated in place
+     * and returned by every {@link #next()} call.
+     */
+    static class CrossProductFactTupleIterator implements Iterator<FactTuple> {
+        private final List<List<Object>> groups = new ArrayList<>();
+        private final FactTuple factTuple;
+        private int[] slots = new int[0];
+        private int[] values = new int[0];
+        private boolean started;
+        private boolean end = true;
 
-        private boolean end;
-
-        @SuppressWarnings("unchecked")
         CrossProductFactTupleIterator(Map<String, List<Object>> groupedFact) {
+            this(groupedFact, FactTupleLayout.of(groupedFact.keySet()));
+        }
 
-            this.groupedFact = groupedFact;
-
-            this.valuesSize = groupedFact.keySet().size();
-            this.valuesIdx = 0;
+        CrossProductFactTupleIterator(Map<String, List<Object>> groupedFact, FactTupleLayout layout) {
+            this(new FactTuple(layout));
+            reset(groupedFact);
+        }
 
-            this.sizes = new int[valuesSize];
-            this.values = new int[valuesSize];
-            this.names = new String[valuesSize];
+        CrossProductFactTupleIterator(FactTuple factTuple) {
+            this.factTuple = factTuple;
+        }
 
-            next = new HashMap<>(this.valuesSize);
+        CrossProductFactTupleIterator reset(Map<String, List<Object>> groupedFact) {
+            FactTupleLayout layout = factTuple.getLayout();
+            int valuesSize = groupedFact.size();
+            if (slots.length != valuesSize) {
+                slots = new int[valuesSize];
+                values = new int[valuesSize];
+            } else {
+                Arrays.fill(values, 0);
+            }
+            groups.clear();
 
             int idx = 0;
             for (Entry<String, List<Object>> entry : groupedFact.entrySet()) {
                 String key = entry.getKey();
-                List<?> value = entry.getValue();
+                List<Object> value = entry.getValue();
 
                 if (value == null || value.isEmpty()) {
                     throw new IllegalArgumentException(String.format("No fact instances for identifier '%s'", key));
                 }
 
-                names[idx] = key;
-                sizes[idx] = value.size();
-                next.put(key, value.get(0));
+                groups.add(value);
+                slots[idx] = layout.slotOf(key);
+                factTuple.set(slots[idx], value.get(0));
                 idx++;
             }
-            this.end = this.valuesSize == 0;
+            this.started = false;
+            this.end = valuesSize == 0;
+            return this;
         }
 
         @Override
@@ -314,28 +680,35 @@ public class DefaultRulesExecutor implements RulesExecutor, Wrapper, EvictableCa
         }
 
         @Override
-        public Map<String, Object> next() {
+        public FactTuple next() {
             if (!hasNext()) {
                 throw new IllegalStateException("No next value!");
             }
+            if (started) {
+                advance();
+            }
+            started = true;
+            end = isLast();
+            return factTuple;
+        }
 
-            Map<String, Object> current = new HashMap<>(next);
-
-            values[valuesIdx] = (values[valuesIdx] + 1) % sizes[valuesIdx];
-            next.put(names[valuesIdx], groupedFact.get(names[valuesIdx]).get(values[valuesIdx]));
-
-            while (values[valuesIdx] == 0) {
-                valuesIdx = (valuesIdx + 1) % valuesSize;
-                if (valuesIdx == 0) {
-                    end = true;
-                    break;
+        private void advance() {
+            for (int idx = 0; idx < groups.size(); idx++) {
+                values[idx] = (values[idx] + 1) % groups.get(idx).size();
+                factTuple.set(slots[idx], groups.get(idx).get(values[idx]));
+                if (values[idx] != 0) {
+                    return;
                 }
-                values[valuesIdx] = (values[valuesIdx] + 1) % sizes[valuesIdx];
-                next.put(names[valuesIdx], groupedFact.get(names[valuesIdx]).get(values[valuesIdx]));
             }
-            valuesIdx = 0;
+        }
 
-            return current;
+        private boolean isLast() {
+            for (int idx = 0; idx < groups.size(); idx++) {
+                if (values[idx] != groups.get(idx).size() - 1) {
+                    return false;
+                }
+            }
+            return true;
         }
     }
 }
@@ -30,14 +30,15 @@ import com.sabre.oss.yare.core.call.ConsequenceFactory;
 import com.sabre.oss.yare.core.call.FunctionFactory;
 import com.sabre.oss.yare.core.call.ProcessingInvocationFactory;
 import com.sabre.oss.yare.core.feature.FeaturedObject;
-import com.sabre.oss.yare.core.internal.EngineControllerFactory;
 import com.sabre.oss.yare.engine.*;
+import com.sabre.oss.yare.engine.executor.runtime.value.PropertyAccessorFactory;
 import com.sabre.oss.yare.engine.feature.DefaultEngineFeature;
 import org.apache.commons.lang3.ArrayUtils;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class DefaultRulesExecutorBuilder implements RulesExecutorBuilder {
@@ -77,6 +78,7 @@ public class DefaultRulesExecutorBuilder implements RulesExecutorBuilder {
             boolean shouldCache = !ArrayUtils.contains(object.getFeatures(), DefaultEngineFeature.DISABLE_CACHE_FUNCTION_RESULT);
             this.functionMappings.put(name, object.getObject());
             withFunctionCacheable(name, shouldCache);
+            withFunctionRequestScoped(name, ArrayUtils.contains(object.getFeatures(), DefaultEngineFeature.REQUEST_SCOPED_FUNCTION_RESULT));
         }
         return this;
     }
@@ -113,6 +115,20 @@ public class DefaultRulesExecutorBuilder implements RulesExecutorBuilder {
         return this;
     }
 
+    /**
+     * Specify whether the function identified by {@code functionName} is request-pure, i.e. should be computed
+     * at most once per distinct arguments within a single execution. Results of such function are discarded
+     * when the execution completes and are not stored in {@link CallInvocationResultCache}.
+     *
+     * @param functionName  name of the function
+     * @param requestScoped whether result should be memoized for the duration of a single execution
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withFunctionRequestScoped(String functionName, boolean requestScoped) {
+        this.configurationBuilder.withFunctionRequestScoped(functionName, requestScoped);
+        return this;
+    }
+
     /**
      * Specify time to expire cache for function identified by {@code functionName}.
      *
@@ -148,7 +164,57 @@ public class DefaultRulesExecutorBuilder implements RulesExecutorBuilder {
     }
 
     /**
-     * Specify refresh time for functions' results cache.
+     * Specify maximum number of cached results of the function identified by {@code functionName}.
+     *
+     * @param functionName name of the function
+     * @param maximumSize  maximum number of cached results
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withFunctionCacheMaximumSize(String functionName, long maximumSize) {
+        this.configurationBuilder.withFunctionCacheMaximumSize(functionName, maximumSize);
+        return this;
+    }
+
+    /**
+     * Specify default maximum number of cached results per function. By default caches are not bounded by size.
+     *
+     * @param maximumSize maximum number of cached results
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withDefaultFunctionCacheMaximumSize(long maximumSize) {
+        this.configurationBuilder.withDefaultFunctionCacheMaximumSize(maximumSize);
+        return this;
+    }
+
+    /**
+     * Specify maximum total weight of cached results of the function identified by {@code functionName}.
+     * Takes precedence over maximum size of the function cache.
+     *
+     * @param functionName  name of the function
+     * @param maximumWeight maximum total weight of cached results
+     * @param weigher       weigher calculating weight of cached results
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withFunctionCacheMaximumWeight(String functionName, long maximumWeight, FunctionCacheWeigher weigher) {
+        this.configurationBuilder.withFunctionCacheMaximumWeight(functionName, maximumWeight, weigher);
+        return this;
+    }
+
+    /**
+     * Specify {@link FunctionCacheKeyExtractor} building cache keys from arguments of the function identified by
+     * {@code functionName}. By default all arguments are used as the key.
+     *
+     * @param functionName name of the function
+     * @param keyExtractor cache key extractor
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withFunctionCacheKeyExtractor(String functionName, FunctionCacheKeyExtractor keyExtractor) {
+        this.configurationBuilder.withFunctionCacheKeyExtractor(functionName, keyExtractor);
+        return this;
+    }
+
+    /**
+     * Specify time after which new version of rules is loaded in background.
      *
      * @param rulesCacheRefreshTime default refresh time
      * @return this defaultRulesExecutorBuilder instance
@@ -158,6 +224,20 @@ public class DefaultRulesExecutorBuilder implements RulesExecutorBuilder {
         return this;
     }
 
+    /**
+     * Specify {@link Executor} loading new versions of rules in background once rules refresh time passes.
+     * Executions keep using the previous version until the new one is loaded.
+     * By default each rules executor reloads rules using its own single daemon thread, so that reloads neither
+     * compete with asynchronous executions nor block any shared pool.
+     *
+     * @param rulesReloadExecutor executor running rules reload tasks
+     * @return this defaultRulesExecutorBuilder instance
+     */
+    public DefaultRulesExecutorBuilder withRulesReloadExecutor(Executor rulesReloadExecutor) {
+        this.configurationBuilder.withRulesReloadExecutor(rulesReloadExecutor);
+        return this;
+    }
+
     /**
      * Specify whether {@link DefaultRulesExecutor} should evaluate rules sequentially.
      *
@@ -181,6 +261,68 @@ public class DefaultRulesExecutorBuilder implements RulesExecutorBuilder {
         return this;
     }
 
+    /**
+     * Specify whether {@link DefaultRulesExecutor} should evaluate predicates of rules concurrently.
+     * Consequences of matched rules are still executed on the calling thread, in the order of rules' priorities.
+     * This mode has no effect when sequential mode is enabled.
+     *
+     * @param parallelMode should work in parallel mode
+     * @return this defaultRulesExecutorBuilder
+     */
+    public DefaultRulesExecutorBuilder withParallelMode(boolean parallelMode) {
+        this.configurationBuilder.withParallelMode(parallelMode);
+        return this;
+    }
+
+    /**
+     * Specify {@link Executor} used for evaluating predicates in parallel mode.
+     * By default {@link java.util.concurrent.ForkJoinPool#commonPool()} is used.
+     *
+     * @param parallelExecutor executor running predicate evaluation tasks
+     * @return this defaultRulesExecutorBuilder
+     */
+    public DefaultRulesExecutorBuilder withParallelExecutor(Executor parallelExecutor) {
+        this.configurationBuilder.withParallelExecutor(parallelExecutor);
+        return this;
+    }
+
+    /**
+     * Specify maximum number of tasks the rules are split into in parallel mode.
+     * By default number of available processors is used.
+     *
+     * @param parallelism maximum number of concurrently evaluated rule partitions
+     * @return this defaultRulesExecutorBuilder
+     */
+    public DefaultRulesExecutorBuilder withParallelism(int parallelism) {
+        this.configurationBuilder.withParallelism(parallelism);
+        return this;
+    }
+
+    /**
+     * Specify whether {@link DefaultRulesExecutor} should use index of rules comparing fact paths with constants
+     * (e.g. {@code ${flight.carrier} == "AA"}) to skip evaluation of rules that cannot match given fact tuple.
+     * This mode has no effect when sequential mode is enabled.
+     *
+     * @param indexedMode should work in indexed mode
+     * @return this defaultRulesExecutorBuilder
+     */
+    public DefaultRulesExecutorBuilder withIndexedMode(boolean indexedMode) {
+        this.configurationBuilder.withIndexedMode(indexedMode);
+        return this;
+    }
+
+    /**
+     * Specify whether predicates of rules should be compiled into generated classes instead of being
+     * interpreted as a tree of operators. Rules which cannot be compiled stay interpreted.
+     *
+     * @param compiledMode should work in compiled mode
+     * @return this defaultRulesExecutorBuilder
+     */
+    public DefaultRulesExecutorBuilder withCompiledMode(boolean compiledMode) {
+        this.configurationBuilder.withCompiledMode(compiledMode);
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -191,18 +333,16 @@ public class DefaultRulesExecutorBuilder implements RulesExecutorBuilder {
         AtomicReference<DefaultArgumentValueResolver> resolverReference = new AtomicReference<>();
         ProcessingInvocationFactory<Object> functionInvocationFactory = new CachingDelegatingProcessingInvocationFactory<>(
                 new DefaultProcessingInvocationFactory<>(resolverReference::get, functionMappings),
-                resolverReference::get,
                 invocationCache,
                 configuration
         );
         ProcessingInvocationFactory<Void> actionInvocationFactory = new DefaultProcessingInvocationFactory<>(resolverReference::get, actionMappings);
-        resolverReference.set(new DefaultArgumentValueResolver(functionInvocationFactory));
+        PropertyAccessorFactory propertyAccessorFactory = new PropertyAccessorFactory();
+        resolverReference.set(new DefaultArgumentValueResolver(functionInvocationFactory, propertyAccessorFactory));
         FunctionFactory functionFactory = new FunctionFactory(functionInvocationFactory);
         ConsequenceFactory consequenceFactory = new ConsequenceFactory(actionInvocationFactory, errorHandler);
-        RuntimeRulesBuilder runtimeRulesBuilder = new RuntimeRulesBuilder(new DefaultPredicateFactory(), functionFactory, consequenceFactory);
+        RuntimeRulesBuilder runtimeRulesBuilder = new RuntimeRulesBuilder(new DefaultPredicateFactory(), functionFactory, consequenceFactory, propertyAccessorFactory);
 
-        EngineListener engineListener = new EngineListener();
-        EngineController engineController = EngineControllerFactory.createDefaultFrom(engineListener);
-        return new DefaultRulesExecutor(rulesRepository, runtimeRulesBuilder, configuration, engineController, engineListener);
+        return new DefaultRulesExecutor(rulesRepository, runtimeRulesBuilder, configuration, invocationCache);
     }
 }
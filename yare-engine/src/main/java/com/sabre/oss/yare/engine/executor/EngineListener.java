@@ -24,26 +24,82 @@
 
 package com.sabre.oss.yare.engine.executor;
 
+import com.sabre.oss.yare.core.EngineController;
+import com.sabre.oss.yare.core.internal.DefaultEngineController;
 import com.sabre.oss.yare.core.listener.CloseSessionContext;
 import com.sabre.oss.yare.core.listener.CloseSessionListener;
+import com.sabre.oss.yare.engine.CallInvocationResultCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Collections;
 
+/**
+ * Tracks termination of a single rules execution. A new instance is created per execution,
+ * so closing session or exceeding deadline in one execution does not affect the others. It also carries
+ * request cache of the execution, which is discarded together with the listener.
+ */
 public class EngineListener implements CloseSessionListener {
     private static final Logger log = LoggerFactory.getLogger(EngineListener.class);
 
-    private final AtomicBoolean evaluationTerminated = new AtomicBoolean(false);
+    private final EngineController engineController;
+    private final Long deadline;
+    private final CallInvocationResultCache requestCache;
+    private final EngineListener parent;
+    private volatile boolean evaluationTerminated;
+    private volatile boolean deadlineExceeded;
+
+    public EngineListener() {
+        this(null, null);
+    }
+
+    /**
+     * @param deadline     {@link System#nanoTime()} based deadline of the execution, {@code null} when not bounded
+     * @param requestCache cache of request-scoped functions' results, {@code null} when not needed
+     */
+    public EngineListener(Long deadline, CallInvocationResultCache requestCache) {
+        this(deadline, requestCache, null);
+    }
+
+    /**
+     * @param deadline     {@link System#nanoTime()} based deadline of the execution, {@code null} when not bounded
+     * @param requestCache cache of request-scoped functions' results, {@code null} when not needed
+     * @param parent       listener which termination terminates this execution too, {@code null} when none
+     */
+    EngineListener(Long deadline, CallInvocationResultCache requestCache, EngineListener parent) {
+        this.deadline = deadline;
+        this.requestCache = requestCache;
+        this.parent = parent;
+        this.engineController = new DefaultEngineController(Collections.singletonMap(CloseSessionListener.class, this));
+    }
+
+    EngineController getEngineController() {
+        return engineController;
+    }
+
+    CallInvocationResultCache getRequestCache() {
+        return requestCache;
+    }
 
     boolean isEvaluationTerminated() {
-        return evaluationTerminated.get();
+        if (!evaluationTerminated && parent != null && parent.isEvaluationTerminated()) {
+            evaluationTerminated = true;
+        }
+        if (!evaluationTerminated && deadline != null && System.nanoTime() - deadline >= 0) {
+            deadlineExceeded = true;
+            evaluationTerminated = true;
+        }
+        return evaluationTerminated;
+    }
+
+    boolean isDeadlineExceeded() {
+        return deadlineExceeded;
     }
 
     @Override
     public void onCloseSession(CloseSessionContext context) {
         log.warn("Closing session...");
-        evaluationTerminated.set(true);
+        evaluationTerminated = true;
     }
 
 }
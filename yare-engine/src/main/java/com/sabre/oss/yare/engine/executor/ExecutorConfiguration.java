@@ -24,28 +24,58 @@
 
 package com.sabre.oss.yare.engine.executor;
 
+import com.sabre.oss.yare.engine.FunctionCacheKeyExtractor;
+import com.sabre.oss.yare.engine.FunctionCacheWeigher;
+
 import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 public class ExecutorConfiguration {
     private final Map<String, Boolean> functionToCacheable;
     private final Map<String, Duration> functionToCacheExpirationTime;
     private final boolean defaultFunctionCacheable;
     private final Duration defaultFunctionCacheExpirationTime;
+    private final Map<String, Long> functionToCacheMaximumSize;
+    private final long defaultFunctionCacheMaximumSize;
+    private final Map<String, Long> functionToCacheMaximumWeight;
+    private final Map<String, FunctionCacheWeigher> functionToCacheWeigher;
+    private final Map<String, FunctionCacheKeyExtractor> functionToCacheKeyExtractor;
+    private final Map<String, Boolean> functionToRequestScoped;
     private final Duration rulesCacheRefreshTime;
     private final boolean sequentialMode;
     private final boolean crossProductMode;
+    private final boolean parallelMode;
+    private final Executor parallelExecutor;
+    private final int parallelism;
+    private final boolean indexedMode;
+    private final boolean compiledMode;
+    private final Executor rulesReloadExecutor;
 
     public ExecutorConfiguration(Builder builder) {
         this.functionToCacheable = Collections.unmodifiableMap(builder.functionToCacheable);
         this.functionToCacheExpirationTime = Collections.unmodifiableMap(builder.functionToCacheExpirationTime);
         this.defaultFunctionCacheable = builder.defaultFunctionCacheable;
         this.defaultFunctionCacheExpirationTime = builder.defaultFunctionCacheExpirationTime;
+        this.functionToCacheMaximumSize = Collections.unmodifiableMap(builder.functionToCacheMaximumSize);
+        this.defaultFunctionCacheMaximumSize = builder.defaultFunctionCacheMaximumSize;
+        this.functionToCacheMaximumWeight = Collections.unmodifiableMap(builder.functionToCacheMaximumWeight);
+        this.functionToCacheWeigher = Collections.unmodifiableMap(builder.functionToCacheWeigher);
+        this.functionToCacheKeyExtractor = Collections.unmodifiableMap(builder.functionToCacheKeyExtractor);
+        this.functionToRequestScoped = Collections.unmodifiableMap(builder.functionToRequestScoped);
         this.rulesCacheRefreshTime = builder.rulesCacheRefreshTime;
         this.sequentialMode = builder.sequentialMode;
         this.crossProductMode = builder.crossProductMode;
+        this.parallelMode = builder.parallelMode;
+        this.parallelExecutor = builder.parallelExecutor != null ? builder.parallelExecutor : ForkJoinPool.commonPool();
+        this.parallelism = builder.parallelism > 0 ? builder.parallelism : Runtime.getRuntime().availableProcessors();
+        this.indexedMode = builder.indexedMode;
+        this.compiledMode = builder.compiledMode;
+        this.rulesReloadExecutor = builder.rulesReloadExecutor;
     }
 
     public static Builder builder() {
@@ -60,6 +90,30 @@ public class ExecutorConfiguration {
         return functionToCacheExpirationTime.getOrDefault(functionName, defaultFunctionCacheExpirationTime);
     }
 
+    public long getFunctionCacheMaximumSize(String functionName) {
+        return functionToCacheMaximumSize.getOrDefault(functionName, defaultFunctionCacheMaximumSize);
+    }
+
+    public long getFunctionCacheMaximumWeight(String functionName) {
+        return functionToCacheMaximumWeight.getOrDefault(functionName, -1L);
+    }
+
+    public FunctionCacheWeigher getFunctionCacheWeigher(String functionName) {
+        return functionToCacheWeigher.get(functionName);
+    }
+
+    public FunctionCacheKeyExtractor getFunctionCacheKeyExtractor(String functionName) {
+        return functionToCacheKeyExtractor.get(functionName);
+    }
+
+    public boolean isFunctionRequestScoped(String functionName) {
+        return functionToRequestScoped.getOrDefault(functionName, false);
+    }
+
+    public boolean hasRequestScopedFunctions() {
+        return functionToRequestScoped.containsValue(true);
+    }
+
     public Duration getRulesCacheRefreshTime() {
         return rulesCacheRefreshTime;
     }
@@ -72,14 +126,55 @@ public class ExecutorConfiguration {
         return crossProductMode;
     }
 
+    public boolean isParallelMode() {
+        return parallelMode;
+    }
+
+    public Executor getParallelExecutor() {
+        return parallelExecutor;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isIndexedMode() {
+        return indexedMode;
+    }
+
+    public boolean isCompiledMode() {
+        return compiledMode;
+    }
+
+    /**
+     * Returns executor loading new versions of rules in background.
+     *
+     * @return executor configured for rules reload or {@code null} when rules executor should use its own
+     */
+    public Executor getRulesReloadExecutor() {
+        return rulesReloadExecutor;
+    }
+
     public static final class Builder {
         private Map<String, Boolean> functionToCacheable = new HashMap<>();
         private Map<String, Duration> functionToCacheExpirationTime = new HashMap<>();
         private boolean defaultFunctionCacheable = false;
         private Duration defaultFunctionCacheExpirationTime = Duration.ofMinutes(5);
+        private Map<String, Long> functionToCacheMaximumSize = new HashMap<>();
+        private long defaultFunctionCacheMaximumSize = -1L;
+        private Map<String, Long> functionToCacheMaximumWeight = new HashMap<>();
+        private Map<String, FunctionCacheWeigher> functionToCacheWeigher = new HashMap<>();
+        private Map<String, FunctionCacheKeyExtractor> functionToCacheKeyExtractor = new HashMap<>();
+        private Map<String, Boolean> functionToRequestScoped = new HashMap<>();
         private Duration rulesCacheRefreshTime = Duration.ofMinutes(5);
         private boolean sequentialMode = false;
         private boolean crossProductMode = false;
+        private boolean parallelMode = false;
+        private Executor parallelExecutor;
+        private int parallelism;
+        private boolean indexedMode = false;
+        private boolean compiledMode = false;
+        private Executor rulesReloadExecutor;
 
         private Builder() {
         }
@@ -89,6 +184,11 @@ public class ExecutorConfiguration {
             return this;
         }
 
+        public Builder withFunctionRequestScoped(String functionName, boolean requestScoped) {
+            functionToRequestScoped.put(functionName, requestScoped);
+            return this;
+        }
+
         public Builder withFunctionCacheExpirationTime(String functionName, Duration expirationTime) {
             functionToCacheExpirationTime.put(functionName, expirationTime);
             return this;
@@ -104,6 +204,27 @@ public class ExecutorConfiguration {
             return this;
         }
 
+        public Builder withFunctionCacheMaximumSize(String functionName, long maximumSize) {
+            functionToCacheMaximumSize.put(functionName, maximumSize);
+            return this;
+        }
+
+        public Builder withDefaultFunctionCacheMaximumSize(long defaultFunctionCacheMaximumSize) {
+            this.defaultFunctionCacheMaximumSize = defaultFunctionCacheMaximumSize;
+            return this;
+        }
+
+        public Builder withFunctionCacheMaximumWeight(String functionName, long maximumWeight, FunctionCacheWeigher weigher) {
+            functionToCacheMaximumWeight.put(functionName, maximumWeight);
+            functionToCacheWeigher.put(functionName, Objects.requireNonNull(weigher, "weigher must not be null"));
+            return this;
+        }
+
+        public Builder withFunctionCacheKeyExtractor(String functionName, FunctionCacheKeyExtractor keyExtractor) {
+            functionToCacheKeyExtractor.put(functionName, keyExtractor);
+            return this;
+        }
+
         public Builder withRulesCacheRefreshTime(Duration rulesCacheRefreshTime) {
             this.rulesCacheRefreshTime = rulesCacheRefreshTime;
             return this;
@@ -119,6 +240,36 @@ public class ExecutorConfiguration {
             return this;
         }
 
+        public Builder withParallelMode(boolean parallelMode) {
+            this.parallelMode = parallelMode;
+            return this;
+        }
+
+        public Builder withParallelExecutor(Executor parallelExecutor) {
+            this.parallelExecutor = parallelExecutor;
+            return this;
+        }
+
+        public Builder withParallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public Builder withIndexedMode(boolean indexedMode) {
+            this.indexedMode = indexedMode;
+            return this;
+        }
+
+        public Builder withCompiledMode(boolean compiledMode) {
+            this.compiledMode = compiledMode;
+            return this;
+        }
+
+        public Builder withRulesReloadExecutor(Executor rulesReloadExecutor) {
+            this.rulesReloadExecutor = rulesReloadExecutor;
+            return this;
+        }
+
         public ExecutorConfiguration build() {
             return new ExecutorConfiguration(this);
         }
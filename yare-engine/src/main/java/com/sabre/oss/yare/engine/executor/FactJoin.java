@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor;
+
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+
+/**
+ * {@link FactJoin} describes equality of paths of two different facts (e.g. {@code ${hotel.city} == ${flight.destination}})
+ * required by every rule of the rule set. Such condition lets cross product of facts be enumerated as a hash join.
+ */
+public final class FactJoin {
+    private final String leftIdentifier;
+    private final ValueProvider leftValueProvider;
+    private final String rightIdentifier;
+    private final ValueProvider rightValueProvider;
+
+    FactJoin(String leftIdentifier, ValueProvider leftValueProvider, String rightIdentifier, ValueProvider rightValueProvider) {
+        this.leftIdentifier = leftIdentifier;
+        this.leftValueProvider = leftValueProvider;
+        this.rightIdentifier = rightIdentifier;
+        this.rightValueProvider = rightValueProvider;
+    }
+
+    public String getLeftIdentifier() {
+        return leftIdentifier;
+    }
+
+    public ValueProvider getLeftValueProvider() {
+        return leftValueProvider;
+    }
+
+    public String getRightIdentifier() {
+        return rightIdentifier;
+    }
+
+    public ValueProvider getRightValueProvider() {
+        return rightValueProvider;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor;
+
+import com.sabre.oss.yare.core.EngineController;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTuple;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTupleLayout;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+
+import java.util.*;
+
+/**
+ * Enumerates only these combinations of facts (of cross product) which satisfy all given {@link FactJoin}s.
+ * <p>
+ * Fact groups are visited in an order in which every joined group follows a group it is joined with.
+ * Facts of such group are indexed (hashed) by their join key, so for each partial combination
+ * only facts with matching key are taken into account. Facts having null join key are never matched,
+ * as equality with null is never true.
+ */
+class HashJoinFactTupleIterator implements Iterator<FactTuple> {
+    private final Level[] levels;
+    private final FactTuple factTuple;
+    private final PredicateContext context;
+    private boolean ready;
+    private boolean end;
+
+    HashJoinFactTupleIterator(Map<String, List<Object>> groupedFacts, FactTuple factTuple, List<FactJoin> joins,
+                              Object result, EngineController engineController) {
+        for (Map.Entry<String, List<Object>> entry : groupedFacts.entrySet()) {
+            if (entry.getValue() == null || entry.getValue().isEmpty()) {
+                throw new IllegalArgumentException(String.format("No fact instances for identifier '%s'", entry.getKey()));
+            }
+        }
+        this.factTuple = factTuple;
+        this.context = new PredicateContext(null, result, factTuple, Collections.emptyMap(), engineController);
+        this.levels = createLevels(groupedFacts, factTuple.getLayout(), joins);
+        this.end = levels.length == 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!ready && !end) {
+            end = !advance();
+            ready = !end;
+        }
+        return !end;
+    }
+
+    @Override
+    public FactTuple next() {
+        if (!hasNext()) {
+            throw new IllegalStateException("No next value!");
+        }
+        ready = false;
+        return factTuple;
+    }
+
+    private boolean advance() {
+        int level = levels.length - 1;
+        if (levels[0].candidates == null) {
+            level = 0;
+            levels[0].reset(context);
+        }
+        while (level >= 0) {
+            if (levels[level].next(factTuple, context)) {
+                if (level == levels.length - 1) {
+                    return true;
+                }
+                levels[++level].reset(context);
+            } else {
+                level--;
+            }
+        }
+        return false;
+    }
+
+    private Level[] createLevels(Map<String, List<Object>> groupedFacts, FactTupleLayout layout, List<FactJoin> joins) {
+        List<String> order = orderGroups(groupedFacts, joins);
+        Level[] result = new Level[order.size()];
+        Set<String> visited = new HashSet<>();
+        for (int i = 0; i < order.size(); i++) {
+            String identifier = order.get(i);
+            List<Object> facts = groupedFacts.get(identifier);
+            List<ValueProvider[]> conditions = new ArrayList<>();
+            for (FactJoin join : joins) {
+                if (Objects.equals(identifier, join.getLeftIdentifier()) && visited.contains(join.getRightIdentifier())) {
+                    conditions.add(new ValueProvider[]{join.getLeftValueProvider(), join.getRightValueProvider()});
+                } else if (Objects.equals(identifier, join.getRightIdentifier()) && visited.contains(join.getLeftIdentifier())) {
+                    conditions.add(new ValueProvider[]{join.getRightValueProvider(), join.getLeftValueProvider()});
+                }
+            }
+            result[i] = new Level(layout.slotOf(identifier), facts, conditions, index(facts, layout.slotOf(identifier), conditions));
+            visited.add(identifier);
+        }
+        return result;
+    }
+
+    private Map<Object, List<Object>> index(List<Object> facts, int slot, List<ValueProvider[]> conditions) {
+        if (conditions.isEmpty()) {
+            return null;
+        }
+        ValueProvider keyProvider = conditions.get(0)[0];
+        Map<Object, List<Object>> index = new HashMap<>();
+        for (Object fact : facts) {
+            factTuple.set(slot, fact);
+            Object key = keyProvider.get(context);
+            if (key != null) {
+                index.computeIfAbsent(key, k -> new ArrayList<>()).add(fact);
+            }
+        }
+        return index;
+    }
+
+    private static List<String> orderGroups(Map<String, List<Object>> groupedFacts, List<FactJoin> joins) {
+        List<String> order = new ArrayList<>(groupedFacts.size());
+        Set<String> pending = new LinkedHashSet<>(groupedFacts.keySet());
+        while (!pending.isEmpty()) {
+            String next = pending.iterator().next();
+            for (String identifier : pending) {
+                if (isJoined(identifier, order, joins)) {
+                    next = identifier;
+                    break;
+                }
+            }
+            order.add(next);
+            pending.remove(next);
+        }
+        return order;
+    }
+
+    private static boolean isJoined(String identifier, List<String> visited, List<FactJoin> joins) {
+        for (FactJoin join : joins) {
+            if (Objects.equals(identifier, join.getLeftIdentifier()) && visited.contains(join.getRightIdentifier())
+                    || Objects.equals(identifier, join.getRightIdentifier()) && visited.contains(join.getLeftIdentifier())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Level {
+        private final int slot;
+        private final List<Object> facts;
+        private final List<ValueProvider[]> conditions;
+        private final Map<Object, List<Object>> index;
+        private List<Object> candidates;
+        private int position;
+
+        private Level(int slot, List<Object> facts, List<ValueProvider[]> conditions, Map<Object, List<Object>> index) {
+            this.slot = slot;
+            this.facts = facts;
+            this.conditions = conditions;
+            this.index = index;
+        }
+
+        private void reset(PredicateContext context) {
+            position = 0;
+            if (index == null) {
+                candidates = facts;
+                return;
+            }
+            Object key = conditions.get(0)[1].get(context);
+            candidates = key != null ? index.getOrDefault(key, Collections.emptyList()) : Collections.emptyList();
+        }
+
+        private boolean next(FactTuple factTuple, PredicateContext context) {
+            while (position < candidates.size()) {
+                factTuple.set(slot, candidates.get(position++));
+                if (matches(context)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // the first condition is satisfied by the index lookup
+        private boolean matches(PredicateContext context) {
+            for (int i = 1; i < conditions.size(); i++) {
+                Object value = conditions.get(i)[0].get(context);
+                if (value == null || !value.equals(conditions.get(i)[1].get(context))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
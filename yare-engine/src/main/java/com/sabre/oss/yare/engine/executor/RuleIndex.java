@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+
+import java.util.*;
+
+/**
+ * {@link RuleIndex} is a hash index of rules which (as one of top-level conjuncts) compare
+ * fact path with a constant value, e.g. {@code ${flight.carrier} == "AA"}.
+ * <p>
+ * Each indexed path is read once per fact tuple and only rules whose constant is equal to the read
+ * value (plus rules not being indexed at all) are selected for evaluation. Positions returned by
+ * {@link #select(PredicateContext)} are sorted, so original (priority) order of rules is preserved.
+ */
+public final class RuleIndex {
+    private static final int[] EMPTY = new int[0];
+
+    private final PathEntry[] entries;
+    private final int[] unindexed;
+
+    private RuleIndex(PathEntry[] entries, int[] unindexed) {
+        this.entries = entries;
+        this.unindexed = unindexed;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns positions of rules that may match given fact tuple.
+     *
+     * @param context context resolving facts of current tuple
+     * @return ascending positions of candidate rules
+     */
+    public int[] select(PredicateContext context) {
+        int[][] hits = new int[entries.length][];
+        int total = unindexed.length;
+        for (int i = 0; i < entries.length; i++) {
+            hits[i] = entries[i].lookup(context);
+            total += hits[i].length;
+        }
+        if (total == unindexed.length) {
+            return unindexed;
+        }
+        int[] positions = Arrays.copyOf(unindexed, total);
+        int offset = unindexed.length;
+        for (int[] hit : hits) {
+            System.arraycopy(hit, 0, positions, offset, hit.length);
+            offset += hit.length;
+        }
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    /**
+     * Returns number of distinct fact paths read by this index.
+     *
+     * @return number of indexed paths
+     */
+    public int getIndexedPathsCount() {
+        return entries.length;
+    }
+
+    /**
+     * Returns constants indexed rules compare fact paths with, grouped by path keys.
+     *
+     * @return constants per path key
+     */
+    Map<Object, Set<Object>> getIndexedConstants() {
+        Map<Object, Set<Object>> constants = new LinkedHashMap<>();
+        for (PathEntry entry : entries) {
+            constants.put(entry.pathKey, entry.positionsByConstant.keySet());
+        }
+        return constants;
+    }
+
+    private static final class PathEntry {
+        private final Object pathKey;
+        private final ValueProvider valueProvider;
+        private final Map<Object, int[]> positionsByConstant;
+        private final int[] allPositions;
+
+        private PathEntry(Object pathKey, ValueProvider valueProvider, Map<Object, int[]> positionsByConstant, int[] allPositions) {
+            this.pathKey = pathKey;
+            this.valueProvider = valueProvider;
+            this.positionsByConstant = positionsByConstant;
+            this.allPositions = allPositions;
+        }
+
+        private int[] lookup(PredicateContext context) {
+            Object value;
+            try {
+                value = valueProvider.get(context);
+            } catch (RuntimeException e) {
+                // path cannot be read for this tuple (e.g. fact is missing), let the rules decide on their own
+                return allPositions;
+            }
+            if (value == null) {
+                return EMPTY;
+            }
+            return positionsByConstant.getOrDefault(value, EMPTY);
+        }
+    }
+
+    static final class Builder {
+        private final Map<Object, ValueProvider> providers = new LinkedHashMap<>();
+        private final Map<Object, Map<Object, List<Integer>>> positions = new HashMap<>();
+        private final List<Integer> unindexed = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        Builder withIndexed(Object pathKey, ValueProvider valueProvider, Object constant, int position) {
+            providers.putIfAbsent(pathKey, valueProvider);
+            positions.computeIfAbsent(pathKey, k -> new HashMap<>())
+                    .computeIfAbsent(constant, k -> new ArrayList<>())
+                    .add(position);
+            return this;
+        }
+
+        Builder withUnindexed(int position) {
+            unindexed.add(position);
+            return this;
+        }
+
+        RuleIndex build() {
+            PathEntry[] entries = new PathEntry[providers.size()];
+            int i = 0;
+            for (Map.Entry<Object, ValueProvider> provider : providers.entrySet()) {
+                Map<Object, int[]> positionsByConstant = new HashMap<>();
+                List<Integer> allPositions = new ArrayList<>();
+                for (Map.Entry<Object, List<Integer>> constant : positions.get(provider.getKey()).entrySet()) {
+                    positionsByConstant.put(constant.getKey(), toArray(constant.getValue()));
+                    allPositions.addAll(constant.getValue());
+                }
+                entries[i++] = new PathEntry(provider.getKey(), provider.getValue(), positionsByConstant, toArray(allPositions));
+            }
+            return new RuleIndex(entries, toArray(unindexed));
+        }
+
+        private static int[] toArray(List<Integer> positions) {
+            return positions.stream().mapToInt(Integer::intValue).sorted().toArray();
+        }
+    }
+}
@@ -26,19 +26,40 @@ package com.sabre.oss.yare.engine.executor;
 
 import com.sabre.oss.yare.core.call.ProcessingContext;
 import com.sabre.oss.yare.core.invocation.Invocation;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTupleLayout;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 public class RuntimeRules {
     private final List<RuntimeRules.ExecutableRule> executableRules;
     private final Map<Type, String> factNames;
+    private final RuleIndex ruleIndex;
+    private final FactTupleLayout factTupleLayout;
+    private final List<FactJoin> factJoins;
 
     public RuntimeRules(List<ExecutableRule> executableRules, Map<Type, String> factNames) {
+        this(executableRules, factNames, null);
+    }
+
+    public RuntimeRules(List<ExecutableRule> executableRules, Map<Type, String> factNames, RuleIndex ruleIndex) {
+        this(executableRules, factNames, ruleIndex, FactTupleLayout.of(factNames.values()));
+    }
+
+    public RuntimeRules(List<ExecutableRule> executableRules, Map<Type, String> factNames, RuleIndex ruleIndex, FactTupleLayout factTupleLayout) {
+        this(executableRules, factNames, ruleIndex, factTupleLayout, Collections.emptyList());
+    }
+
+    public RuntimeRules(List<ExecutableRule> executableRules, Map<Type, String> factNames, RuleIndex ruleIndex, FactTupleLayout factTupleLayout,
+                        List<FactJoin> factJoins) {
         this.executableRules = executableRules;
         this.factNames = factNames;
+        this.ruleIndex = ruleIndex;
+        this.factTupleLayout = factTupleLayout;
+        this.factJoins = factJoins;
     }
 
     public List<ExecutableRule> getExecutableRules() {
@@ -49,23 +70,61 @@ public class RuntimeRules {
         return factNames;
     }
 
+    /**
+     * Returns index of rules comparing fact paths with constants.
+     *
+     * @return rule index or null when not available
+     */
+    public RuleIndex getRuleIndex() {
+        return ruleIndex;
+    }
+
+    /**
+     * Returns layout of fact tuples, the predicates of rules are compiled against.
+     *
+     * @return fact tuple layout
+     */
+    public FactTupleLayout getFactTupleLayout() {
+        return factTupleLayout;
+    }
+
+    /**
+     * Returns equality conditions between facts, which are required by all rules.
+     *
+     * @return common fact joins (empty if there are none)
+     */
+    public List<FactJoin> getFactJoins() {
+        return factJoins;
+    }
+
     public static final class ExecutableRule {
         private final String ruleId;
         private final Predicate predicate;
         private final Invocation<ProcessingContext, Void> consequence;
         private final Map<String, Object> attributes;
         private final long order;
+        private final boolean callingFunctions;
 
-        private ExecutableRule(String ruleId, Map<String, Object> attributes, Predicate predicate, Invocation<ProcessingContext, Void> consequence, long order) {
+        private ExecutableRule(String ruleId, Map<String, Object> attributes, Predicate predicate, Invocation<ProcessingContext, Void> consequence, long order,
+                               boolean callingFunctions) {
             this.ruleId = ruleId;
             this.attributes = attributes;
             this.predicate = predicate;
             this.consequence = consequence;
             this.order = order;
+            this.callingFunctions = callingFunctions;
         }
 
+        /**
+         * Creates rule which predicate is assumed to call functions.
+         */
         public static ExecutableRule of(String ruleId, Map<String, Object> attributeMap, Predicate predicate, Invocation<ProcessingContext, Void> consequence, long order) {
-            return new ExecutableRule(ruleId, attributeMap, predicate, consequence, order);
+            return of(ruleId, attributeMap, predicate, consequence, order, true);
+        }
+
+        public static ExecutableRule of(String ruleId, Map<String, Object> attributeMap, Predicate predicate, Invocation<ProcessingContext, Void> consequence, long order,
+                                        boolean callingFunctions) {
+            return new ExecutableRule(ruleId, attributeMap, predicate, consequence, order, callingFunctions);
         }
 
         public String getRuleId() {
@@ -87,5 +146,15 @@ public class RuntimeRules {
         public long getOrder() {
             return order;
         }
+
+        /**
+         * Tells whether evaluation of the predicate may call functions, so it may have effects beyond the rule
+         * (such as populating function result caches).
+         *
+         * @return true if predicate calls or may call functions
+         */
+        public boolean isCallingFunctions() {
+            return callingFunctions;
+        }
     }
 }
@@ -32,54 +32,94 @@ import com.sabre.oss.yare.core.model.Attribute;
 import com.sabre.oss.yare.core.model.Expression;
 import com.sabre.oss.yare.core.model.Fact;
 import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.core.reference.PlaceholderUtils;
 import com.sabre.oss.yare.core.reference.ReferenceFactory;
 import com.sabre.oss.yare.core.reference.ValueConverter;
 import com.sabre.oss.yare.core.reference.ValueFactory;
+import com.sabre.oss.yare.engine.executor.runtime.operator.logical.And;
 import com.sabre.oss.yare.engine.executor.runtime.operator.logical.False;
+import com.sabre.oss.yare.engine.executor.runtime.operator.logical.Not;
+import com.sabre.oss.yare.engine.executor.runtime.operator.logical.Or;
 import com.sabre.oss.yare.engine.executor.runtime.operator.logical.True;
+import com.sabre.oss.yare.engine.executor.runtime.operator.relation.Eq;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTupleLayout;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactory;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.SharedPredicate;
 import com.sabre.oss.yare.engine.executor.runtime.validator.RuntimeInputValidator;
+import com.sabre.oss.yare.engine.executor.runtime.value.PropertyAccessorFactory;
 import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
 import com.sabre.oss.yare.engine.executor.runtime.value.ValueProviderFactory;
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.reflect.TypeUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Type;
+import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 
 public class RuntimeRulesBuilder implements RuleComponentsFactoryFacade {
     private static final Logger log = LoggerFactory.getLogger(RuntimeRulesBuilder.class);
+    private static final Set<Class<?>> INDEXABLE_CONSTANT_TYPES = new HashSet<>(Arrays.asList(
+            String.class, Character.class, Boolean.class, Byte.class, Short.class, Integer.class, Long.class));
+    private static final ValueFactory<ValueProvider> VALUE_PROVIDER_VALUE_FACTORY = new ValueProviderValueFactory();
 
     private final PredicateFactory predicateFactory;
     private final FunctionFactory functionFactory;
     private final ConsequenceFactory consequenceFactory;
+    private final PropertyAccessorFactory propertyAccessorFactory;
     private final ValueConverter<ValueProvider> valueProviderConverter;
     private final ValueConverter<Predicate> predicateValueConverter;
 
     public RuntimeRulesBuilder(PredicateFactory predicateFactory, FunctionFactory functionFactory, ConsequenceFactory consequenceFactory) {
+        this(predicateFactory, functionFactory, consequenceFactory, new PropertyAccessorFactory());
+    }
+
+    public RuntimeRulesBuilder(PredicateFactory predicateFactory, FunctionFactory functionFactory, ConsequenceFactory consequenceFactory,
+                               PropertyAccessorFactory propertyAccessorFactory) {
         this.predicateFactory = predicateFactory;
         this.functionFactory = requireNonNull(functionFactory);
         this.consequenceFactory = requireNonNull(consequenceFactory);
-        this.valueProviderConverter = new ValueConverter<>(new ValueProviderReferenceFactory(), new ValueProviderValueFactory());
-        this.predicateValueConverter = new ValueConverter<>(new PredicateReferenceFactory(), new PredicateValueFactory());
+        this.propertyAccessorFactory = requireNonNull(propertyAccessorFactory);
+        this.valueProviderConverter = new ValueConverter<>(new ValueProviderReferenceFactory(propertyAccessorFactory), VALUE_PROVIDER_VALUE_FACTORY);
+        this.predicateValueConverter = new ValueConverter<>(new PredicateReferenceFactory(propertyAccessorFactory), new PredicateValueFactory());
     }
 
     public RuntimeRules build(Collection<Rule> rules) {
         Map<Type, String> factNames = new HashMap<>();
+        FactTupleLayout factSlots = FactTupleLayout.of(rules.stream()
+                .flatMap(rule -> rule.getFacts().stream())
+                .map(Fact::getIdentifier)
+                .collect(Collectors.toList()));
+        FactTupleLayout factTupleLayout = factSlots.withProjections(findSharedProjections(rules, factSlots));
         List<RuntimeRules.ExecutableRule> executableRules = new ArrayList<>(rules.size());
+        RuleIndex.Builder ruleIndexBuilder = RuleIndex.builder();
+        Map<String, FactJoin> commonJoins = null;
+        Map<Object, Object> sharedComponents = new HashMap<>();
         for (Rule rule : rules) {
             factNames.putAll(rule.getFacts().stream()
                     .collect(Collectors.toMap(Fact::getType, Fact::getIdentifier)));
-            RuntimeRules.ExecutableRule runtimeRule = build(rule);
+            PredicateFactoryContext factoryContext = new PredicateFactoryContext(rule, this, factTupleLayout, sharedComponents);
+            RuntimeRules.ExecutableRule runtimeRule = build(factoryContext);
+            index(factoryContext, executableRules.size(), ruleIndexBuilder);
+            Map<String, FactJoin> joins = findJoins(factoryContext);
+            if (commonJoins == null) {
+                commonJoins = joins;
+            } else {
+                commonJoins.keySet().retainAll(joins.keySet());
+            }
             executableRules.add(runtimeRule);
         }
-        return new RuntimeRules(executableRules, factNames);
+        List<FactJoin> factJoins = commonJoins != null ? new ArrayList<>(commonJoins.values()) : Collections.emptyList();
+        return new RuntimeRules(executableRules, factNames, ruleIndexBuilder.build(), factTupleLayout, factJoins);
     }
 
     @Override
@@ -90,7 +130,14 @@ public class RuntimeRulesBuilder implements RuleComponentsFactoryFacade {
         }
         if (expression instanceof Expression.Operator) {
             Expression.Operator operator = (Expression.Operator) expression;
-            return predicateFactory.create(context, operator);
+            FactTupleLayout layout = context.getFactTupleLayout();
+            Object key = layout != null ? structuralKey(context.getRule(), operator) : null;
+            int projection = key != null ? layout.projectionOf(Pair.of(SharedPredicate.class, key)) : -1;
+            if (projection < 0) {
+                return predicateFactory.create(context, operator);
+            }
+            return context.getSharedComponent(Pair.of(SharedPredicate.class, key),
+                    () -> new SharedPredicate(predicateFactory.create(context, operator), layout, projection));
         }
         if (expression instanceof Expression.Function) {
             if (isNotBoolean(expression.getType())) {
@@ -105,13 +152,20 @@ public class RuntimeRulesBuilder implements RuleComponentsFactoryFacade {
     public ValueProvider createValueProvider(PredicateFactoryContext context, Expression expression) {
         if (expression instanceof Expression.Value) {
             Expression.Value value = (Expression.Value) expression;
+            if (context.getFactTupleLayout() != null && isFactReference(context.getRule(), value)) {
+                return getSharedValueProvider(context, value, () -> new ValueConverter<>(
+                        new FactReferenceFactory(propertyAccessorFactory, context.getFactTupleLayout()), VALUE_PROVIDER_VALUE_FACTORY)
+                        .create(context.getRule(), value));
+            }
             return valueProviderConverter.create(context.getRule(), value);
         }
         if (expression instanceof Expression.Values) {
-            List<ValueProvider> values = ((Expression.Values) expression).getValues().stream()
-                    .map(v -> createValueProvider(context, v))
-                    .collect(Collectors.toList());
-            return ValueProviderFactory.createFromValues(expression.getType(), values);
+            return getSharedValueProvider(context, expression, () -> {
+                List<ValueProvider> values = ((Expression.Values) expression).getValues().stream()
+                        .map(v -> createValueProvider(context, v))
+                        .collect(Collectors.toList());
+                return ValueProviderFactory.createFromValues(expression.getType(), values);
+            });
         }
         if (expression instanceof Expression.Function) {
             Expression.Function function = (Expression.Function) expression;
@@ -121,7 +175,108 @@ public class RuntimeRulesBuilder implements RuleComponentsFactoryFacade {
         throw new IllegalArgumentException(String.format("Unsupported expression: %s", expression));
     }
 
-    private RuntimeRules.ExecutableRule build(Rule rule) {
+    /**
+     * Returns value provider shared by all rules of the rule set referring to structurally equal expression.
+     */
+    private static ValueProvider getSharedValueProvider(PredicateFactoryContext context, Expression expression, Supplier<ValueProvider> factory) {
+        Object key = context.getFactTupleLayout() != null ? structuralKey(context.getRule(), expression) : null;
+        return key != null
+                ? context.getSharedComponent(Pair.of(ValueProvider.class, key), factory)
+                : factory.get();
+    }
+
+    /**
+     * Finds projections computed by more than one condition of the rules: paths of facts read by operators
+     * and conditions shared by rules (see {@link #structuralKey}). Only these are worth memoizing per fact tuple.
+     */
+    private static Set<Object> findSharedProjections(Collection<Rule> rules, FactTupleLayout layout) {
+        Map<Object, Integer> usages = new HashMap<>();
+        for (Rule rule : rules) {
+            countPredicateProjections(rule, rule.getPredicate(), layout, usages);
+        }
+        return usages.entrySet().stream()
+                .filter(usage -> usage.getValue() > 1)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static void countPredicateProjections(Rule rule, Expression expression, FactTupleLayout layout, Map<Object, Integer> usages) {
+        if (!(expression instanceof Expression.Operator)) {
+            return;
+        }
+        Expression.Operator operator = (Expression.Operator) expression;
+        Object key = structuralKey(rule, operator);
+        // shared condition is evaluated once per tuple, so projections it computes are counted once
+        if (key != null && usages.merge(Pair.of(SharedPredicate.class, key), 1, Integer::sum) > 1) {
+            return;
+        }
+        boolean logical = isOperator(operator, And.OPERATOR_NAME) || isOperator(operator, Or.OPERATOR_NAME) || isOperator(operator, Not.OPERATOR_NAME);
+        for (Expression argument : operator.getArguments()) {
+            if (logical) {
+                countPredicateProjections(rule, argument, layout, usages);
+            } else {
+                countValueProjections(rule, argument, layout, usages);
+            }
+        }
+    }
+
+    private static void countValueProjections(Rule rule, Expression expression, FactTupleLayout layout, Map<Object, Integer> usages) {
+        if (expression instanceof Expression.Values) {
+            for (Expression value : ((Expression.Values) expression).getValues()) {
+                countValueProjections(rule, value, layout, usages);
+            }
+        } else if (expression instanceof Expression.Value && isFactReference(rule, (Expression.Value) expression)) {
+            String reference = PlaceholderUtils.extract((Expression.Value) expression).get();
+            int dotIndex = reference.indexOf('.');
+            int slot = layout.slotOf(dotIndex > -1 ? reference.substring(0, dotIndex) : reference);
+            if (dotIndex > -1 && slot >= 0) {
+                usages.merge(FactTupleLayout.pathProjectionKey(slot, reference.substring(dotIndex + 1)), 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Returns key equal for structurally equal expressions, which are evaluated the same way by every rule,
+     * i.e. depend on constants and facts only.
+     *
+     * @return key of the expression or {@code null} when it refers to functions, attributes or context of the rule
+     */
+    private static Object structuralKey(Rule rule, Expression expression) {
+        if (expression instanceof Expression.Value) {
+            Expression.Value value = (Expression.Value) expression;
+            Optional<String> reference = PlaceholderUtils.extract(value);
+            if (!reference.isPresent()) {
+                return Arrays.asList(value.getType(), PlaceholderUtils.unescape(value).orElse(value.getValue()));
+            }
+            if (!isFactReference(rule, value)) {
+                return null;
+            }
+            String identifier = reference.get().split("\\.", 2)[0];
+            return Arrays.asList(value.getType(), rule.getFact(identifier).getType(), reference.get());
+        }
+        List<Expression> arguments;
+        if (expression instanceof Expression.Values) {
+            arguments = ((Expression.Values) expression).getValues();
+        } else if (expression instanceof Expression.Operator) {
+            arguments = ((Expression.Operator) expression).getArguments();
+        } else {
+            return null;
+        }
+        List<Object> key = new ArrayList<>(arguments.size() + 2);
+        key.add(expression instanceof Expression.Operator ? ((Expression.Operator) expression).getCall() : Expression.Values.class);
+        key.add(expression.getType());
+        for (Expression argument : arguments) {
+            Object argumentKey = structuralKey(rule, argument);
+            if (argumentKey == null) {
+                return null;
+            }
+            key.add(argumentKey);
+        }
+        return key;
+    }
+
+    private RuntimeRules.ExecutableRule build(PredicateFactoryContext factoryContext) {
+        Rule rule = factoryContext.getRule();
         Attribute ruleNameAttr = rule.getAttribute("ruleName");
         Attribute priorityAttr = rule.getAttribute("priority");
         String ruleName = ruleNameAttr != null ? (String) ruleNameAttr.getValue() : null;
@@ -130,11 +285,129 @@ public class RuntimeRulesBuilder implements RuleComponentsFactoryFacade {
             ruleName = "id-" + Long.toHexString(System.identityHashCode(rule));
             log.warn("'ruleName' property not defined. Created identifier {}", ruleName);
         }
-        PredicateFactoryContext factoryContext = new PredicateFactoryContext(rule, this);
         Predicate predicate = RuntimeInputValidator.of(rule.getFacts(), createPredicate(factoryContext, rule.getPredicate()));
         Invocation<ProcessingContext, Void> consequence = prepareConsequence(rule);
 
-        return RuntimeRules.ExecutableRule.of(ruleName, createAttributeMap(rule), predicate, consequence, priority.longValue());
+        return RuntimeRules.ExecutableRule.of(ruleName, createAttributeMap(rule), predicate, consequence, priority.longValue(),
+                callsFunctions(rule.getPredicate()));
+    }
+
+    private static boolean callsFunctions(Expression expression) {
+        if (expression instanceof Expression.Function) {
+            return true;
+        }
+        List<Expression> arguments = expression instanceof Expression.Operator
+                ? ((Expression.Operator) expression).getArguments()
+                : expression instanceof Expression.Values ? ((Expression.Values) expression).getValues() : Collections.emptyList();
+        for (Expression argument : arguments) {
+            if (callsFunctions(argument)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void index(PredicateFactoryContext factoryContext, int position, RuleIndex.Builder ruleIndexBuilder) {
+        for (Expression conjunct : getConjuncts(factoryContext.getRule())) {
+            if (isOperator(conjunct, Eq.OPERATOR_NAME) && ((Expression.Operator) conjunct).getArguments().size() == 2) {
+                List<Expression> arguments = ((Expression.Operator) conjunct).getArguments();
+                if (tryIndex(factoryContext, arguments.get(0), arguments.get(1), position, ruleIndexBuilder)
+                        || tryIndex(factoryContext, arguments.get(1), arguments.get(0), position, ruleIndexBuilder)) {
+                    return;
+                }
+            }
+        }
+        ruleIndexBuilder.withUnindexed(position);
+    }
+
+    private boolean tryIndex(PredicateFactoryContext context, Expression path, Expression constant, int position, RuleIndex.Builder ruleIndexBuilder) {
+        if (!(path instanceof Expression.Value) || !(constant instanceof Expression.Value)) {
+            return false;
+        }
+        Optional<String> reference = PlaceholderUtils.extract((Expression.Value) path);
+        if (!reference.isPresent() || PlaceholderUtils.extract((Expression.Value) constant).isPresent()) {
+            return false;
+        }
+        Rule rule = context.getRule();
+        if (!isFactReference(rule, (Expression.Value) path)) {
+            return false;
+        }
+        String identifier = reference.get().split("\\.", 2)[0];
+        Object value = PlaceholderUtils.unescape((Expression.Value) constant).orElse(((Expression.Value) constant).getValue());
+        if (value == null || !(INDEXABLE_CONSTANT_TYPES.contains(value.getClass()) || value instanceof Enum)) {
+            return false;
+        }
+        ValueProvider valueProvider = createValueProvider(context, path);
+        if (valueProvider == null || isNotIndexable(valueProvider.getType())) {
+            return false;
+        }
+        Object pathKey = Pair.of(rule.getFact(identifier).getType(), reference.get());
+        ruleIndexBuilder.withIndexed(pathKey, valueProvider, value, position);
+        return true;
+    }
+
+    private Map<String, FactJoin> findJoins(PredicateFactoryContext context) {
+        Map<String, FactJoin> joins = new LinkedHashMap<>();
+        Rule rule = context.getRule();
+        for (Expression conjunct : getConjuncts(rule)) {
+            if (!isOperator(conjunct, Eq.OPERATOR_NAME) || ((Expression.Operator) conjunct).getArguments().size() != 2) {
+                continue;
+            }
+            List<Expression> arguments = ((Expression.Operator) conjunct).getArguments();
+            if (!(arguments.get(0) instanceof Expression.Value) || !(arguments.get(1) instanceof Expression.Value)) {
+                continue;
+            }
+            Expression.Value left = (Expression.Value) arguments.get(0);
+            Expression.Value right = (Expression.Value) arguments.get(1);
+            if (!isFactReference(rule, left) || !isFactReference(rule, right)) {
+                continue;
+            }
+            String leftReference = PlaceholderUtils.extract(left).get();
+            String rightReference = PlaceholderUtils.extract(right).get();
+            String leftIdentifier = leftReference.split("\\.", 2)[0];
+            String rightIdentifier = rightReference.split("\\.", 2)[0];
+            if (leftIdentifier.equals(rightIdentifier)) {
+                continue;
+            }
+            ValueProvider leftValueProvider = createValueProvider(context, left);
+            ValueProvider rightValueProvider = createValueProvider(context, right);
+            if (!isJoinable(leftValueProvider.getType()) || !isJoinable(rightValueProvider.getType())) {
+                continue;
+            }
+            String leftKey = rule.getFact(leftIdentifier).getType().getTypeName() + ':' + leftReference;
+            String rightKey = rule.getFact(rightIdentifier).getType().getTypeName() + ':' + rightReference;
+            String key = leftKey.compareTo(rightKey) < 0 ? leftKey + '=' + rightKey : rightKey + '=' + leftKey;
+            joins.putIfAbsent(key, new FactJoin(leftIdentifier, leftValueProvider, rightIdentifier, rightValueProvider));
+        }
+        return joins;
+    }
+
+    private static List<Expression> getConjuncts(Rule rule) {
+        Expression predicate = rule.getPredicate();
+        return isOperator(predicate, And.OPERATOR_NAME)
+                ? ((Expression.Operator) predicate).getArguments()
+                : Collections.singletonList(predicate);
+    }
+
+    private static boolean isJoinable(Type type) {
+        Class<?> rawType = ClassUtils.primitiveToWrapper(TypeUtils.getRawType(type, null));
+        return rawType != null && (INDEXABLE_CONSTANT_TYPES.contains(rawType) || rawType.isEnum());
+    }
+
+    private static boolean isFactReference(Rule rule, Expression.Value value) {
+        return PlaceholderUtils.extract(value)
+                .map(reference -> reference.split("\\.", 2)[0])
+                .filter(identifier -> !PredicateContext.isReserved(identifier) && rule.getAttribute(identifier) == null && rule.getFact(identifier) != null)
+                .isPresent();
+    }
+
+    private static boolean isOperator(Expression expression, String name) {
+        return expression instanceof Expression.Operator && name.equals(((Expression.Operator) expression).getCall());
+    }
+
+    private static boolean isNotIndexable(Type type) {
+        Class<?> rawType = TypeUtils.getRawType(type, null);
+        return rawType == null || rawType.isArray() || ZonedDateTime.class.isAssignableFrom(rawType);
     }
 
     private Map<String, Object> createAttributeMap(Rule rule) {
@@ -150,6 +423,11 @@ public class RuntimeRulesBuilder implements RuleComponentsFactoryFacade {
     }
 
     private static class ValueProviderReferenceFactory implements ReferenceFactory<ValueProvider> {
+        private final PropertyAccessorFactory propertyAccessorFactory;
+
+        ValueProviderReferenceFactory(PropertyAccessorFactory propertyAccessorFactory) {
+            this.propertyAccessorFactory = propertyAccessorFactory;
+        }
 
         @Override
         public ValueProvider create(String name, Type baseReferenceType, Type referenceType, String reference) {
@@ -163,15 +441,40 @@ public class RuntimeRulesBuilder implements RuleComponentsFactoryFacade {
             }
 
             return ValueProviderFactory.createFromPath(
+                    propertyAccessorFactory,
                     TypeUtils.getRawType(baseReferenceType, null),
                     referenceName,
-                    TypeUtils.getRawType(referenceType, null),
                     path);
         }
     }
 
+    private static class FactReferenceFactory implements ReferenceFactory<ValueProvider> {
+        private final PropertyAccessorFactory propertyAccessorFactory;
+        private final FactTupleLayout factTupleLayout;
+
+        FactReferenceFactory(PropertyAccessorFactory propertyAccessorFactory, FactTupleLayout factTupleLayout) {
+            this.propertyAccessorFactory = propertyAccessorFactory;
+            this.factTupleLayout = factTupleLayout;
+        }
+
+        @Override
+        public ValueProvider create(String name, Type baseReferenceType, Type referenceType, String reference) {
+            int dotIndex = reference.indexOf('.');
+            return ValueProviderFactory.createFromFactPath(
+                    propertyAccessorFactory,
+                    TypeUtils.getRawType(baseReferenceType, null),
+                    dotIndex > -1 ? reference.substring(0, dotIndex) : reference,
+                    dotIndex > -1 ? reference.substring(dotIndex + 1) : null,
+                    factTupleLayout);
+        }
+    }
+
     private static class PredicateReferenceFactory extends ValueProviderReferenceFactory {
 
+        PredicateReferenceFactory(PropertyAccessorFactory propertyAccessorFactory) {
+            super(propertyAccessorFactory);
+        }
+
         @Override
         public ValueProvider create(String name, Type baseReferenceType, Type referenceType, String reference) {
             if (isNotBoolean(referenceType)) {
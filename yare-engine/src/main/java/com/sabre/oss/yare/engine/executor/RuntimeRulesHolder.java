@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor;
+
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Holds versions of {@link RuntimeRules} of a single rules execution set.
+ * <p>
+ * The first version is loaded by the calling thread. Once refresh time passes, the next version is loaded
+ * in background and swapped in atomically, so executions always use the newest loaded version and never
+ * wait for reload.
+ */
+final class RuntimeRulesHolder {
+    private static final Logger log = LoggerFactory.getLogger(RuntimeRulesHolder.class);
+
+    private final String uri;
+    private final Function<String, RuntimeRules> loader;
+    private final Executor reloadExecutor;
+    private final long refreshNanos;
+    private final AtomicReference<Version> current = new AtomicReference<>();
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    private volatile boolean evicted;
+
+    RuntimeRulesHolder(String uri, Function<String, RuntimeRules> loader, Executor reloadExecutor, Duration refreshTime) {
+        this.uri = uri;
+        this.loader = loader;
+        this.reloadExecutor = reloadExecutor;
+        this.refreshNanos = refreshTime.toNanos();
+    }
+
+    RuntimeRules get() {
+        Version version = current.get();
+        if (version == null) {
+            return loadFirstVersion();
+        }
+        if (System.nanoTime() - version.loadedAt >= refreshNanos && reloading.compareAndSet(false, true)) {
+            scheduleReload(version);
+        }
+        return version.rules;
+    }
+
+    long getVersion() {
+        Version version = current.get();
+        return version != null ? version.number : 0L;
+    }
+
+    boolean isEvicted() {
+        return evicted;
+    }
+
+    void evict() {
+        evicted = true;
+    }
+
+    private synchronized RuntimeRules loadFirstVersion() {
+        Version version = current.get();
+        if (version == null) {
+            try {
+                version = new Version(1L, loader.apply(uri));
+            } catch (RuntimeException e) {
+                // keeps failures reported the same way as when rules were loaded by Guava cache
+                throw new UncheckedExecutionException(e);
+            }
+            current.set(version);
+        }
+        return version.rules;
+    }
+
+    private void scheduleReload(Version previous) {
+        try {
+            reloadExecutor.execute(() -> reload(previous));
+        } catch (RejectedExecutionException e) {
+            log.warn("Reload of rules '{}' rejected, version {} stays in use", uri, previous.number, e);
+            reloading.set(false);
+        }
+    }
+
+    private void reload(Version previous) {
+        try {
+            current.compareAndSet(previous, new Version(previous.number + 1, loader.apply(uri)));
+        } catch (RuntimeException e) {
+            log.error("Reload of rules '{}' failed, version {} stays in use", uri, previous.number, e);
+            // postpone next attempt by another refresh period
+            current.compareAndSet(previous, new Version(previous.number, previous.rules));
+        } finally {
+            reloading.set(false);
+        }
+    }
+
+    private static final class Version {
+        private final long number;
+        private final RuntimeRules rules;
+        private final long loadedAt = System.nanoTime();
+
+        private Version(long number, RuntimeRules rules) {
+            this.number = number;
+            this.rules = rules;
+        }
+    }
+}
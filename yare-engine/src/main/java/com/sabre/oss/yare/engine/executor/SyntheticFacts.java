@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTuple;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTupleLayout;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * Builds facts used by warm-up evaluations of {@link RuntimeRules}.
+ * <p>
+ * Facts are instantiated with no-argument constructors. Properties compared by indexed rules with constants
+ * (e.g. {@code ${flight.carrier} == "AA"}) are set to these constants, taking consecutive constants in consecutive
+ * evaluations, so that different rules get matched. Final fields are never overwritten and fact types which cannot
+ * be instantiated are left out.
+ */
+final class SyntheticFacts {
+    private final FactTupleLayout layout;
+    private final Map<String, Constructor<?>> constructors;
+    private final List<Assignment> assignments;
+
+    private SyntheticFacts(FactTupleLayout layout, Map<String, Constructor<?>> constructors, List<Assignment> assignments) {
+        this.layout = layout;
+        this.constructors = constructors;
+        this.assignments = assignments;
+    }
+
+    static SyntheticFacts of(RuntimeRules runtimeRules) {
+        Map<String, Constructor<?>> constructors = new HashMap<>();
+        for (Map.Entry<Type, String> factName : runtimeRules.getFactNames().entrySet()) {
+            Constructor<?> constructor = findConstructor(factName.getKey());
+            if (constructor != null) {
+                constructors.put(factName.getValue(), constructor);
+            }
+        }
+        List<Assignment> assignments = new ArrayList<>();
+        RuleIndex ruleIndex = runtimeRules.getRuleIndex();
+        if (ruleIndex != null) {
+            for (Map.Entry<Object, Set<Object>> constants : ruleIndex.getIndexedConstants().entrySet()) {
+                String reference = (String) ((Pair<?, ?>) constants.getKey()).getValue();
+                String[] path = reference.split("\\.");
+                if (path.length == 2 && constructors.containsKey(path[0])) {
+                    assignments.add(new Assignment(path[0], path[1], new ArrayList<>(constants.getValue())));
+                }
+            }
+        }
+        return new SyntheticFacts(runtimeRules.getFactTupleLayout(), constructors, assignments);
+    }
+
+    boolean isEmpty() {
+        return constructors.isEmpty();
+    }
+
+    FactTuple create(int evaluation) {
+        Map<String, Object> facts = new HashMap<>();
+        for (Map.Entry<String, Constructor<?>> constructor : constructors.entrySet()) {
+            try {
+                facts.put(constructor.getKey(), constructor.getValue().newInstance());
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // fact stays missing, rules referring to it are evaluated as with missing input
+            }
+        }
+        for (Assignment assignment : assignments) {
+            Object fact = facts.get(assignment.identifier);
+            if (fact != null) {
+                assignment.apply(fact, evaluation);
+            }
+        }
+        FactTuple factTuple = new FactTuple(layout);
+        for (Map.Entry<String, Object> fact : facts.entrySet()) {
+            factTuple.set(layout.slotOf(fact.getKey()), fact.getValue());
+        }
+        return factTuple;
+    }
+
+    private static Constructor<?> findConstructor(Type type) {
+        if (!(type instanceof Class) || ((Class<?>) type).isInterface() || Modifier.isAbstract(((Class<?>) type).getModifiers())) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor = ((Class<?>) type).getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class Assignment {
+        private final String identifier;
+        private final String property;
+        private final List<Object> constants;
+
+        private Assignment(String identifier, String property, List<Object> constants) {
+            this.identifier = identifier;
+            this.property = property;
+            this.constants = constants;
+        }
+
+        private void apply(Object fact, int evaluation) {
+            Object constant = constants.get(evaluation % constants.size());
+            try {
+                if (!invokeSetter(fact, constant)) {
+                    setField(fact, constant);
+                }
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // property keeps its default value
+            }
+        }
+
+        private boolean invokeSetter(Object fact, Object constant) throws ReflectiveOperationException {
+            String setterName = "set" + StringUtils.capitalize(property);
+            for (Method method : fact.getClass().getMethods()) {
+                if (method.getName().equals(setterName) && method.getParameterCount() == 1
+                        && ClassUtils.isAssignable(constant.getClass(), method.getParameterTypes()[0], true)) {
+                    method.invoke(fact, constant);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void setField(Object fact, Object constant) throws ReflectiveOperationException {
+            for (Class<?> type = fact.getClass(); type != null; type = type.getSuperclass()) {
+                try {
+                    Field field = type.getDeclaredField(property);
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
+                        field.setAccessible(true);
+                        field.set(fact, constant);
+                    }
+                    return;
+                } catch (NoSuchFieldException e) {
+                    // look in superclass
+                }
+            }
+        }
+    }
+}
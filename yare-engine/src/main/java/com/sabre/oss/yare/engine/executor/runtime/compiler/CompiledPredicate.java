@@ -22,27 +22,13 @@
  * SOFTWARE.
  */
 
-package com.sabre.oss.yare.engine.executor.runtime.value;
+package com.sabre.oss.yare.engine.executor.runtime.compiler;
 
-public abstract class BoxingUtils {
+import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
 
-    public static Integer box(int value) {
-        return value;
-    }
-
-    public static Boolean box(boolean value) {
-        return value;
-    }
-
-    public static Double box(double value) {
-        return value;
-    }
-
-    public static Long box(long value) {
-        return value;
-    }
-
-    public static <T> T box(T object) {
-        return object;
-    }
+/**
+ * Base class of classes generated by {@link RuleSetCompiler}. Single generated class evaluates
+ * predicates of all rules of the same shape, each rule being its separate instance.
+ */
+public abstract class CompiledPredicate extends Predicate {
 }
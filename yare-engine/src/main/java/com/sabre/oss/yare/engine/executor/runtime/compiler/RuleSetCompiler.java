@@ -0,0 +1,311 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.compiler;
+
+import com.sabre.oss.yare.engine.executor.runtime.operator.BiArgsPredicate;
+import com.sabre.oss.yare.engine.executor.runtime.operator.logical.And;
+import com.sabre.oss.yare.engine.executor.runtime.operator.logical.False;
+import com.sabre.oss.yare.engine.executor.runtime.operator.logical.Not;
+import com.sabre.oss.yare.engine.executor.runtime.operator.logical.Or;
+import com.sabre.oss.yare.engine.executor.runtime.operator.logical.True;
+import com.sabre.oss.yare.engine.executor.runtime.operator.relation.*;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.validator.RuntimeInputValidator;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import javassist.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link RuleSetCompiler} translates predicates of rules into generated {@link CompiledPredicate} classes.
+ * <p>
+ * Logical operators ({@link And}, {@link Or}, {@link Not}, {@link True}, {@link False}) and fact presence
+ * checks ({@link RuntimeInputValidator}) are inlined as straight-line code with the same three-valued
+ * semantics as their interpreted counterparts. Relational operators specialized on operand types ({@link EqObject},
+ * {@code Gt}/{@code Ge}/{@code Lt}/{@code Le} variants for {@link Integer}, {@link Long}, {@link Double} and
+ * {@link java.math.BigDecimal}, {@link ContainsAnyConstantSet}) are inlined as well: generated code fetches operands
+ * from their value providers, checks them for {@code null} and compares them in place. Remaining predicates and all
+ * value providers are called through fields of their exact type, so every call site of generated code sees single
+ * receiver type.
+ * <p>
+ * Rules of the same shape, i.e. generating the same code over nodes of the same classes, share one generated class
+ * and differ only in nodes (constants, value providers) passed to its constructor. Rule sets are usually built of
+ * a few shapes, so generated code stays small and gets hot quickly, instead of being spread over a method per rule.
+ * <p>
+ * Classes generated by a single {@link #compile} call are defined in their own class loader, so they are unloaded
+ * together with the compiled predicates once rules are reloaded.
+ */
+public final class RuleSetCompiler {
+    private static final Logger log = LoggerFactory.getLogger(RuleSetCompiler.class);
+    private static final AtomicLong classCounter = new AtomicLong();
+    private static final ClassPool classPool = createClassPool();
+    private static final Map<Class<?>, String> comparisons = createComparisons();
+
+    private RuleSetCompiler() {
+    }
+
+    /**
+     * Compiles given predicates. Returned list contains predicates equivalent to passed ones, in the same order.
+     * Predicates which cannot be compiled are left interpreted.
+     *
+     * @param predicates predicates of rules
+     * @return compiled predicates
+     */
+    public static List<Predicate> compile(List<Predicate> predicates) {
+        List<Predicate> compiled = new ArrayList<>(predicates.size());
+        CompiledClassLoader classLoader = new CompiledClassLoader(RuleSetCompiler.class.getClassLoader());
+        Map<String, Constructor<?>> constructors = new HashMap<>();
+        for (Predicate predicate : predicates) {
+            compiled.add(compile(predicate, constructors, classLoader));
+        }
+        log.debug("Compiled {} predicate(s) into {} class(es)", predicates.size(), constructors.size());
+        return compiled;
+    }
+
+    private static Predicate compile(Predicate predicate, Map<String, Constructor<?>> constructors, CompiledClassLoader classLoader) {
+        CodeGenerator generator = new CodeGenerator(predicate);
+        String shape = generator.getShape();
+        if (!constructors.containsKey(shape)) {
+            Constructor<?> constructor = null;
+            try {
+                constructor = generator.generate(classLoader);
+            } catch (CannotCompileException | NotFoundException | IOException | ReflectiveOperationException e) {
+                log.warn("Unable to compile predicate, interpreted predicates of the same shape will be used", e);
+            }
+            constructors.put(shape, constructor);
+        }
+        Constructor<?> constructor = constructors.get(shape);
+        if (constructor == null) {
+            return predicate;
+        }
+        try {
+            return (Predicate) constructor.newInstance((Object) generator.getNodes());
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ClassPool createClassPool() {
+        ClassPool classPool = new ClassPool(ClassPool.getDefault());
+        classPool.appendClassPath(new LoaderClassPath(RuleSetCompiler.class.getClassLoader()));
+        return classPool;
+    }
+
+    // comparisons of non-null operands, equivalent to evaluate(Object, Object) of given operator
+    private static Map<Class<?>, String> createComparisons() {
+        Map<Class<?>, String> comparisons = new HashMap<>();
+        comparisons.put(EqObject.class, "%s.equals(%s)");
+        putOrderings(comparisons, ">", GtInteger.class, GtLong.class, GtDouble.class, GtBigDecimal.class);
+        putOrderings(comparisons, ">=", GeInteger.class, GeLong.class, GeDouble.class, GeBigDecimal.class);
+        putOrderings(comparisons, "<", LtInteger.class, LtLong.class, LtDouble.class, LtBigDecimal.class);
+        putOrderings(comparisons, "<=", LeInteger.class, LeLong.class, LeDouble.class, LeBigDecimal.class);
+        return comparisons;
+    }
+
+    private static void putOrderings(Map<Class<?>, String> comparisons, String relation,
+                                     Class<?> integerOperator, Class<?> longOperator, Class<?> doubleOperator, Class<?> bigDecimalOperator) {
+        comparisons.put(integerOperator, "((Integer) %s).intValue() " + relation + " ((Integer) %s).intValue()");
+        comparisons.put(longOperator, "((Long) %s).longValue() " + relation + " ((Long) %s).longValue()");
+        comparisons.put(doubleOperator, "Double.compare(((Double) %s).doubleValue(), ((Double) %s).doubleValue()) " + relation + " 0");
+        comparisons.put(bigDecimalOperator, "((java.math.BigDecimal) %s).compareTo((java.math.BigDecimal) %s) " + relation + " 0");
+    }
+
+    private static final class CompiledClassLoader extends ClassLoader {
+
+        private CompiledClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        private Class<?> define(String name, byte[] bytecode) {
+            return defineClass(name, bytecode, 0, bytecode.length, RuleSetCompiler.class.getProtectionDomain());
+        }
+    }
+
+    private static final class CodeGenerator {
+        private final List<Object> nodes = new ArrayList<>();
+        private final List<String> nodeTypes = new ArrayList<>();
+        private final StringBuilder body = new StringBuilder();
+        private final String result;
+        private int locals;
+
+        private CodeGenerator(Predicate predicate) {
+            this.result = emit(predicate, body);
+        }
+
+        private Object[] getNodes() {
+            return nodes.toArray();
+        }
+
+        // generated code refers to nodes by position only, so it can be shared by predicates with nodes of the same classes
+        private String getShape() {
+            StringBuilder shape = new StringBuilder(body);
+            for (Object node : nodes) {
+                shape.append(node.getClass().getName()).append(';');
+            }
+            return shape.toString();
+        }
+
+        private Constructor<?> generate(CompiledClassLoader classLoader) throws CannotCompileException, NotFoundException, IOException, ReflectiveOperationException {
+            String className = CompiledPredicate.class.getName() + "$impl_" + classCounter.incrementAndGet();
+            CtClass ctClass = classPool.makeClass(className);
+            try {
+                ctClass.setSuperclass(classPool.get(CompiledPredicate.class.getName()));
+                for (int i = 0; i < nodes.size(); i++) {
+                    ctClass.addField(CtField.make(String.format("private final %s n%d;", nodeTypes.get(i), i), ctClass));
+                }
+                ctClass.addConstructor(CtNewConstructor.make(createConstructor(ctClass.getSimpleName()), ctClass));
+                ctClass.addMethod(CtMethod.make(String.format("public Boolean evaluate(%s ctx) { \n%sreturn %s; \n} \n",
+                        PredicateContext.class.getName(), body, result), ctClass));
+                Class<?> compiledClass = classLoader.define(className, ctClass.toBytecode());
+                log.debug("Created CompiledPredicate implementation: {}", className);
+                return compiledClass.getConstructor(Object[].class);
+            } finally {
+                ctClass.detach();
+            }
+        }
+
+        private String createConstructor(String simpleName) {
+            StringBuilder constructorBody = new StringBuilder();
+            for (int i = 0; i < nodes.size(); i++) {
+                constructorBody.append(String.format("n%d = (%s) nodes[%d]; \n", i, nodeTypes.get(i), i));
+            }
+            return String.format("public %s(Object[] nodes) { \nsuper(); \n%s} \n", simpleName, constructorBody);
+        }
+
+        private String emit(Predicate predicate, StringBuilder code) {
+            String result = "t" + locals++;
+            if (predicate instanceof True) {
+                code.append(String.format("Boolean %s = Boolean.TRUE; \n", result));
+            } else if (predicate instanceof False) {
+                code.append(String.format("Boolean %s = Boolean.FALSE; \n", result));
+            } else if (predicate instanceof RuntimeInputValidator) {
+                RuntimeInputValidator validator = (RuntimeInputValidator) predicate;
+                code.append(String.format("Boolean %s = Boolean.FALSE; \nif (%s.isSatisfied(ctx)) { \n", result, register(validator)));
+                String delegate = emit(validator.getDelegate(), code);
+                code.append(String.format("%s = %s; \n} \n", result, delegate));
+            } else if (predicate instanceof Not) {
+                String operand = emit(((Not) predicate).getPredicate(), code);
+                code.append(String.format("Boolean %s = null; \nif (%s != null) { \n%s = %s.booleanValue() ? Boolean.FALSE : Boolean.TRUE; \n} \n",
+                        result, operand, result, operand));
+            } else if (predicate instanceof And) {
+                emitAnd(((And) predicate).getPredicates(), result, code);
+            } else if (predicate instanceof Or) {
+                emitOr(((Or) predicate).getPredicates(), result, code);
+            } else if (comparisons.containsKey(predicate.getClass())) {
+                emitComparison((BiArgsPredicate) predicate, comparisons.get(predicate.getClass()), result, code);
+            } else if (predicate.getClass() == ContainsAnyConstantSet.class) {
+                emitContainsAny((ContainsAnyConstantSet) predicate, result, code);
+            } else {
+                code.append(String.format("Boolean %s = %s.evaluate(ctx); \n", result, register(predicate)));
+            }
+            return result;
+        }
+
+        private void emitComparison(BiArgsPredicate predicate, String comparison, String result, StringBuilder code) {
+            String[] operands = emitOperands(predicate, result, code);
+            code.append(String.format("%s = Boolean.valueOf(%s); \n", result, String.format(comparison, operands[0], operands[1])));
+            closeBlocks(2, code);
+        }
+
+        private void emitContainsAny(ContainsAnyConstantSet predicate, String result, StringBuilder code) {
+            String[] operands = emitOperands(predicate, result, code);
+            String iterator = "i" + locals++;
+            code.append(String.format("%s = Boolean.FALSE; \njava.util.Iterator %s = ((java.util.Collection) %s).iterator(); \n",
+                    result, iterator, predicate.isConstantLeft() ? operands[1] : operands[0]));
+            code.append(String.format("while (%s == Boolean.FALSE && %s.hasNext()) { \nif (%s.contains(%s.next())) { %s = Boolean.TRUE; } \n} \n",
+                    result, iterator, register(predicate.getConstants(), Set.class.getName()), iterator, result));
+            closeBlocks(2, code);
+        }
+
+        // null operand makes result unknown, as in BiArgsPredicate; leaves two blocks open for the caller to close
+        private String[] emitOperands(BiArgsPredicate predicate, String result, StringBuilder code) {
+            String left = "l" + locals++;
+            String right = "r" + locals++;
+            code.append(String.format("Boolean %s = null; \nObject %s = %s.get(ctx); \nif (%s != null) { \n",
+                    result, left, register(predicate.getLOperandProvider()), left));
+            code.append(String.format("Object %s = %s.get(ctx); \nif (%s != null) { \n",
+                    right, register(predicate.getROperandProvider()), right));
+            return new String[]{left, right};
+        }
+
+        // short-circuits on the first FALSE operand, unknown operands make TRUE result unknown
+        private void emitAnd(List<Predicate> operands, String result, StringBuilder code) {
+            String unknown = "u" + locals++;
+            code.append(String.format("Boolean %s = Boolean.FALSE; \nboolean %s = false; \n", result, unknown));
+            for (Predicate operand : operands) {
+                String value = emit(operand, code);
+                code.append(String.format("if (%s != Boolean.FALSE) { \nif (%s == null) { %s = true; } \n", value, value, unknown));
+            }
+            code.append(String.format("if (%s) { %s = null; } else { %s = Boolean.TRUE; } \n", unknown, result, result));
+            closeBlocks(operands.size(), code);
+        }
+
+        // short-circuits on the first TRUE operand, unknown operands make FALSE result unknown
+        private void emitOr(List<Predicate> operands, String result, StringBuilder code) {
+            String unknown = "u" + locals++;
+            code.append(String.format("Boolean %s = Boolean.TRUE; \nboolean %s = false; \n", result, unknown));
+            for (Predicate operand : operands) {
+                String value = emit(operand, code);
+                code.append(String.format("if (%s == null || !%s.booleanValue()) { \nif (%s == null) { %s = true; } \n", value, value, value, unknown));
+            }
+            code.append(String.format("if (%s) { %s = null; } else { %s = Boolean.FALSE; } \n", unknown, result, result));
+            closeBlocks(operands.size(), code);
+        }
+
+        private static void closeBlocks(int count, StringBuilder code) {
+            for (int i = 0; i < count; i++) {
+                code.append("} \n");
+            }
+        }
+
+        private String register(Predicate predicate) {
+            Class<?> fallbackType = predicate instanceof ValueProvider ? ValueProvider.class : Predicate.class;
+            return register(predicate, resolveFieldType(predicate.getClass(), fallbackType));
+        }
+
+        private String register(Object node, String type) {
+            nodes.add(node);
+            nodeTypes.add(type);
+            return "n" + (nodes.size() - 1);
+        }
+
+        private static String resolveFieldType(Class<?> type, Class<?> fallbackType) {
+            boolean accessible = Modifier.isPublic(type.getModifiers())
+                    && type.getEnclosingClass() == null
+                    && classPool.getOrNull(type.getName()) != null;
+            return accessible ? type.getName() : fallbackType.getName();
+        }
+    }
+}
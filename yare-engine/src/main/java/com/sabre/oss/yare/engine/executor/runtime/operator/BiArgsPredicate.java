@@ -53,6 +53,14 @@ public abstract class BiArgsPredicate extends Predicate {
         return evaluate(left, right);
     }
 
+    public ValueProvider getLOperandProvider() {
+        return lOperandProvider;
+    }
+
+    public ValueProvider getROperandProvider() {
+        return rOperandProvider;
+    }
+
     protected abstract boolean applicable(Object left, Object right);
 
     protected abstract Boolean evaluate(Object left, Object right);
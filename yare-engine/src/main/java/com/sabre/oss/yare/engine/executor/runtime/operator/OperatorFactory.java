@@ -30,6 +30,8 @@ import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactory;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
 import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.reflect.TypeUtils;
 
 import java.util.List;
 
@@ -48,6 +50,19 @@ public abstract class OperatorFactory implements PredicateFactory {
         return true;
     }
 
+    /**
+     * Checks whether static type of values provided by {@code valueProvider} is {@code type},
+     * its subtype or primitive counterpart.
+     *
+     * @param valueProvider value provider
+     * @param type          expected type
+     * @return true if every non-null value provided is an instance of {@code type}
+     */
+    protected static boolean isOfType(ValueProvider valueProvider, Class<?> type) {
+        Class<?> rawType = TypeUtils.getRawType(valueProvider.getType(), null);
+        return rawType != null && type.isAssignableFrom(ClassUtils.primitiveToWrapper(rawType));
+    }
+
     protected Class<?> getArgumentType(Expression argument) {
         return argument instanceof Expression.Value && ((Expression.Value) argument).getValue() != null
                 ? ((Expression.Value) argument).getValue().getClass()
@@ -61,6 +61,10 @@ public final class Or extends Predicate {
         this.predicates = Validate.noNullElements(predicates, "Predicate(s) must not be null");
     }
 
+    public List<Predicate> getPredicates() {
+        return predicates;
+    }
+
     @Override
     public Boolean evaluate(PredicateContext ctx) {
         boolean anyUnknownResult = false;
@@ -37,6 +37,10 @@ public class ContainsAll extends OperatorFactory {
     public static final String OPERATOR_NAME = "contains";
 
     private final OperatorFactory operatorFactory = new ChainedOperatorFactory(asList(
+            new ContainsAllInstanceConstantSet.Factory(),
+            new ContainsAllCollectionPath.Factory(),
+            new ContainsAllCollectionConstantSet.Factory(),
+            new ContainsAllInstancePath.Factory(),
             new ContainsAllInstance.Factory(),
             new ContainsAllCollection.Factory()));
 
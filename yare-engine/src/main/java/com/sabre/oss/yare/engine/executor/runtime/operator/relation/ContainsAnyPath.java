@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
+
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.engine.executor.runtime.operator.BiArgsPredicate;
+import com.sabre.oss.yare.engine.executor.runtime.operator.OperatorFactory;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.QuantifiableValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProviderFactory;
+import org.apache.commons.lang3.reflect.TypeUtils;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * {@link ContainsAny} operator used when one of operands is a collection path.
+ * <p>
+ * Elements reached by the path are visited lazily and the visit stops at the first element contained
+ * in the other operand, so no list of path values is built. Constant other operand is frozen into
+ * hash set when rules are built.
+ */
+public class ContainsAnyPath extends BiArgsPredicate {
+    private final QuantifiableValueProvider elements;
+    private final ValueProvider otherOperandProvider;
+    private final Set<?> constants;
+
+    public ContainsAnyPath(ValueProvider lOperandProvider, ValueProvider rOperandProvider, QuantifiableValueProvider elements, boolean pathLeft, Set<?> constants) {
+        super(lOperandProvider, rOperandProvider);
+        this.elements = elements;
+        this.otherOperandProvider = pathLeft ? rOperandProvider : lOperandProvider;
+        this.constants = constants;
+    }
+
+    @Override
+    public Boolean evaluate(PredicateContext context) {
+        Collection<?> other = constants;
+        if (other == null) {
+            Object value = otherOperandProvider.get(context);
+            if (value == null) {
+                return null;
+            }
+            other = (Collection<?>) value;
+        }
+        return elements.anyMatch(context, other::contains);
+    }
+
+    @Override
+    protected final boolean applicable(Object left, Object right) {
+        return left instanceof Collection && right instanceof Collection;
+    }
+
+    @Override
+    protected final Boolean evaluate(Object left, Object right) {
+        for (Object value : (Collection<?>) right) {
+            if (((Collection<?>) left).contains(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static class Factory extends OperatorFactory {
+
+        private boolean isApplicable(Expression.Operator operator, ValueProvider[] valueProviders) {
+            return ContainsAny.OPERATOR_NAME.equals(operator.getCall()) &&
+                    operator.getArguments().size() == 2 &&
+                    valueProviders.length == 2 &&
+                    Collection.class.isAssignableFrom(TypeUtils.getRawType(valueProviders[0].getType(), null)) &&
+                    Collection.class.isAssignableFrom(TypeUtils.getRawType(valueProviders[1].getType(), null));
+        }
+
+        @Override
+        public Predicate create(PredicateFactoryContext context, Expression.Operator operator, ValueProvider[] valueProviders) {
+            if (!isApplicable(operator, valueProviders)) {
+                return null;
+            }
+            QuantifiableValueProvider elements = ValueProviderFactory.getQuantifiable(valueProviders[0]);
+            if (elements != null) {
+                return new ContainsAnyPath(valueProviders[0], valueProviders[1], elements, true,
+                        ValueProviderFactory.getConstantValueSet(valueProviders[1]));
+            }
+            elements = ValueProviderFactory.getQuantifiable(valueProviders[1]);
+            return elements != null
+                    ? new ContainsAnyPath(valueProviders[0], valueProviders[1], elements, false,
+                    ValueProviderFactory.getConstantValueSet(valueProviders[0]))
+                    : null;
+        }
+    }
+}
@@ -57,7 +57,7 @@ public class EqZonedDateTime extends BiArgsPredicate {
                     operator.getArguments().size() == 2 &&
                     valueProviders.length == 2 &&
                     ZonedDateTime.class.isAssignableFrom(TypeUtils.getRawType(valueProviders[0].getType(), null)) &&
-                    ZonedDateTime.class.isAssignableFrom(TypeUtils.getRawType(valueProviders[0].getType(), null));
+                    ZonedDateTime.class.isAssignableFrom(TypeUtils.getRawType(valueProviders[1].getType(), null));
 
         }
 
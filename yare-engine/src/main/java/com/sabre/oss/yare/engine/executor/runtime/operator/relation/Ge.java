@@ -38,6 +38,10 @@ public class Ge extends OperatorFactory {
 
     private final OperatorFactory operatorFactory = new ChainedOperatorFactory(asList(
             new GeZonedDateTime.Factory(),
+            new GeInteger.Factory(),
+            new GeLong.Factory(),
+            new GeDouble.Factory(),
+            new GeBigDecimal.Factory(),
             new GeComparable.Factory(),
             new GeDynamic.Factory()));
 
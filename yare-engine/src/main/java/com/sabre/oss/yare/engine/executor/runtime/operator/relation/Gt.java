@@ -39,6 +39,10 @@ public class Gt extends OperatorFactory {
 
     private final OperatorFactory operatorFactory = new ChainedOperatorFactory(asList(
             new GtZonedDateTime.Factory(),
+            new GtInteger.Factory(),
+            new GtLong.Factory(),
+            new GtDouble.Factory(),
+            new GtBigDecimal.Factory(),
             new GtComparable.Factory(),
             new GtDynamic.Factory()));
 
@@ -39,6 +39,10 @@ public class Le extends OperatorFactory {
 
     private final OperatorFactory operatorFactory = new ChainedOperatorFactory(asList(
             new LeZonedDateTime.Factory(),
+            new LeInteger.Factory(),
+            new LeLong.Factory(),
+            new LeDouble.Factory(),
+            new LeBigDecimal.Factory(),
             new LeComparable.Factory(),
             new LeDynamic.Factory()));
 
@@ -39,6 +39,10 @@ public class Lt extends OperatorFactory {
 
     private final OperatorFactory operatorFactory = new ChainedOperatorFactory(asList(
             new LtZonedDateTime.Factory(),
+            new LtInteger.Factory(),
+            new LtLong.Factory(),
+            new LtDouble.Factory(),
+            new LtBigDecimal.Factory(),
             new LtComparable.Factory(),
             new LtDynamic.Factory()));
 
@@ -25,32 +25,46 @@
 package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
 
 import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.core.reference.PlaceholderUtils;
 import com.sabre.oss.yare.engine.executor.runtime.operator.OperatorFactory;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateFactoryContext;
 import com.sabre.oss.yare.engine.executor.runtime.value.ConstantValueProvider;
 import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.Optional;
 
+/**
+ * {@code MATCH} operator checking whether the whole string matches constant regular expression.
+ * <p>
+ * Expressions matched against the same value path by many rules of the rule set share {@link MatchStringGroup},
+ * which matches all of them in a single pass over the input.
+ */
 public class MatchString extends Predicate {
     private static final String OPERATOR_NAME = "match";
 
     private final ValueProvider valueProvider;
-    private final Pattern pattern;
+    private final MatchStringGroup group;
+    private final int slot;
 
     public MatchString(ValueProvider lOperandProvider, String regexp) {
+        this(lOperandProvider, new MatchStringGroup(), regexp);
+    }
+
+    private MatchString(ValueProvider lOperandProvider, MatchStringGroup group, String regexp) {
         this.valueProvider = Objects.requireNonNull(lOperandProvider);
-        this.pattern = Pattern.compile(Objects.requireNonNull(regexp));
+        this.group = group;
+        this.slot = group.register(Objects.requireNonNull(regexp));
     }
 
     @Override
     public Boolean evaluate(PredicateContext context) {
         Object value = valueProvider.get(context);
         return value instanceof String
-                ? pattern.matcher((String) value).matches()
+                ? group.matches((String) value, slot)
                 : null;
     }
 
@@ -70,7 +84,15 @@ public class MatchString extends Predicate {
             if (!isApplicable(operator, valueProviders)) {
                 return null;
             }
-            return new MatchString(valueProviders[0], (String) valueProviders[1].get(null));
+            String regexp = (String) valueProviders[1].get(null);
+            Expression value = operator.getArguments().get(0);
+            Optional<String> reference = value instanceof Expression.Value
+                    ? PlaceholderUtils.extract((Expression.Value) value)
+                    : Optional.empty();
+            MatchStringGroup group = reference.isPresent()
+                    ? context.getSharedComponent(Pair.of(MatchStringGroup.class, reference.get()), MatchStringGroup::new)
+                    : new MatchStringGroup();
+            return new MatchString(valueProviders[0], group, regexp);
         }
     }
 }
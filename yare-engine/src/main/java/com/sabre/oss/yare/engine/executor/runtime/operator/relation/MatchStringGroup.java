@@ -0,0 +1,219 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Group of regular expressions matched against values of the same path by {@link MatchString} predicates
+ * of many rules.
+ * <p>
+ * Since {@code match} requires the whole input to match, each expression is reachable only through
+ * its literal prefix. When a new input is seen, one walk of a prefix trie over the start of the input selects
+ * the candidates and resolves fully literal expressions by length. Remaining candidates run their {@link Pattern}
+ * only when their predicate is evaluated, and all results are memoized per thread, so subsequent predicates
+ * matching the same input only read their result.
+ */
+final class MatchStringGroup {
+    private static final String METACHARACTERS = "\\[](){}.*+?^$|";
+    private static final String QUANTIFIERS = "*+?{";
+    private static final byte UNKNOWN = 0;
+    private static final byte MATCHED = 1;
+    private static final byte NOT_MATCHED = 2;
+
+    private final List<String> regexps = new ArrayList<>();
+    private final ThreadLocal<MatchState> states = ThreadLocal.withInitial(MatchState::new);
+    private volatile Matcher matcher;
+
+    /**
+     * Registers regular expression in the group.
+     *
+     * @param regexp regular expression
+     * @return slot of the expression's result
+     */
+    synchronized int register(String regexp) {
+        if (matcher != null) {
+            throw new IllegalStateException("Cannot register expression in group already used for matching");
+        }
+        Pattern.compile(regexp);
+        regexps.add(regexp);
+        return regexps.size() - 1;
+    }
+
+    boolean matches(String input, int slot) {
+        Matcher current = getMatcher();
+        MatchState state = states.get();
+        if (!input.equals(state.input)) {
+            state.results = current.selectCandidates(input, state.results);
+            state.input = input;
+        }
+        byte result = state.results[slot];
+        if (result == UNKNOWN) {
+            result = current.matches(input, slot) ? MATCHED : NOT_MATCHED;
+            state.results[slot] = result;
+        }
+        return result == MATCHED;
+    }
+
+    private Matcher getMatcher() {
+        Matcher current = matcher;
+        if (current == null) {
+            synchronized (this) {
+                current = matcher;
+                if (current == null) {
+                    current = new Matcher(regexps);
+                    matcher = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    static String literalPrefix(String regexp) {
+        if (regexp.indexOf('|') >= 0) {
+            return "";
+        }
+        StringBuilder prefix = new StringBuilder();
+        int lastCodePoint = -1;
+        for (int i = 0; i < regexp.length();) {
+            int codePoint = regexp.codePointAt(i);
+            if (METACHARACTERS.indexOf(codePoint) >= 0) {
+                if (QUANTIFIERS.indexOf(codePoint) >= 0 && lastCodePoint >= 0) {
+                    // quantified character is optional or repeated, so it is not part of the prefix
+                    prefix.setLength(prefix.length() - Character.charCount(lastCodePoint));
+                }
+                return prefix.toString();
+            }
+            prefix.appendCodePoint(codePoint);
+            lastCodePoint = codePoint;
+            i += Character.charCount(codePoint);
+        }
+        return prefix.toString();
+    }
+
+    private static boolean isLiteral(String regexp, String prefix) {
+        return regexp.length() == prefix.length();
+    }
+
+    private static final class MatchState {
+        private String input;
+        private byte[] results;
+    }
+
+    private static final class Matcher {
+        private final int size;
+        private final Pattern[] patterns;
+        private final int[] literalLengths;
+        private final Node root;
+
+        private Matcher(List<String> regexps) {
+            this.size = regexps.size();
+            this.patterns = new Pattern[size];
+            this.literalLengths = new int[size];
+            NodeBuilder rootBuilder = new NodeBuilder();
+            for (int i = 0; i < size; i++) {
+                String regexp = regexps.get(i);
+                String prefix = literalPrefix(regexp);
+                if (isLiteral(regexp, prefix)) {
+                    literalLengths[i] = prefix.length();
+                } else {
+                    literalLengths[i] = -1;
+                    patterns[i] = Pattern.compile(regexp);
+                }
+                NodeBuilder node = rootBuilder;
+                for (int c = 0; c < prefix.length(); c += Character.charCount(prefix.codePointAt(c))) {
+                    node = node.children.computeIfAbsent(prefix.codePointAt(c), k -> new NodeBuilder());
+                }
+                node.slots.add(i);
+            }
+            this.root = rootBuilder.build();
+        }
+
+        private byte[] selectCandidates(String input, byte[] reusable) {
+            byte[] results = reusable != null && reusable.length == size ? reusable : new byte[size];
+            Arrays.fill(results, NOT_MATCHED);
+            Node node = root;
+            int position = 0;
+            while (node != null) {
+                for (int slot : node.slots) {
+                    int literalLength = literalLengths[slot];
+                    results[slot] = literalLength < 0
+                            ? UNKNOWN
+                            : input.length() == literalLength ? MATCHED : NOT_MATCHED;
+                }
+                if (position < input.length()) {
+                    int codePoint = input.codePointAt(position);
+                    position += Character.charCount(codePoint);
+                    node = node.child(codePoint);
+                } else {
+                    node = null;
+                }
+            }
+            return results;
+        }
+
+        private boolean matches(String input, int slot) {
+            return patterns[slot].matcher(input).matches();
+        }
+    }
+
+    private static final class Node {
+        private final int[] keys;
+        private final Node[] children;
+        private final int[] slots;
+
+        private Node(int[] keys, Node[] children, int[] slots) {
+            this.keys = keys;
+            this.children = children;
+            this.slots = slots;
+        }
+
+        private Node child(int key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    private static final class NodeBuilder {
+        private final TreeMap<Integer, NodeBuilder> children = new TreeMap<>();
+        private final List<Integer> slots = new ArrayList<>();
+
+        private Node build() {
+            int[] keys = new int[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Integer, NodeBuilder> child : children.entrySet()) {
+                keys[i] = child.getKey();
+                nodes[i++] = child.getValue().build();
+            }
+            return new Node(keys, nodes, slots.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+}
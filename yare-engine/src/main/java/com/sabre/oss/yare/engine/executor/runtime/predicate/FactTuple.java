@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.predicate;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Facts of single tuple evaluated by rules, stored in slots defined by {@link FactTupleLayout}.
+ * <p>
+ * Tuples are mutable and may be reused by fact tuple iterators, so they should not be retained
+ * after evaluation of the tuple is finished.
+ */
+public final class FactTuple {
+    private final FactTupleLayout layout;
+    private final Object[] facts;
+    private int version;
+
+    public FactTuple(FactTupleLayout layout) {
+        this.layout = layout;
+        this.facts = new Object[layout.size()];
+    }
+
+    public static FactTuple of(Map<String, Object> facts) {
+        FactTuple tuple = new FactTuple(FactTupleLayout.of(facts.keySet()));
+        for (Map.Entry<String, Object> fact : facts.entrySet()) {
+            tuple.set(tuple.layout.slotOf(fact.getKey()), fact.getValue());
+        }
+        return tuple;
+    }
+
+    public FactTupleLayout getLayout() {
+        return layout;
+    }
+
+    public Object get(int slot) {
+        return facts[slot];
+    }
+
+    public Object get(String identifier) {
+        int slot = layout.slotOf(identifier);
+        return slot >= 0 ? facts[slot] : null;
+    }
+
+    /**
+     * Stores fact in given slot. Negative slots (identifiers not known to the layout) are ignored.
+     *
+     * @param slot slot of the fact
+     * @param fact fact instance
+     */
+    public void set(int slot, Object fact) {
+        if (slot >= 0) {
+            facts[slot] = fact;
+            version++;
+        }
+    }
+
+    /**
+     * Removes all facts, so the tuple can be reused for facts of another execution.
+     */
+    public void clear() {
+        Arrays.fill(facts, null);
+        version++;
+    }
+
+    /**
+     * Returns number of modifications of this tuple, so values computed from its facts can tell
+     * whether they are still valid.
+     *
+     * @return version of the tuple
+     */
+    public int getVersion() {
+        return version;
+    }
+}
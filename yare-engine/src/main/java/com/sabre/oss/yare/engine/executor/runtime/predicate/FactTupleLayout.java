@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.predicate;
+
+import java.util.*;
+
+/**
+ * {@link FactTupleLayout} assigns integer slots to fact identifiers, so facts of single tuple
+ * can be stored in (and read from) an array instead of a map.
+ * <p>
+ * Layout is computed once, when rules are built, and shared by all {@link FactTuple}s created for them.
+ * It also assigns indexes to distinct values computed from facts (projections), i.e. paths of facts and
+ * conditions referenced by more than one condition of the rules, so they may be memoized per tuple.
+ * Projections are known before predicates are created and do not change afterwards.
+ */
+public final class FactTupleLayout {
+    private final Map<String, Integer> slots;
+    private final String[] identifiers;
+    private final Map<Object, Integer> projections;
+
+    private FactTupleLayout(Collection<String> identifiers) {
+        Set<String> distinct = new LinkedHashSet<>(identifiers);
+        this.slots = new HashMap<>(distinct.size() * 2);
+        this.identifiers = distinct.toArray(new String[0]);
+        for (int i = 0; i < this.identifiers.length; i++) {
+            slots.put(this.identifiers[i], i);
+        }
+        this.projections = Collections.emptyMap();
+    }
+
+    private FactTupleLayout(Map<String, Integer> slots, String[] identifiers, Collection<?> projectionKeys) {
+        this.slots = slots;
+        this.identifiers = identifiers;
+        this.projections = new HashMap<>(projectionKeys.size() * 2);
+        for (Object key : projectionKeys) {
+            projections.putIfAbsent(key, projections.size());
+        }
+    }
+
+    public static FactTupleLayout of(Collection<String> identifiers) {
+        return new FactTupleLayout(identifiers);
+    }
+
+    /**
+     * Returns slot assigned to given fact identifier.
+     *
+     * @param identifier fact identifier
+     * @return slot or -1 when identifier is not a part of this layout
+     */
+    public int slotOf(String identifier) {
+        Integer slot = slots.get(identifier);
+        return slot != null ? slot : -1;
+    }
+
+    public String getIdentifier(int slot) {
+        return identifiers[slot];
+    }
+
+    public int size() {
+        return identifiers.length;
+    }
+
+    /**
+     * Returns layout with the same slots, assigning indexes to given projections.
+     *
+     * @param projectionKeys keys of projections worth memoizing, i.e. computed by more than one condition
+     * @return new layout
+     */
+    public FactTupleLayout withProjections(Collection<?> projectionKeys) {
+        return new FactTupleLayout(slots, identifiers, projectionKeys);
+    }
+
+    /**
+     * Returns key of projection reading given path of fact stored in given slot.
+     *
+     * @param slot slot of the fact
+     * @param path path of the fact
+     * @return key of the projection
+     */
+    public static Object pathProjectionKey(int slot, String path) {
+        return Arrays.asList(slot, path);
+    }
+
+    /**
+     * Returns index of projection identified by given key.
+     *
+     * @param key key of the projection
+     * @return index of the projection or -1 when it is not memoized
+     */
+    public int projectionOf(Object key) {
+        Integer projection = projections.get(key);
+        return projection != null ? projection : -1;
+    }
+
+    public int getProjectionCount() {
+        return projections.size();
+    }
+}
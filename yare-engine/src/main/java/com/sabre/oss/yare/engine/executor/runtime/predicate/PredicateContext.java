@@ -26,42 +26,61 @@ package com.sabre.oss.yare.engine.executor.runtime.predicate;
 
 import com.sabre.oss.yare.core.EngineController;
 import com.sabre.oss.yare.core.call.ProcessingContext;
+import com.sabre.oss.yare.engine.CallInvocationResultCache;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Predicate evaluation context.
+ * <p>
+ * Context may be {@link #rebind rebound} to subsequent rules evaluated against the same fact tuple,
+ * so instances which outlive evaluation of a single rule (e.g. passed to consequences) should be
+ * {@link #snapshot() snapshotted}.
  */
 public class PredicateContext implements ProcessingContext {
     static final String CTX = "ctx";
     static final String RULE_NAME = "ruleName";
     static final String ENGINE_CONTROLLER = "engineController";
+    private static final Object NO_VALUE = new Object();
 
-    private final String ruleId;
+    private String ruleId;
     private final Object result;
-    private final Map<String, Object> facts;
-    private final Map<String, Object> attributes;
+    private final FactTuple facts;
+    private Map<String, Object> attributes;
     private final EngineController engineController;
-    private final Map<String, Object> reservedIdentifiers;
+    private final CallInvocationResultCache requestCache;
+    private Object[] projections;
+    private int projectionsVersion;
 
     // Do not pass merged maps due to performance implications.
     public PredicateContext(String ruleId, Object result, Map<String, Object> facts, Map<String, Object> attributes, EngineController engineController) {
+        this(ruleId, result, FactTuple.of(facts), attributes, engineController);
+    }
+
+    public PredicateContext(String ruleId, Object result, FactTuple facts, Map<String, Object> attributes, EngineController engineController) {
+        this(ruleId, result, facts, attributes, engineController, null);
+    }
+
+    public PredicateContext(String ruleId, Object result, FactTuple facts, Map<String, Object> attributes, EngineController engineController,
+                            CallInvocationResultCache requestCache) {
         this.ruleId = ruleId;
         this.result = result;
         this.facts = facts;
         this.attributes = attributes;
         this.engineController = engineController;
-        this.reservedIdentifiers = createResolveIdentifiers();
+        this.requestCache = requestCache;
     }
 
-    private Map<String, Object> createResolveIdentifiers() {
-        Map<String, Object> reservedIdentifiers = new HashMap<>();
-        reservedIdentifiers.put(CTX, result);
-        reservedIdentifiers.put(RULE_NAME, ruleId);
-        reservedIdentifiers.put(ENGINE_CONTROLLER, engineController);
-
-        return reservedIdentifiers;
+    /**
+     * Checks whether {@code identifier} is resolved by the context itself (not by facts or attributes).
+     *
+     * @param identifier identifier to check
+     * @return true if identifier is reserved
+     */
+    public static boolean isReserved(String identifier) {
+        return CTX.equals(identifier) || RULE_NAME.equals(identifier) || ENGINE_CONTROLLER.equals(identifier);
     }
 
     @Override
@@ -74,18 +93,155 @@ public class PredicateContext implements ProcessingContext {
         return result;
     }
 
+    /**
+     * Returns cache of results of request-scoped functions, shared by all contexts of a single execution.
+     *
+     * @return request cache or null when execution does not memoize function calls
+     */
+    public CallInvocationResultCache getRequestCache() {
+        return requestCache;
+    }
+
     @Override
     public Object resolve(String identifier) {
-        return reservedIdentifiers.getOrDefault(identifier, attributes.getOrDefault(identifier, facts.get(identifier)));
+        if (CTX.equals(identifier)) {
+            return result;
+        }
+        if (RULE_NAME.equals(identifier)) {
+            return ruleId;
+        }
+        if (ENGINE_CONTROLLER.equals(identifier)) {
+            return engineController;
+        }
+        Object attribute = attributes.get(identifier);
+        if (attribute != null || attributes.containsKey(identifier)) {
+            return attribute;
+        }
+        return facts.get(identifier);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T resolve(String identifier, T defaultValue) {
-        return (T) attributes.getOrDefault(identifier, facts.getOrDefault(identifier, defaultValue));
+        Object attribute = attributes.get(identifier);
+        if (attribute != null || attributes.containsKey(identifier)) {
+            return (T) attribute;
+        }
+        Object fact = facts.get(identifier);
+        return fact != null ? (T) fact : defaultValue;
+    }
+
+    /**
+     * Resolves fact stored in given slot of the tuple. Falls back to {@link #resolve(String)} when
+     * the tuple was not created with given {@code layout}.
+     *
+     * @param layout     layout the slot was computed for
+     * @param slot       slot of the fact
+     * @param identifier identifier of the fact
+     * @return fact instance or null
+     */
+    public Object resolveFact(FactTupleLayout layout, int slot, String identifier) {
+        return facts.getLayout() == layout ? facts.get(slot) : resolve(identifier);
+    }
+
+    /**
+     * Resolves projection (value of path) of fact stored in given slot of the tuple. Projection is computed
+     * at most once per context and version of the tuple and memoized, so rules evaluated against the same tuple
+     * read shared paths once.
+     * Falls back to projecting {@link #resolve(String) resolved} fact when the tuple was not created
+     * with given {@code layout}.
+     *
+     * @param layout     layout the slot and projection were computed for
+     * @param slot       slot of the fact
+     * @param identifier identifier of the fact
+     * @param projection index of the projection
+     * @param projector  function computing projection of the fact
+     * @return projection of the fact
+     */
+    public Object resolveProjection(FactTupleLayout layout, int slot, String identifier, int projection, Function<Object, Object> projector) {
+        if (facts.getLayout() != layout) {
+            return projector.apply(resolve(identifier));
+        }
+        Object[] memoized = getProjections(layout, projection);
+        Object value = memoized[projection];
+        if (value == null) {
+            value = projector.apply(facts.get(slot));
+            memoized[projection] = value != null ? value : NO_VALUE;
+            return value;
+        }
+        return value != NO_VALUE ? value : null;
+    }
+
+    /**
+     * Evaluates predicate shared by many rules, memoizing its result as projection of the tuple like
+     * {@link #resolveProjection}. Predicate is evaluated directly when the tuple was not created with
+     * given {@code layout}.
+     *
+     * @param layout     layout the projection was computed for
+     * @param projection index of the projection
+     * @param predicate  predicate depending on facts only
+     * @return evaluation state
+     */
+    public Boolean evaluateProjection(FactTupleLayout layout, int projection, Predicate predicate) {
+        if (facts.getLayout() != layout) {
+            return predicate.evaluate(this);
+        }
+        Object[] memoized = getProjections(layout, projection);
+        Object value = memoized[projection];
+        if (value == null) {
+            Boolean result = predicate.evaluate(this);
+            // predicate may have used projections of the tuple, so they are looked up again
+            getProjections(layout, projection)[projection] = result != null ? result : NO_VALUE;
+            return result;
+        }
+        return value != NO_VALUE ? (Boolean) value : null;
+    }
+
+    private Object[] getProjections(FactTupleLayout layout, int projection) {
+        Object[] memoized = projections;
+        if (memoized == null || projection >= memoized.length) {
+            memoized = new Object[layout.getProjectionCount()];
+            projections = memoized;
+            projectionsVersion = facts.getVersion();
+        } else if (projectionsVersion != facts.getVersion()) {
+            Arrays.fill(memoized, null);
+            projectionsVersion = facts.getVersion();
+        }
+        return memoized;
+    }
+
+    /**
+     * Drops memoized projections, so they are recomputed from facts which may have been modified (e.g. by consequences).
+     */
+    public void invalidateProjections() {
+        if (projections != null) {
+            Arrays.fill(projections, null);
+        }
+    }
+
+    /**
+     * Switches this context to given rule.
+     *
+     * @param ruleId     identifier of the rule
+     * @param attributes attributes of the rule
+     * @return this context
+     */
+    public PredicateContext rebind(String ruleId, Map<String, Object> attributes) {
+        this.ruleId = ruleId;
+        this.attributes = attributes;
+        return this;
+    }
+
+    /**
+     * Returns context bound to the current rule, which is not affected by subsequent {@link #rebind} calls.
+     *
+     * @return copy of this context
+     */
+    public PredicateContext snapshot() {
+        return new PredicateContext(ruleId, result, facts, attributes, engineController, requestCache);
     }
 
     public PredicateContext copy(String ruleId) {
-        return new PredicateContext(ruleId, result, facts, attributes, engineController);
+        return new PredicateContext(ruleId, result, facts, attributes, engineController, requestCache);
     }
 }
@@ -28,9 +28,8 @@ import com.sabre.oss.yare.core.model.Expression;
 import com.sabre.oss.yare.core.model.Rule;
 import com.sabre.oss.yare.engine.executor.RuntimeRulesBuilder;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.Objects;
+import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * {@link PredicateFactoryContext} using for storing current creation state.
@@ -39,10 +38,29 @@ public class PredicateFactoryContext {
     private final Rule rule;
     private final Deque<Expression> stack = new ArrayDeque<>(32);
     private final RuntimeRulesBuilder factoryFacade;
+    private final FactTupleLayout factTupleLayout;
+    private final Map<Object, Object> sharedComponents;
 
     public PredicateFactoryContext(Rule rule, RuntimeRulesBuilder factoryFacade) {
+        this(rule, factoryFacade, null);
+    }
+
+    public PredicateFactoryContext(Rule rule, RuntimeRulesBuilder factoryFacade, FactTupleLayout factTupleLayout) {
+        this(rule, factoryFacade, factTupleLayout, new HashMap<>());
+    }
+
+    /**
+     * @param rule             rule the predicate is created for
+     * @param factoryFacade    factory facade
+     * @param factTupleLayout  layout of fact tuples, null when not known
+     * @param sharedComponents components shared by all rules of the rule set being built
+     */
+    public PredicateFactoryContext(Rule rule, RuntimeRulesBuilder factoryFacade, FactTupleLayout factTupleLayout,
+                                   Map<Object, Object> sharedComponents) {
         this.rule = Objects.requireNonNull(rule);
         this.factoryFacade = factoryFacade;
+        this.factTupleLayout = factTupleLayout;
+        this.sharedComponents = Objects.requireNonNull(sharedComponents);
     }
 
     public Rule getRule() {
@@ -56,4 +74,32 @@ public class PredicateFactoryContext {
     public RuntimeRulesBuilder getFactoryFacade() {
         return factoryFacade;
     }
+
+    /**
+     * Returns layout of fact tuples the created predicate will be evaluated against.
+     *
+     * @return fact tuple layout or null when not known
+     */
+    public FactTupleLayout getFactTupleLayout() {
+        return factTupleLayout;
+    }
+
+    /**
+     * Returns component shared by predicates of all rules of the rule set being built, creating it if needed.
+     * Factory may create other shared components.
+     *
+     * @param key     key identifying the component
+     * @param factory creates the component when it does not exist yet
+     * @param <T>     type of the component
+     * @return shared component
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getSharedComponent(Object key, Supplier<T> factory) {
+        Object component = sharedComponents.get(key);
+        if (component == null) {
+            component = factory.get();
+            sharedComponents.put(key, component);
+        }
+        return (T) component;
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.predicate;
+
+/**
+ * {@link Predicate} node shared by rules containing structurally equal condition.
+ * <p>
+ * Condition depends on facts and constants only and is used by more than one rule, so its result is memoized
+ * per fact tuple (see {@link PredicateContext#evaluateProjection}) and it is evaluated once per tuple.
+ */
+public final class SharedPredicate extends Predicate {
+    private final Predicate predicate;
+    private final FactTupleLayout layout;
+    private final int projection;
+
+    public SharedPredicate(Predicate predicate, FactTupleLayout layout, int projection) {
+        this.predicate = predicate;
+        this.layout = layout;
+        this.projection = projection;
+    }
+
+    @Override
+    public Boolean evaluate(PredicateContext context) {
+        return context.evaluateProjection(layout, projection, predicate);
+    }
+
+    public Predicate getPredicate() {
+        return predicate;
+    }
+}
@@ -53,11 +53,25 @@ public final class RuntimeInputValidator extends Predicate {
 
     @Override
     public Boolean evaluate(PredicateContext context) {
+        return isSatisfied(context) ? delegate.evaluate(context) : Boolean.FALSE;
+    }
+
+    /**
+     * Checks if {@code context} contains all facts required by rule.
+     *
+     * @param context evaluation context
+     * @return true if rule can be evaluated
+     */
+    public boolean isSatisfied(PredicateContext context) {
         for (String identifier : requiredFactIdentifiers) {
             if (NOT_DEFINED.equals(context.resolve(identifier, NOT_DEFINED))) {
-                return Boolean.FALSE;
+                return false;
             }
         }
-        return delegate.evaluate(context);
+        return true;
+    }
+
+    public Predicate getDelegate() {
+        return delegate;
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.value;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * Provides collection of constant values, frozen once when rules are built.
+ * <p>
+ * Besides the collection itself, which is returned on every {@link #get} without rebuilding it, values are
+ * available as hash set, so membership tests against constant collections (e.g. in {@code contains} operators)
+ * take constant time.
+ */
+public final class ConstantValuesValueProvider extends ValueProvider {
+    private final Type type;
+    private final Collection<?> values;
+    private final Set<?> valueSet;
+
+    public ConstantValuesValueProvider(Type type, Collection<?> values) {
+        this.type = type;
+        this.values = values;
+        this.valueSet = new HashSet<>(values);
+    }
+
+    @Override
+    public Object get(PredicateContext context) {
+        return values;
+    }
+
+    @Override
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns provided values as set.
+     *
+     * @return set of provided values, must not be modified
+     */
+    public Set<?> getValueSet() {
+        return valueSet;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.value;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+
+/**
+ * Composes chains of accessor method handles into single method handle.
+ * <p>
+ * Every accessor of the chain is guarded against {@code null} argument, so the composed handle
+ * returns {@code null} as soon as any value in the chain is {@code null}.
+ */
+final class NullSafeMethodHandles {
+    static final MethodType ACCESSOR_TYPE = MethodType.genericMethodType(1);
+
+    private static final MethodHandle IS_NULL = findIsNull();
+    private static final MethodHandle RETURN_NULL = MethodHandles.dropArguments(
+            MethodHandles.constant(Object.class, null), 0, Object.class);
+
+    private NullSafeMethodHandles() {
+    }
+
+    /**
+     * Composes accessors, so value returned by each of them is passed to the next one.
+     *
+     * @param accessors accessors of {@code (Object)Object} type
+     * @return method handle of {@code (Object)Object} type
+     */
+    static MethodHandle compose(MethodHandle... accessors) {
+        MethodHandle chain = nullSafe(accessors[0]);
+        for (int i = 1; i < accessors.length; i++) {
+            chain = MethodHandles.filterReturnValue(chain, nullSafe(accessors[i]));
+        }
+        return chain;
+    }
+
+    private static MethodHandle nullSafe(MethodHandle accessor) {
+        return MethodHandles.guardWithTest(IS_NULL, RETURN_NULL, accessor.asType(ACCESSOR_TYPE));
+    }
+
+    private static MethodHandle findIsNull() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
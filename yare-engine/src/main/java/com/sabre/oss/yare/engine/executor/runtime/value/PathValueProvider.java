@@ -42,25 +42,26 @@ public class PathValueProvider extends ValueProvider {
 
     private final String reference;
     private final String path;
-    private final MethodHandle[] handles;
+    private final MethodHandle handle;
 
     public PathValueProvider(Class<?> type, String reference, String path) {
         this.reference = notEmpty(reference);
         this.path = notEmpty(path);
-        this.handles = resolveMethodHandles(type, path);
+        this.handle = NullSafeMethodHandles.compose(resolveMethodHandles(type, path));
     }
 
+    /**
+     * Reads the path of referenced variable with single invocation of getter chain composed when
+     * provider is created. {@code null} is returned when the variable or any value in the chain is {@code null}.
+     */
     @Override
     public Object get(PredicateContext context) {
         Object result = context.resolve(reference);
         try {
-            for (MethodHandle handle : handles) {
-                result = handle.bindTo(result).invoke();
-            }
+            return (Object) handle.invokeExact(result);
         } catch (Throwable throwable) {
             throw new IllegalStateException(String.format("Can't evaluate path '%s.%s'", reference, path), throwable);
         }
-        return result;
     }
 
     private MethodHandle[] resolveMethodHandles(Class<?> type, String path) {
@@ -0,0 +1,305 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.value;
+
+import com.google.common.base.Throwables;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTupleLayout;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.sabre.oss.yare.engine.executor.runtime.value.TypeUtils.*;
+
+/**
+ * Reads property path of an object using method handles of getters, public fields and map lookups.
+ * <p>
+ * {@code null} met before any collection makes the whole path {@code null}, while {@code null}s met inside collections
+ * are skipped. When any but the last part of the path is a collection, values are gathered into a list,
+ * and the last collection is flattened only when it is referred with {@code [*]}.
+ */
+final class PropertyAccessor {
+    private static final MethodHandle MAP_GET = findMapGet();
+    private static final int UNREACHABLE = -1;
+    private static final int CONTINUE = 0;
+    private static final int STOP = 1;
+
+    private final String path;
+    private final MethodHandle[] accessors;
+    private final MethodHandle chain;
+    private final boolean[] collections;
+    private final boolean chaining;
+    private final Type type;
+
+    private PropertyAccessor(String path, MethodHandle[] accessors, boolean[] collections, boolean chaining, Type type) {
+        this.path = path;
+        this.accessors = accessors;
+        this.chain = chaining ? null : NullSafeMethodHandles.compose(accessors);
+        this.collections = collections;
+        this.chaining = chaining;
+        this.type = type;
+    }
+
+    static PropertyAccessor of(Class<?> targetClass, String path) {
+        ReferMetadataProvider provider = new ReferMetadataProvider();
+        String[] parts = path.split("\\.");
+        MethodHandle[] accessors = new MethodHandle[parts.length];
+        boolean[] collections = new boolean[parts.length];
+        boolean chaining = false;
+        Type currentType = targetClass;
+        for (int i = 0; i < parts.length; i++) {
+            ReferMetadata metadata = provider.createReferMetadata(currentType, parts[i]);
+            Type ownerType = isCollection(currentType) ? getCollectionGeneric(currentType) : currentType;
+            accessors[i] = createAccessor(getRawType(ownerType), metadata);
+            boolean collection = isCollection(metadata.getRefType());
+            if (i < parts.length - 1) {
+                collections[i] = collection;
+                chaining |= collection;
+            } else {
+                collections[i] = collection && metadata.getPathPart().contains("[*]");
+            }
+            currentType = metadata.getRefType();
+        }
+        return new PropertyAccessor(path, accessors, collections, chaining, chaining ? List.class : getRawType(currentType));
+    }
+
+    /**
+     * Returns type of values read by this accessor.
+     *
+     * @return {@link List} when path goes through collection, type of the last part of the path otherwise
+     */
+    Type getType() {
+        return type;
+    }
+
+    /**
+     * Reads the path of given object.
+     *
+     * @param root object to read the path of
+     * @return value of the path, {@code null} when it cannot be reached
+     */
+    Object get(Object root) {
+        if (root == null) {
+            return null;
+        }
+        if (!chaining) {
+            return read(chain, root);
+        }
+        List<Object> result = new ArrayList<>();
+        int visited = visit(root, 0, false, element -> {
+            result.add(element);
+            return false;
+        });
+        return visited != UNREACHABLE ? result : null;
+    }
+
+    /**
+     * Tells if the path goes through collection, so its values can be visited one by one.
+     *
+     * @return {@code true} when values of the path are gathered into list
+     */
+    boolean isChaining() {
+        return chaining;
+    }
+
+    /**
+     * Visits values gathered by collection path of given object until {@code matcher} matches.
+     *
+     * @param root    object to read the path of
+     * @param matcher matcher of values
+     * @return {@code null} when the path cannot be reached, whether any value matched otherwise
+     */
+    Boolean anyMatch(Object root, QuantifiableValueProvider.ElementMatcher matcher) {
+        if (root == null) {
+            return null;
+        }
+        int result = visit(root, 0, false, matcher);
+        return result != UNREACHABLE ? result == STOP : null;
+    }
+
+    private int visit(Object value, int index, boolean inCollection, QuantifiableValueProvider.ElementMatcher matcher) {
+        Object next = read(index, value);
+        if (index == accessors.length - 1) {
+            if (!collections[index]) {
+                return matcher.matches(next) ? STOP : CONTINUE;
+            }
+            if (next != null) {
+                for (Object element : (Collection<?>) next) {
+                    if (matcher.matches(element)) {
+                        return STOP;
+                    }
+                }
+            }
+            return CONTINUE;
+        }
+        if (next == null) {
+            return inCollection ? CONTINUE : UNREACHABLE;
+        }
+        if (!collections[index]) {
+            return visit(next, index + 1, inCollection, matcher);
+        }
+        for (Object element : (Collection<?>) next) {
+            if (element != null && visit(element, index + 1, true, matcher) == STOP) {
+                return STOP;
+            }
+        }
+        return CONTINUE;
+    }
+
+    private Object read(int index, Object value) {
+        return read(accessors[index], value);
+    }
+
+    private Object read(MethodHandle accessor, Object value) {
+        try {
+            return (Object) accessor.invokeExact(value);
+        } catch (Throwable throwable) {
+            Throwables.throwIfUnchecked(throwable);
+            throw new UndeclaredThrowableException(throwable, String.format("Can't read path '%s'", path));
+        }
+    }
+
+    private static MethodHandle createAccessor(Class<?> ownerClass, ReferMetadata metadata) {
+        String ref = metadata.getRef();
+        try {
+            MethodHandle accessor;
+            if (Map.class.isAssignableFrom(ownerClass)) {
+                String key = ref.substring("get(\"".length(), ref.length() - "\")".length());
+                accessor = MethodHandles.insertArguments(MAP_GET, 1, key);
+            } else if (ref.endsWith("()")) {
+                Method getter = ownerClass.getMethod(ref.substring(0, ref.length() - "()".length()));
+                accessor = lookup(getter.getDeclaringClass(), getter).unreflect(getter);
+            } else {
+                Field field = ownerClass.getField(ref);
+                accessor = lookup(field.getDeclaringClass(), field).unreflectGetter(field);
+            }
+            return accessor.asType(NullSafeMethodHandles.ACCESSOR_TYPE);
+        } catch (NoSuchMethodException | NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalArgumentException(String.format("Unable to refer to %s of %s", ref, ownerClass.getName()), e);
+        }
+    }
+
+    private static MethodHandles.Lookup lookup(Class<?> declaringClass, AccessibleObject member) {
+        if (!Modifier.isPublic(declaringClass.getModifiers())) {
+            member.setAccessible(true);
+        }
+        return MethodHandles.lookup();
+    }
+
+    private static MethodHandle findMapGet() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Map.class, "get", MethodType.methodType(Object.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * {@link ValueProvider} reading path of referenced variable or fact with {@link PropertyAccessor}.
+     * <p>
+     * Paths of facts shared by many providers are read through {@link PredicateContext#resolveProjection},
+     * so they are computed once per fact tuple.
+     */
+    static class PropertyAccessorValueProvider extends ValueProvider {
+        final PropertyAccessor accessor;
+        private final String identifier;
+        private final FactTupleLayout layout;
+        private final int slot;
+        private final int projection;
+        private final Function<Object, Object> projector;
+
+        PropertyAccessorValueProvider(PropertyAccessor accessor, String identifier, FactTupleLayout layout, int slot, int projection) {
+            this.accessor = accessor;
+            this.identifier = identifier;
+            this.layout = layout;
+            this.slot = slot;
+            this.projection = projection;
+            this.projector = accessor::get;
+        }
+
+        @Override
+        public Object get(PredicateContext context) {
+            return isProjected()
+                    ? context.resolveProjection(layout, slot, identifier, projection, projector)
+                    : accessor.get(resolveReference(context));
+        }
+
+        @Override
+        public Type getType() {
+            return accessor.getType();
+        }
+
+        final Object resolveReference(PredicateContext context) {
+            return slot >= 0 ? context.resolveFact(layout, slot, identifier) : context.resolve(identifier);
+        }
+
+        final boolean isProjected() {
+            return projection >= 0;
+        }
+    }
+
+    /**
+     * {@link PropertyAccessorValueProvider} of collection path, which elements can be visited without gathering them.
+     * Memoized values of shared projections are visited instead, when available.
+     */
+    static final class CollectionPropertyAccessorValueProvider extends PropertyAccessorValueProvider implements QuantifiableValueProvider {
+
+        CollectionPropertyAccessorValueProvider(PropertyAccessor accessor, String identifier, FactTupleLayout layout, int slot, int projection) {
+            super(accessor, identifier, layout, slot, projection);
+        }
+
+        @Override
+        public Boolean anyMatch(PredicateContext context, ElementMatcher matcher) {
+            return isProjected()
+                    ? anyMatch((Collection<?>) get(context), matcher)
+                    : accessor.anyMatch(resolveReference(context), matcher);
+        }
+
+        @Override
+        public Boolean allMatch(PredicateContext context, ElementMatcher matcher) {
+            Boolean anyMismatch = anyMatch(context, element -> !matcher.matches(element));
+            return anyMismatch != null ? !anyMismatch : null;
+        }
+
+        private static Boolean anyMatch(Collection<?> values, ElementMatcher matcher) {
+            if (values == null) {
+                return null;
+            }
+            for (Object value : values) {
+                if (matcher.matches(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.value;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTupleLayout;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Creates {@link ValueProvider}s reading property paths of variables and facts.
+ * <p>
+ * Accessors are composed of method handles, so no classes are generated and loaded for them. Composed accessors
+ * are kept in a bounded cache owned by the factory, so every engine has its own registry which is released
+ * together with the engine.
+ */
+public class PropertyAccessorFactory {
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Cache<Pair<Class<?>, String>, PropertyAccessor> accessors;
+
+    public PropertyAccessorFactory() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public PropertyAccessorFactory(long maximumSize) {
+        this.accessors = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Creates value provider reading {@code path} of variable resolved by {@code identifier}.
+     *
+     * @param targetClass  type of the variable
+     * @param identifier   identifier of the variable
+     * @param propertyName path to read, parts are separated with dots
+     * @return value provider
+     */
+    public ValueProvider create(Class<?> targetClass, String identifier, String propertyName) {
+        return create(targetClass, identifier, propertyName, null, -1);
+    }
+
+    /**
+     * Creates value provider reading {@code path} of fact stored in given slot of fact tuple.
+     * When the path is a projection of the {@code layout} its value is memoized per tuple.
+     *
+     * @param targetClass  type of the fact
+     * @param identifier   identifier of the fact
+     * @param propertyName path to read, parts are separated with dots
+     * @param layout       layout of fact tuple
+     * @param slot         slot of the fact, facts are resolved by {@code identifier} when negative
+     * @return value provider
+     */
+    public ValueProvider create(Class<?> targetClass, String identifier, String propertyName, FactTupleLayout layout, int slot) {
+        PropertyAccessor accessor = getAccessor(targetClass, propertyName);
+        int projection = layout != null && slot >= 0 ? layout.projectionOf(FactTupleLayout.pathProjectionKey(slot, propertyName)) : -1;
+        return accessor.isChaining()
+                ? new PropertyAccessor.CollectionPropertyAccessorValueProvider(accessor, identifier, layout, slot, projection)
+                : new PropertyAccessor.PropertyAccessorValueProvider(accessor, identifier, layout, slot, projection);
+    }
+
+    private PropertyAccessor getAccessor(Class<?> targetClass, String propertyName) {
+        try {
+            return accessors.get(Pair.of(targetClass, propertyName), () -> PropertyAccessor.of(targetClass, propertyName.replace("!", "")));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.value;
+
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+
+/**
+ * {@link ValueProvider} of collection which can be searched without materializing it.
+ * <p>
+ * Elements are visited lazily and the visit stops as soon as the result is known, so operators
+ * testing elements of collection paths don't need intermediate lists.
+ */
+public interface QuantifiableValueProvider {
+
+    /**
+     * Tests whether any element of provided collection matches.
+     *
+     * @param context context
+     * @param matcher element matcher
+     * @return {@code null} when {@link ValueProvider#get} would return {@code null}, result of the test otherwise
+     */
+    Boolean anyMatch(PredicateContext context, ElementMatcher matcher);
+
+    /**
+     * Tests whether all elements of provided collection match.
+     *
+     * @param context context
+     * @param matcher element matcher
+     * @return {@code null} when {@link ValueProvider#get} would return {@code null}, result of the test otherwise
+     */
+    Boolean allMatch(PredicateContext context, ElementMatcher matcher);
+
+    @FunctionalInterface
+    interface ElementMatcher {
+
+        boolean matches(Object element);
+    }
+}
@@ -24,18 +24,27 @@
 
 package com.sabre.oss.yare.engine.executor.runtime.value;
 
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTupleLayout;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
 
 public final class ReferenceValueProvider extends ValueProvider {
 
     private final String reference;
+    private final FactTupleLayout layout;
+    private final int slot;
 
     public ReferenceValueProvider(String reference) {
+        this(reference, null, -1);
+    }
+
+    public ReferenceValueProvider(String reference, FactTupleLayout layout, int slot) {
         this.reference = reference;
+        this.layout = layout;
+        this.slot = slot;
     }
 
     @Override
     public Object get(PredicateContext context) {
-        return context.resolve(reference);
+        return slot >= 0 ? context.resolveFact(layout, slot, reference) : context.resolve(reference);
     }
 }
@@ -26,9 +26,10 @@ package com.sabre.oss.yare.engine.executor.runtime.value;
 
 import com.sabre.oss.yare.core.call.ProcessingContext;
 import com.sabre.oss.yare.core.invocation.Invocation;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTupleLayout;
 
 import java.lang.reflect.Type;
-import java.util.List;
+import java.util.*;
 
 public final class ValueProviderFactory {
 
@@ -51,10 +52,29 @@ public final class ValueProviderFactory {
         return new ConstantValueProvider(value);
     }
 
+    /**
+     * @deprecated use {@link #createFromPath(PropertyAccessorFactory, Class, String, String)} with the executor's
+     * {@link PropertyAccessorFactory}, this method uses one shared by the whole class loader
+     */
+    @Deprecated
     public static ValueProvider createFromPath(Class<?> referenceType, String reference, Class<?> type, String path) {
         return path == null ? new ReferenceValueProvider(reference) : FieldReferringClassFactory.create(referenceType, reference, path);
     }
 
+    public static ValueProvider createFromPath(PropertyAccessorFactory accessorFactory, Class<?> referenceType, String reference, String path) {
+        return path == null ? new ReferenceValueProvider(reference) : accessorFactory.create(referenceType, reference, path);
+    }
+
+    public static ValueProvider createFromFactPath(PropertyAccessorFactory accessorFactory, Class<?> referenceType, String reference, String path, FactTupleLayout layout) {
+        int slot = layout.slotOf(reference);
+        if (slot < 0) {
+            return createFromPath(accessorFactory, referenceType, reference, path);
+        }
+        return path == null
+                ? new ReferenceValueProvider(reference, layout, slot)
+                : accessorFactory.create(referenceType, reference, path, layout, slot);
+    }
+
     public static ValueProvider createFromMapKey(String reference, String key) {
         return new MapValueProvider(reference, key);
     }
@@ -64,6 +84,40 @@ public final class ValueProviderFactory {
     }
 
     public static ValueProvider createFromValues(Type type, List<ValueProvider> values) {
+        if (values.stream().allMatch(v -> v instanceof ConstantValueProvider)) {
+            List<Object> constants = new ArrayList<>(values.size());
+            for (ValueProvider value : values) {
+                constants.add(value.get(null));
+            }
+            return new ConstantValuesValueProvider(type, Collections.unmodifiableList(constants));
+        }
         return new ValuesValueProvider(type, values);
     }
+
+    /**
+     * Returns values provided by constant collection provider as set.
+     *
+     * @param valueProvider value provider
+     * @return set of constant values, {@code null} if {@code valueProvider} does not provide constant collection
+     */
+    public static Set<?> getConstantValueSet(ValueProvider valueProvider) {
+        if (valueProvider instanceof ConstantValuesValueProvider) {
+            return ((ConstantValuesValueProvider) valueProvider).getValueSet();
+        }
+        if (valueProvider instanceof ConstantValueProvider) {
+            Object value = valueProvider.get(null);
+            return value instanceof Collection ? new HashSet<>((Collection<?>) value) : null;
+        }
+        return null;
+    }
+
+    /**
+     * Returns value provider as {@link QuantifiableValueProvider}.
+     *
+     * @param valueProvider value provider
+     * @return quantifiable value provider, {@code null} if elements provided by {@code valueProvider} cannot be visited lazily
+     */
+    public static QuantifiableValueProvider getQuantifiable(ValueProvider valueProvider) {
+        return valueProvider instanceof QuantifiableValueProvider ? (QuantifiableValueProvider) valueProvider : null;
+    }
 }
@@ -30,5 +30,11 @@ public enum DefaultEngineFeature implements Feature {
     /**
      * Feature disabling cache for functions' results.
      */
-    DISABLE_CACHE_FUNCTION_RESULT
+    DISABLE_CACHE_FUNCTION_RESULT,
+    /**
+     * Feature marking function as request-pure: its result depends only on its arguments within
+     * a single execution, so it is computed at most once per distinct arguments during that execution.
+     * Results are not shared between executions.
+     */
+    REQUEST_SCOPED_FUNCTION_RESULT
 }
@@ -28,8 +28,6 @@ import com.sabre.oss.yare.core.call.*;
 import com.sabre.oss.yare.core.invocation.Invocation;
 import org.apache.commons.lang3.ClassUtils;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -94,30 +92,17 @@ public class MethodCallInvocationFactory implements InvocationFactory {
     }
 
     static final class MethodBasedInvocation<R> extends ProcessingInvocation<R> {
-        private final MethodHandle methodHandle;
+        private final MethodInvoker methodInvoker;
 
         private MethodBasedInvocation(Argument.Invocation invocation, ArgumentValueResolver argumentValueResolver, Object target, Method method) {
             super(invocation, argumentValueResolver);
-            try {
-                MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
-                this.methodHandle = target != null ? methodHandle.bindTo(target) : methodHandle;
-            } catch (RuntimeException | Error e) {
-                throw e;
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+            this.methodInvoker = MethodInvoker.of(target, method);
         }
 
         @Override
         @SuppressWarnings("unchecked")
         public R call(ProcessingContext processingContext, Object[] args) {
-            try {
-                return (R) methodHandle.invokeWithArguments(args);
-            } catch (RuntimeException | Error e) {
-                throw e;
-            } catch (Throwable e) {
-                throw new RuntimeException(e);
-            }
+            return (R) methodInvoker.invoke(args);
         }
     }
 
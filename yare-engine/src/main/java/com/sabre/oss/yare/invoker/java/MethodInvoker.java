@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.invoker.java;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Invoker of a Java method linked once into an arity-specific shape.
+ * <p>
+ * Method handle is adapted to generic {@code (Object, ...)Object} type when the invoker is created, so each call
+ * is an exact invocation which does neither spread arguments into a fresh array nor adapt types
+ * like {@link MethodHandle#invokeWithArguments(Object...)} does. Methods with more than
+ * 4 parameters are linked through a spreader created once as well.
+ */
+public abstract class MethodInvoker {
+    private static final int SPECIALIZED_ARITY = 4;
+
+    MethodInvoker() {
+    }
+
+    /**
+     * Links {@code method} into invoker.
+     *
+     * @param target instance the method is bound to, {@code null} for static methods
+     * @param method method to invoke
+     * @return invoker expecting as many arguments as {@code method} declares
+     */
+    public static MethodInvoker of(Object target, Method method) {
+        MethodHandle methodHandle;
+        try {
+            methodHandle = MethodHandles.lookup().unreflect(method).asFixedArity();
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(String.format("Cannot access method %s", method), e);
+        }
+        if (target != null) {
+            methodHandle = methodHandle.bindTo(target);
+        }
+        int arity = methodHandle.type().parameterCount();
+        switch (arity) {
+            case 0:
+                return new Arity0(methodHandle.asType(MethodType.genericMethodType(0)));
+            case 1:
+                return new Arity1(methodHandle.asType(MethodType.genericMethodType(1)));
+            case 2:
+                return new Arity2(methodHandle.asType(MethodType.genericMethodType(2)));
+            case 3:
+                return new Arity3(methodHandle.asType(MethodType.genericMethodType(3)));
+            case SPECIALIZED_ARITY:
+                return new Arity4(methodHandle.asType(MethodType.genericMethodType(SPECIALIZED_ARITY)));
+            default:
+                return new Spread(methodHandle
+                        .asSpreader(Object[].class, arity)
+                        .asType(MethodType.methodType(Object.class, Object[].class)));
+        }
+    }
+
+    /**
+     * Invokes the method.
+     *
+     * @param args arguments, exactly as many as the method declares
+     * @return result of the method, {@code null} for void methods
+     * @throws RuntimeException thrown by the method, or wrapping checked exception thrown by it
+     */
+    public abstract Object invoke(Object[] args);
+
+    // unchecked exceptions and errors are rethrown as they are, checked ones wrapped
+    private static RuntimeException propagate(Throwable e) {
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e);
+    }
+
+    private static final class Arity0 extends MethodInvoker {
+        private final MethodHandle methodHandle;
+
+        private Arity0(MethodHandle methodHandle) {
+            this.methodHandle = methodHandle;
+        }
+
+        @Override
+        public Object invoke(Object[] args) {
+            try {
+                return (Object) methodHandle.invokeExact();
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+    }
+
+    private static final class Arity1 extends MethodInvoker {
+        private final MethodHandle methodHandle;
+
+        private Arity1(MethodHandle methodHandle) {
+            this.methodHandle = methodHandle;
+        }
+
+        @Override
+        public Object invoke(Object[] args) {
+            try {
+                return (Object) methodHandle.invokeExact(args[0]);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+    }
+
+    private static final class Arity2 extends MethodInvoker {
+        private final MethodHandle methodHandle;
+
+        private Arity2(MethodHandle methodHandle) {
+            this.methodHandle = methodHandle;
+        }
+
+        @Override
+        public Object invoke(Object[] args) {
+            try {
+                return (Object) methodHandle.invokeExact(args[0], args[1]);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+    }
+
+    private static final class Arity3 extends MethodInvoker {
+        private final MethodHandle methodHandle;
+
+        private Arity3(MethodHandle methodHandle) {
+            this.methodHandle = methodHandle;
+        }
+
+        @Override
+        public Object invoke(Object[] args) {
+            try {
+                return (Object) methodHandle.invokeExact(args[0], args[1], args[2]);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+    }
+
+    private static final class Arity4 extends MethodInvoker {
+        private final MethodHandle methodHandle;
+
+        private Arity4(MethodHandle methodHandle) {
+            this.methodHandle = methodHandle;
+        }
+
+        @Override
+        public Object invoke(Object[] args) {
+            try {
+                return (Object) methodHandle.invokeExact(args[0], args[1], args[2], args[3]);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+    }
+
+    private static final class Spread extends MethodInvoker {
+        private final MethodHandle methodHandle;
+
+        private Spread(MethodHandle methodHandle) {
+            this.methodHandle = methodHandle;
+        }
+
+        @Override
+        public Object invoke(Object[] args) {
+            try {
+                return (Object) methodHandle.invokeExact(args);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        }
+    }
+}
@@ -28,8 +28,11 @@ import com.sabre.oss.yare.core.call.Argument;
 import com.sabre.oss.yare.core.call.Argument.Reference;
 import com.sabre.oss.yare.core.call.Argument.Value;
 import com.sabre.oss.yare.core.call.Argument.Values;
+import com.sabre.oss.yare.core.call.CompiledArgument;
+import com.sabre.oss.yare.core.call.ProcessingContext;
 import com.sabre.oss.yare.core.call.ProcessingInvocationFactory;
 import com.sabre.oss.yare.core.call.VariableResolver;
+import com.sabre.oss.yare.core.invocation.Invocation;
 import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -41,8 +44,7 @@ import java.util.List;
 
 import static com.sabre.oss.yare.core.call.Argument.UNKNOWN;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class DefaultArgumentValueResolverTest {
     private ProcessingInvocationFactory<Object> functionProcessingInvocationFactory;
@@ -92,6 +94,90 @@ public class DefaultArgumentValueResolverTest {
         assertThat(resultValueBRef).isEqualTo("valueB");
     }
 
+    @Test
+    void shouldResolveCompiledReferenceArgument() {
+        // given
+        Reference reference = Argument.referenceOf("myReference", MyProperty.class, UNKNOWN, "myProperty.nested.value");
+        CompiledArgument compiledArgument = defaultArgumentValueResolver.compile(reference);
+
+        VariableResolver firstResolver = mock(PredicateContext.class);
+        when(firstResolver.resolve("myProperty")).thenReturn(new MyProperty("directValue", new MyProperty("first")));
+        VariableResolver secondResolver = mock(PredicateContext.class);
+        when(secondResolver.resolve("myProperty")).thenReturn(new MyProperty("directValue", new MyProperty("second")));
+
+        // when
+        Object firstValue = compiledArgument.resolve(firstResolver);
+        Object secondValue = compiledArgument.resolve(secondResolver);
+
+        // then
+        assertThat(firstValue).isEqualTo("first");
+        assertThat(secondValue).isEqualTo("second");
+    }
+
+    @Test
+    void shouldResolveCompiledReferenceArgumentOfUnknownTypeUsingRuntimeType() {
+        // given
+        Reference reference = Argument.referenceOf("myReference", Object.class, UNKNOWN, "myProperty.value");
+        CompiledArgument compiledArgument = defaultArgumentValueResolver.compile(reference);
+
+        VariableResolver propertyResolver = mock(PredicateContext.class);
+        when(propertyResolver.resolve("myProperty")).thenReturn(new MyProperty("propertyValue"));
+        VariableResolver otherPropertyResolver = mock(PredicateContext.class);
+        when(otherPropertyResolver.resolve("myProperty")).thenReturn(new MyOtherProperty("otherPropertyValue"));
+
+        // when
+        Object propertyValue = compiledArgument.resolve(propertyResolver);
+        Object otherPropertyValue = compiledArgument.resolve(otherPropertyResolver);
+
+        // then
+        assertThat(propertyValue).isEqualTo("propertyValue");
+        assertThat(otherPropertyValue).isEqualTo("otherPropertyValue");
+    }
+
+    @Test
+    void shouldResolveCompiledValuesArgument() {
+        // given
+        Values valuesArgument = Argument.valuesOf("myValues", String.class,
+                Arrays.asList(
+                        Argument.valueOf("value", "string"),
+                        Argument.referenceOf("reference", MyProperty.class, UNKNOWN, "myProperty.value")
+                )
+        );
+        VariableResolver variableResolver = mock(PredicateContext.class);
+        when(variableResolver.resolve("myProperty")).thenReturn(new MyProperty("referenceValue"));
+
+        // when
+        Object resolvedValue = defaultArgumentValueResolver.compile(valuesArgument).resolve(variableResolver);
+
+        // then
+        assertThat(resolvedValue).isInstanceOfSatisfying(List.class,
+                l -> assertThat(l).containsExactly(
+                        "string",
+                        "referenceValue"
+                ));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldCreateNestedInvocationOnceWhenCompilingInvocationArgument() {
+        // given
+        Argument.Invocation invocationArgument = Argument.invocationOf("nested", String.class, "nestedFunction");
+        Invocation<ProcessingContext, Object> nestedInvocation = mock(Invocation.class);
+        ProcessingContext processingContext = mock(PredicateContext.class);
+        when(functionProcessingInvocationFactory.create(invocationArgument)).thenReturn(nestedInvocation);
+        when(nestedInvocation.proceed(processingContext)).thenReturn("first", "second");
+        CompiledArgument compiledArgument = defaultArgumentValueResolver.compile(invocationArgument);
+
+        // when
+        Object firstValue = compiledArgument.resolve(processingContext);
+        Object secondValue = compiledArgument.resolve(processingContext);
+
+        // then
+        assertThat(firstValue).isEqualTo("first");
+        assertThat(secondValue).isEqualTo("second");
+        verify(functionProcessingInvocationFactory, times(1)).create(invocationArgument);
+    }
+
     @Nested
     class ValuesResolving {
 
@@ -134,6 +220,18 @@ public class DefaultArgumentValueResolverTest {
         }
     }
 
+    public static final class MyOtherProperty {
+        private final String value;
+
+        private MyOtherProperty(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
     public static final class MyProperty {
         private String value;
         private MyProperty nested;
@@ -98,6 +98,90 @@ class DefaultCallInvocationResultCacheTest {
         assertThat(result).isEqualTo(6);
     }
 
+    @Test
+    void shouldComputeMissesUsingCurrentCall() {
+        //given
+        defaultFunctionResultCache.get("testFunction", new Object[]{1, 2, 3}, args -> "first call");
+
+        //when
+        String result = defaultFunctionResultCache.get("testFunction", new Object[]{4, 5, 6}, args -> "second call");
+
+        //then
+        assertThat(result).isEqualTo("second call");
+    }
+
+    @Test
+    void shouldReportStatistics() {
+        //given
+        Object[] arguments = {1, 2, 3};
+        defaultFunctionResultCache.get("testFunction", arguments, this::testFunction);
+
+        //when
+        defaultFunctionResultCache.get("testFunction", arguments, this::testFunction);
+        defaultFunctionResultCache.get("testFunction", arguments, this::testFunction);
+
+        //then
+        assertThat(defaultFunctionResultCache.getStatistics("testFunction")).hasValueSatisfying(statistics -> {
+            assertThat(statistics.getHitCount()).isEqualTo(2);
+            assertThat(statistics.getMissCount()).isEqualTo(1);
+            assertThat(statistics.getSize()).isEqualTo(1);
+            assertThat(statistics.getTotalLoadTime().isNegative()).isFalse();
+        });
+        assertThat(defaultFunctionResultCache.getStatistics("otherTestFunction")).isEmpty();
+        assertThat(defaultFunctionResultCache.getStatistics()).containsOnlyKeys("testFunction");
+    }
+
+    @Test
+    void shouldEvictResultsExceedingMaximumSize() {
+        //given
+        DefaultCallInvocationResultCache boundedCache = new DefaultCallInvocationResultCache(ExecutorConfiguration.builder()
+                .withFunctionCacheMaximumSize("testFunction", 2)
+                .build());
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            boundedCache.get("testFunction", new Object[]{i, i, i}, this::testFunction);
+        }
+
+        //then
+        assertThat(boundedCache.getStatistics("testFunction")).hasValueSatisfying(statistics -> {
+            assertThat(statistics.getSize()).isLessThanOrEqualTo(2);
+            assertThat(statistics.getEvictionCount()).isGreaterThanOrEqualTo(8);
+        });
+    }
+
+    @Test
+    void shouldEvictResultsExceedingMaximumWeight() {
+        //given
+        DefaultCallInvocationResultCache boundedCache = new DefaultCallInvocationResultCache(ExecutorConfiguration.builder()
+                .withFunctionCacheMaximumWeight("testFunction", 10, (key, result) -> (Integer) result)
+                .build());
+
+        //when
+        boundedCache.get("testFunction", new Object[]{1, 2, 3}, this::testFunction);
+        boundedCache.get("testFunction", new Object[]{4, 5, 6}, this::testFunction);
+
+        //then
+        assertThat(boundedCache.getStatistics("testFunction")).hasValueSatisfying(statistics ->
+                assertThat(statistics.getSize()).isLessThanOrEqualTo(1));
+    }
+
+    @Test
+    void shouldUseKeyExtractedFromArguments() {
+        //given
+        DefaultCallInvocationResultCache extractingCache = new DefaultCallInvocationResultCache(ExecutorConfiguration.builder()
+                .withFunctionCacheKeyExtractor("testFunction", args -> args[0])
+                .build());
+        extractingCache.get("testFunction", new Object[]{1, 2, 3}, this::testFunction);
+
+        //when
+        int result = extractingCache.get("testFunction", new Object[]{1, 5, 6}, this::testFunction);
+
+        //then
+        assertThat(howManyExecutions).isEqualTo(1);
+        assertThat(result).isEqualTo(6);
+    }
+
     private Integer testFunction(Object[] args) {
         howManyExecutions++;
         return (Integer) args[0] + (Integer) args[1] + (Integer) args[2];
@@ -24,6 +24,7 @@
 
 package com.sabre.oss.yare.engine.executor;
 
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTuple;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
@@ -69,7 +70,7 @@ class CrossProductFactTupleIteratorTest {
 
         // when
         while (iterator.hasNext()) {
-            Map<String, Object> item = iterator.next();
+            FactTuple item = iterator.next();
             result.add(format("%s", item.get("a")));
         }
 
@@ -96,7 +97,7 @@ class CrossProductFactTupleIteratorTest {
 
         // when
         while (iterator.hasNext()) {
-            Map<String, Object> item = iterator.next();
+            FactTuple item = iterator.next();
             result.add(format("%s:%s:%s:%s", item.get("a"), item.get("b"), item.get("c"), item.get("d")));
         }
 
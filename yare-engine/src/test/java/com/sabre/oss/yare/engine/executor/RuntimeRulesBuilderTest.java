@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor;
+
+import com.sabre.oss.yare.core.call.ConsequenceFactory;
+import com.sabre.oss.yare.core.call.FunctionFactory;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.Expression;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.executor.runtime.operator.logical.And;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.SharedPredicate;
+import com.sabre.oss.yare.engine.executor.runtime.validator.RuntimeInputValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RuntimeRulesBuilderTest {
+    private final RuntimeRulesBuilder runtimeRulesBuilder = new RuntimeRulesBuilder(
+            new DefaultPredicateFactory(),
+            new FunctionFactory(invocation -> null),
+            new ConsequenceFactory(invocation -> null));
+
+    @Test
+    void shouldNotMemoizePathsReadBySingleCondition() {
+        // given
+        Rule indexed = createRule("indexed", equal(value("${order.name}"), value("first")));
+        Rule joined = createRule("joined", equal(value("${order.id}"), value("${customer.id}")));
+
+        // when
+        RuntimeRules runtimeRules = runtimeRulesBuilder.build(Arrays.asList(indexed, joined));
+
+        // then
+        assertThat(runtimeRules.getFactTupleLayout().getProjectionCount()).isZero();
+    }
+
+    @Test
+    void shouldMemoizePathReadByManyConditions() {
+        // given
+        Rule first = createRule("first", equal(value("${order.name}"), value("first")));
+        Rule second = createRule("second", equal(value("${order.name}"), value("second")));
+
+        // when
+        RuntimeRules runtimeRules = runtimeRulesBuilder.build(Arrays.asList(first, second));
+
+        // then
+        assertThat(runtimeRules.getFactTupleLayout().getProjectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldShareOnlyConditionsUsedByManyRules() {
+        // given
+        Rule first = createRule("first", and(equal(value("${order.name}"), value("order")), equal(value("${order.id}"), value("1"))));
+        Rule second = createRule("second", and(equal(value("${order.name}"), value("order")), equal(value("${order.id}"), value("2"))));
+
+        // when
+        RuntimeRules runtimeRules = runtimeRulesBuilder.build(Arrays.asList(first, second));
+
+        // then
+        List<Predicate> firstConditions = getConditions(runtimeRules.getExecutableRules().get(0));
+        List<Predicate> secondConditions = getConditions(runtimeRules.getExecutableRules().get(1));
+        assertThat(firstConditions.get(0)).isInstanceOf(SharedPredicate.class).isSameAs(secondConditions.get(0));
+        assertThat(firstConditions.get(1)).isNotInstanceOf(SharedPredicate.class);
+        assertThat(secondConditions.get(1)).isNotInstanceOf(SharedPredicate.class);
+    }
+
+    private static List<Predicate> getConditions(RuntimeRules.ExecutableRule executableRule) {
+        return ((And) ((RuntimeInputValidator) executableRule.getPredicate()).getDelegate()).getPredicates();
+    }
+
+    private static Rule createRule(String name, Expression<Boolean> predicate) {
+        return RuleDsl.ruleBuilder()
+                .name(name)
+                .fact("order", Order.class)
+                .fact("customer", Customer.class)
+                .predicate(predicate)
+                .action("collect")
+                .build();
+    }
+
+    public static final class Order {
+
+        public String getName() {
+            return null;
+        }
+
+        public String getId() {
+            return null;
+        }
+    }
+
+    public static final class Customer {
+
+        public String getId() {
+            return null;
+        }
+    }
+}
@@ -24,6 +24,7 @@
 
 package com.sabre.oss.yare.engine.executor;
 
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTuple;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
@@ -68,7 +69,7 @@ class SingleTypeFactTupleIteratorTest {
 
         // when
         while (iterator.hasNext()) {
-            Map<String, Object> item = iterator.next();
+            FactTuple item = iterator.next();
             result.add(format("%s", item.get("a")));
         }
 
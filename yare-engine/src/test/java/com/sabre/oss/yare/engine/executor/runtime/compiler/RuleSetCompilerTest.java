@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.compiler;
+
+import com.sabre.oss.yare.core.model.Fact;
+import com.sabre.oss.yare.engine.executor.runtime.operator.BiArgsPredicate;
+import com.sabre.oss.yare.engine.executor.runtime.operator.logical.*;
+import com.sabre.oss.yare.engine.executor.runtime.operator.relation.*;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.validator.RuntimeInputValidator;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProviderFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RuleSetCompilerTest {
+    private static final List<Predicate> LEAVES = asList(
+            ValueProviderFactory.constantTrue(),
+            ValueProviderFactory.constantFalse(),
+            ValueProviderFactory.constantNull());
+
+    @Test
+    void shouldPreserveThreeValuedLogicOfOperators() {
+        // given
+        List<Predicate> predicates = new ArrayList<>();
+        for (Predicate a : LEAVES) {
+            predicates.add(new Not(a));
+            for (Predicate b : LEAVES) {
+                predicates.add(new And(asList(a, b)));
+                predicates.add(new Or(asList(a, b)));
+                predicates.add(new And(asList(new Or(asList(a, b)), new Not(b), new True())));
+                predicates.add(new Or(asList(new And(asList(a, b)), new Not(a), new False())));
+            }
+        }
+        predicates.add(new And(Collections.emptyList()));
+        predicates.add(new Or(Collections.emptyList()));
+        PredicateContext context = new PredicateContext("rule", null, Collections.emptyMap(), Collections.emptyMap(), null);
+
+        // when
+        List<Predicate> compiled = RuleSetCompiler.compile(predicates);
+
+        // then
+        assertThat(compiled).doesNotContainAnyElementsOf(predicates);
+        assertThat(evaluate(compiled, context)).containsExactlyElementsOf(evaluate(predicates, context));
+    }
+
+    @Test
+    void shouldCheckPresenceOfRequiredFacts() {
+        // given
+        List<Predicate> predicates = asList(
+                RuntimeInputValidator.of(Collections.singletonList(new Fact("present", Object.class)), new True()),
+                RuntimeInputValidator.of(Collections.singletonList(new Fact("missing", Object.class)), new True()));
+        PredicateContext context = new PredicateContext("rule", null, Collections.singletonMap("present", new Object()), Collections.emptyMap(), null);
+
+        // when
+        List<Predicate> compiled = RuleSetCompiler.compile(predicates);
+
+        // then
+        assertThat(compiled).doesNotContainAnyElementsOf(predicates);
+        assertThat(evaluate(compiled, context)).containsExactly(true, false);
+    }
+
+    @Test
+    void shouldCompileRulesInManyGroups() {
+        // given
+        List<Predicate> predicates = IntStream.range(0, 300)
+                .mapToObj(i -> new And(asList(LEAVES.get(i % 3), LEAVES.get(i / 3 % 3))))
+                .collect(Collectors.toList());
+        PredicateContext context = new PredicateContext("rule", null, Collections.emptyMap(), Collections.emptyMap(), null);
+
+        // when
+        List<Predicate> compiled = RuleSetCompiler.compile(predicates);
+
+        // then
+        assertThat(compiled).doesNotContainAnyElementsOf(predicates);
+        assertThat(evaluate(compiled, context)).containsExactlyElementsOf(evaluate(predicates, context));
+    }
+
+    @Test
+    void shouldPreserveSemanticsOfInlinedComparisons() {
+        // given
+        List<Predicate> predicates = new ArrayList<>();
+        addComparisons(predicates, asList(1, 2, null), GtInteger::new, GeInteger::new, LtInteger::new, LeInteger::new, EqObject::new);
+        addComparisons(predicates, asList(1L, 2L, null), GtLong::new, GeLong::new, LtLong::new, LeLong::new);
+        addComparisons(predicates, asList(-0.0, 0.0, Double.NaN, null), GtDouble::new, GeDouble::new, LtDouble::new, LeDouble::new);
+        addComparisons(predicates, asList(new BigDecimal("1.0"), new BigDecimal("1.00"), BigDecimal.TEN, null),
+                GtBigDecimal::new, GeBigDecimal::new, LtBigDecimal::new, LeBigDecimal::new, EqObject::new);
+        Set<String> constants = new HashSet<>(asList("a", "b"));
+        ValueProvider constantSet = ValueProviderFactory.createFromConstant(constants);
+        for (Object value : asList(asList("c", "b"), Collections.singletonList("c"), Collections.emptyList(), null)) {
+            ValueProvider collection = ValueProviderFactory.createFromConstant(value);
+            predicates.add(new ContainsAnyConstantSet(collection, constantSet, constants, false));
+            predicates.add(new ContainsAnyConstantSet(constantSet, collection, constants, true));
+        }
+        PredicateContext context = new PredicateContext("rule", null, Collections.emptyMap(), Collections.emptyMap(), null);
+
+        // when
+        List<Predicate> compiled = RuleSetCompiler.compile(predicates);
+
+        // then
+        assertThat(compiled).doesNotContainAnyElementsOf(predicates);
+        assertThat(evaluate(compiled, context)).containsExactlyElementsOf(evaluate(predicates, context));
+    }
+
+    @Test
+    void shouldInlineTypeSpecializedOperators() {
+        // given
+        ValueProvider one = ValueProviderFactory.createFromConstant(1);
+        ValueProvider two = ValueProviderFactory.createFromConstant(2);
+        List<Predicate> predicates = asList(
+                new GtInteger(one, two),
+                new And(asList(new EqObject(one, two), new Not(new LeInteger(one, two)))));
+
+        // when
+        List<Predicate> compiled = RuleSetCompiler.compile(predicates);
+
+        // then
+        assertThat(compiled).allSatisfy(p -> assertThat(p.getClass().getDeclaredFields())
+                .isNotEmpty()
+                .noneMatch(f -> BiArgsPredicate.class.isAssignableFrom(f.getType())));
+    }
+
+    @Test
+    void shouldShareGeneratedClassBetweenRulesOfTheSameShape() {
+        // given
+        List<Predicate> predicates = IntStream.range(0, 10)
+                .mapToObj(i -> new And(asList(
+                        new GtInteger(ValueProviderFactory.createFromConstant(i), ValueProviderFactory.createFromConstant(5)),
+                        new EqObject(ValueProviderFactory.createFromConstant("a"), ValueProviderFactory.createFromConstant("a" + i % 2)))))
+                .collect(Collectors.toList());
+        PredicateContext context = new PredicateContext("rule", null, Collections.emptyMap(), Collections.emptyMap(), null);
+
+        // when
+        List<Predicate> compiled = RuleSetCompiler.compile(predicates);
+
+        // then
+        assertThat(compiled).allMatch(p -> p instanceof CompiledPredicate && p.getClass() == compiled.get(0).getClass());
+        assertThat(evaluate(compiled, context)).containsExactlyElementsOf(evaluate(predicates, context));
+    }
+
+    @SafeVarargs
+    private static void addComparisons(List<Predicate> predicates, List<?> values,
+                                       BiFunction<ValueProvider, ValueProvider, Predicate>... operators) {
+        for (BiFunction<ValueProvider, ValueProvider, Predicate> operator : operators) {
+            for (Object left : values) {
+                for (Object right : values) {
+                    predicates.add(operator.apply(ValueProviderFactory.createFromConstant(left), ValueProviderFactory.createFromConstant(right)));
+                }
+            }
+        }
+    }
+
+    private static List<Boolean> evaluate(List<Predicate> predicates, PredicateContext context) {
+        return predicates.stream()
+                .map(p -> p.evaluate(context))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
+
+import com.sabre.oss.yare.core.model.Expression;
+import com.sabre.oss.yare.engine.executor.runtime.operator.OperatorFactory;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.Predicate;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import com.sabre.oss.yare.engine.executor.runtime.value.ValueProvider;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import static com.sabre.oss.yare.core.model.ExpressionFactory.operatorOf;
+import static com.sabre.oss.yare.core.model.ExpressionFactory.valueOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class ComparisonOperatorFactoryTest {
+
+    private static Stream<Arguments> specializedOperators() {
+        return Stream.of(
+                arguments(new Gt(), Gt.OPERATOR_NAME, int.class, int.class, GtInteger.class),
+                arguments(new Gt(), Gt.OPERATOR_NAME, Integer.class, int.class, GtInteger.class),
+                arguments(new Gt(), Gt.OPERATOR_NAME, long.class, Long.class, GtLong.class),
+                arguments(new Gt(), Gt.OPERATOR_NAME, Double.class, double.class, GtDouble.class),
+                arguments(new Gt(), Gt.OPERATOR_NAME, BigDecimal.class, BigDecimal.class, GtBigDecimal.class),
+                arguments(new Ge(), Ge.OPERATOR_NAME, int.class, Integer.class, GeInteger.class),
+                arguments(new Ge(), Ge.OPERATOR_NAME, long.class, long.class, GeLong.class),
+                arguments(new Ge(), Ge.OPERATOR_NAME, double.class, Double.class, GeDouble.class),
+                arguments(new Ge(), Ge.OPERATOR_NAME, BigDecimal.class, BigDecimal.class, GeBigDecimal.class),
+                arguments(new Lt(), Lt.OPERATOR_NAME, Integer.class, Integer.class, LtInteger.class),
+                arguments(new Lt(), Lt.OPERATOR_NAME, Long.class, long.class, LtLong.class),
+                arguments(new Lt(), Lt.OPERATOR_NAME, double.class, double.class, LtDouble.class),
+                arguments(new Lt(), Lt.OPERATOR_NAME, BigDecimal.class, BigDecimal.class, LtBigDecimal.class),
+                arguments(new Le(), Le.OPERATOR_NAME, int.class, int.class, LeInteger.class),
+                arguments(new Le(), Le.OPERATOR_NAME, Long.class, Long.class, LeLong.class),
+                arguments(new Le(), Le.OPERATOR_NAME, Double.class, Double.class, LeDouble.class),
+                arguments(new Le(), Le.OPERATOR_NAME, BigDecimal.class, BigDecimal.class, LeBigDecimal.class));
+    }
+
+    private static Stream<Arguments> mixedOperators() {
+        return Stream.of(
+                arguments(new Gt(), Gt.OPERATOR_NAME, Integer.class, Long.class, GtComparable.class),
+                arguments(new Gt(), Gt.OPERATOR_NAME, int.class, Long.class, GtDynamic.class),
+                arguments(new Ge(), Ge.OPERATOR_NAME, Long.class, Double.class, GeComparable.class),
+                arguments(new Ge(), Ge.OPERATOR_NAME, int.class, Long.class, GeDynamic.class),
+                arguments(new Lt(), Lt.OPERATOR_NAME, Double.class, BigDecimal.class, LtComparable.class),
+                arguments(new Lt(), Lt.OPERATOR_NAME, int.class, Long.class, LtDynamic.class),
+                arguments(new Le(), Le.OPERATOR_NAME, BigDecimal.class, Integer.class, LeComparable.class),
+                arguments(new Le(), Le.OPERATOR_NAME, int.class, Long.class, LeDynamic.class),
+                arguments(new Le(), Le.OPERATOR_NAME, Object.class, Integer.class, LeDynamic.class));
+    }
+
+    @ParameterizedTest(name = "{index} => {1}({2}, {3}) is {4}")
+    @MethodSource("specializedOperators")
+    void shouldSelectTypeSpecializedOperator(OperatorFactory factory, String call, Type leftType, Type rightType,
+                                             Class<? extends Predicate> expected) {
+        // when
+        Predicate predicate = create(factory, call, leftType, rightType);
+
+        // then
+        assertThat(predicate).isExactlyInstanceOf(expected);
+    }
+
+    @ParameterizedTest(name = "{index} => {1}({2}, {3}) is {4}")
+    @MethodSource("mixedOperators")
+    void shouldFallBackToGenericOperatorForMixedTypes(OperatorFactory factory, String call, Type leftType, Type rightType,
+                                                      Class<? extends Predicate> expected) {
+        // when
+        Predicate predicate = create(factory, call, leftType, rightType);
+
+        // then
+        assertThat(predicate).isExactlyInstanceOf(expected);
+    }
+
+    private static Predicate create(OperatorFactory factory, String call, Type leftType, Type rightType) {
+        Expression.Operator operator = operatorOf("operator", Boolean.class, call,
+                valueOf("left", leftType, null), valueOf("right", rightType, null));
+        return factory.create(null, operator, new ValueProvider[]{typed(leftType), typed(rightType)});
+    }
+
+    private static ValueProvider typed(Type type) {
+        return new ValueProvider() {
+            @Override
+            public Object get(PredicateContext context) {
+                return null;
+            }
+
+            @Override
+            public Type getType() {
+                return type;
+            }
+        };
+    }
+}
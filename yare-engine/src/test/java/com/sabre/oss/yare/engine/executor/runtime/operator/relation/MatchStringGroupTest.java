@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.operator.relation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MatchStringGroupTest {
+
+    @Test
+    void shouldExtractLiteralPrefix() {
+        assertThat(MatchStringGroup.literalPrefix("ABC")).isEqualTo("ABC");
+        assertThat(MatchStringGroup.literalPrefix("ABC.*")).isEqualTo("ABC");
+        assertThat(MatchStringGroup.literalPrefix("ABC?D")).isEqualTo("AB");
+        assertThat(MatchStringGroup.literalPrefix("AB{2}")).isEqualTo("A");
+        assertThat(MatchStringGroup.literalPrefix("AB+")).isEqualTo("A");
+        assertThat(MatchStringGroup.literalPrefix("A\\.B")).isEqualTo("A");
+        assertThat(MatchStringGroup.literalPrefix("AB|CD")).isEmpty();
+        assertThat(MatchStringGroup.literalPrefix("(?i)AB")).isEmpty();
+        assertThat(MatchStringGroup.literalPrefix("[A-Z]+")).isEmpty();
+    }
+
+    @Test
+    void shouldKeepSupplementaryCodePointsWholeInLiteralPrefix() {
+        assertThat(MatchStringGroup.literalPrefix("A\uD83D\uDE00+")).isEqualTo("A");
+        assertThat(MatchStringGroup.literalPrefix("\uD83D\uDE00\uD83D\uDE01?")).isEqualTo("\uD83D\uDE00");
+        assertThat(MatchStringGroup.literalPrefix("\uD83D\uDE00.*")).isEqualTo("\uD83D\uDE00");
+    }
+
+    @Test
+    void shouldMatchLikeIndividualPatterns() {
+        // given
+        List<String> regexps = Arrays.asList(
+                "VIP", "VIP.*", "VI", "VIPX?", "V.P", ".*VIP.*", "AB|VIP", "(?i)vip", "V+IP", "", "VIP\\d{2}", "WCHR");
+        List<String> inputs = Arrays.asList("VIP", "VIP42", "VI", "VIPX", "VXP", "A VIP B", "vip", "VVIP", "", "WCHR", "WCH");
+        MatchStringGroup group = new MatchStringGroup();
+        int[] slots = regexps.stream().mapToInt(group::register).toArray();
+
+        // when / then
+        for (String input : inputs) {
+            for (int i = 0; i < regexps.size(); i++) {
+                assertThat(group.matches(input, slots[i]))
+                        .as("%s matches %s", input, regexps.get(i))
+                        .isEqualTo(Pattern.matches(regexps.get(i), input));
+            }
+        }
+    }
+
+    @Test
+    void shouldMatchSupplementaryCodePointsLikeIndividualPatterns() {
+        // given
+        List<String> regexps = Arrays.asList(
+                "\uD83D\uDE00", "\uD83D\uDE00+", "A\uD83D\uDE00?", "\uD83D\uDE00\uD83D\uDE01.*", "\uD83D\uDE01");
+        List<String> inputs = Arrays.asList(
+                "\uD83D\uDE00", "\uD83D\uDE00\uD83D\uDE00", "A", "A\uD83D\uDE00", "\uD83D\uDE00\uD83D\uDE01X", "\uD83D\uDE01", "\uD83D");
+        MatchStringGroup group = new MatchStringGroup();
+        int[] slots = regexps.stream().mapToInt(group::register).toArray();
+
+        // when / then
+        for (String input : inputs) {
+            for (int i = 0; i < regexps.size(); i++) {
+                assertThat(group.matches(input, slots[i]))
+                        .as("%s matches %s", input, regexps.get(i))
+                        .isEqualTo(Pattern.matches(regexps.get(i), input));
+            }
+        }
+    }
+
+    @Test
+    void shouldMemoizeResultsOfEvaluatedSlotsOnly() {
+        // given
+        MatchStringGroup group = new MatchStringGroup();
+        int prefixed = group.register("VIP.*");
+        int unprefixed = group.register(".*VIP");
+
+        // when
+        boolean first = group.matches("VIP", prefixed);
+        boolean second = group.matches("VIP", unprefixed);
+        boolean third = group.matches("XVIP", prefixed);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+    }
+
+    @Test
+    void shouldRejectRegistrationAfterMatching() {
+        // given
+        MatchStringGroup group = new MatchStringGroup();
+        group.register("A.*");
+        group.matches("AB", 0);
+
+        // when / then
+        assertThatThrownBy(() -> group.register("B.*"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
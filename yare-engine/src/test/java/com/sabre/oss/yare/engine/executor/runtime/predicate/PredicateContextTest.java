@@ -144,4 +144,35 @@ class PredicateContextTest {
         assertThat(resolved).isEqualTo(expectedValue);
     }
 
+    @Test
+    void shouldResolveRuleNameAndAttributesOfReboundRule() {
+        // given
+        Map<String, Object> facts = Collections.singletonMap("factKey", "factValue");
+        PredicateContext predicateContext = new PredicateContext("firstRule", "result", facts, Collections.singletonMap("key", "firstValue"), null);
+
+        // when
+        predicateContext.rebind("secondRule", Collections.singletonMap("key", "secondValue"));
+
+        // then
+        assertThat(predicateContext.getRuleId()).isEqualTo("secondRule");
+        assertThat(predicateContext.resolve(PredicateContext.RULE_NAME)).isEqualTo("secondRule");
+        assertThat(predicateContext.resolve("key")).isEqualTo("secondValue");
+        assertThat(predicateContext.resolve("factKey")).isEqualTo("factValue");
+    }
+
+    @Test
+    void shouldNotChangeSnapshotWhenContextIsRebound() {
+        // given
+        Map<String, Object> facts = Collections.singletonMap("factKey", "factValue");
+        PredicateContext predicateContext = new PredicateContext("firstRule", "result", facts, Collections.singletonMap("key", "firstValue"), null);
+        PredicateContext snapshot = predicateContext.snapshot();
+
+        // when
+        predicateContext.rebind("secondRule", Collections.singletonMap("key", "secondValue"));
+
+        // then
+        assertThat(snapshot.getRuleId()).isEqualTo("firstRule");
+        assertThat(snapshot.resolve("key")).isEqualTo("firstValue");
+        assertThat(snapshot.resolve("factKey")).isEqualTo("factValue");
+    }
 }
@@ -48,15 +48,69 @@ public class PathValueProviderTest {
         assertThat(result).isEqualTo(expectedValue);
     }
 
+    @Test
+    void shouldReadNestedPathWithPrimitiveValue() {
+        // given
+        String reference = "any";
+        ValueProvider argumentProvider = new PathValueProvider(MyClass.class, reference, "nested.count");
+        PredicateContext predicateContext = Mockito.mock(PredicateContext.class);
+        Mockito.when(predicateContext.resolve(reference)).thenReturn(new MyClass(null, new MyNestedClass(3)));
+
+        // when
+        Object result = argumentProvider.get(predicateContext);
+
+        // then
+        assertThat(result).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReturnNullWhenValueInPathIsNull() {
+        // given
+        String reference = "any";
+        ValueProvider argumentProvider = new PathValueProvider(MyClass.class, reference, "nested.count");
+        PredicateContext predicateContext = Mockito.mock(PredicateContext.class);
+        Mockito.when(predicateContext.resolve(reference)).thenReturn(new MyClass(null, null));
+
+        // when
+        Object nestedNullResult = argumentProvider.get(predicateContext);
+        Object referenceNullResult = argumentProvider.get(Mockito.mock(PredicateContext.class));
+
+        // then
+        assertThat(nestedNullResult).isNull();
+        assertThat(referenceNullResult).isNull();
+    }
+
     public static class MyClass {
         private final Object value;
+        private final MyNestedClass nested;
 
         MyClass(Object value) {
+            this(value, null);
+        }
+
+        MyClass(Object value, MyNestedClass nested) {
             this.value = value;
+            this.nested = nested;
         }
 
         public Object getValue() {
             return value;
         }
+
+        public MyNestedClass getNested() {
+            return nested;
+        }
+    }
+
+    public static class MyNestedClass {
+        private final int count;
+
+        MyNestedClass(int count) {
+            this.count = count;
+        }
+
+        public int getCount() {
+            return count;
+        }
     }
 }
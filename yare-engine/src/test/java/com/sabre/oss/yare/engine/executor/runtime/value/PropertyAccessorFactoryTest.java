@@ -0,0 +1,268 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.executor.runtime.value;
+
+import com.google.common.collect.ImmutableMap;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTuple;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.FactTupleLayout;
+import com.sabre.oss.yare.engine.executor.runtime.predicate.PredicateContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PropertyAccessorFactoryTest {
+    private final PropertyAccessorFactory factory = new PropertyAccessorFactory();
+
+    @Test
+    void shouldReadPublicField() {
+        // given
+        ValueProvider valueProvider = factory.create(Order.class, "order", "id");
+
+        // when
+        Object result = valueProvider.get(contextOf(new Order("order-1", null, null)));
+
+        // then
+        assertThat(result).isEqualTo("order-1");
+        assertThat(valueProvider.getType()).isEqualTo(String.class);
+    }
+
+    @Test
+    void shouldReadNestedPathWithGettersAndMapKeys() {
+        // given
+        Customer customer = new Customer(true, ImmutableMap.of("tier", "gold"));
+        ValueProvider valueProvider = factory.create(Order.class, "order", "customer.attributes.tier");
+
+        // when
+        Object result = valueProvider.get(contextOf(new Order("order-1", customer, null)));
+
+        // then
+        assertThat(result).isEqualTo("gold");
+    }
+
+    @Test
+    void shouldBoxPrimitiveValues() {
+        // given
+        ValueProvider valueProvider = factory.create(Order.class, "order", "customer.vip");
+
+        // when
+        Object result = valueProvider.get(contextOf(new Order("order-1", new Customer(true, emptyMap()), null)));
+
+        // then
+        assertThat(result).isEqualTo(Boolean.TRUE);
+        assertThat(valueProvider.getType()).isEqualTo(boolean.class);
+    }
+
+    @Test
+    void shouldReturnNullWhenPathCannotBeReached() {
+        // given
+        ValueProvider valueProvider = factory.create(Order.class, "order", "customer.attributes.tier");
+
+        // when
+        Object result = valueProvider.get(contextOf(new Order("order-1", null, null)));
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void shouldReadFactFromSlotOfFactTuple() {
+        // given
+        FactTupleLayout layout = FactTupleLayout.of(Arrays.asList("other", "order"));
+        FactTuple factTuple = new FactTuple(layout);
+        factTuple.set(layout.slotOf("order"), new Order("order-1", null, null));
+        ValueProvider valueProvider = factory.create(Order.class, "order", "id", layout, layout.slotOf("order"));
+
+        // when
+        Object result = valueProvider.get(new PredicateContext("any", new Object(), factTuple, emptyMap(), null));
+
+        // then
+        assertThat(result).isEqualTo("order-1");
+    }
+
+    @Test
+    void shouldGatherValuesOfCollectionSkippingNullElements() {
+        // given
+        Order order = new Order("order-1", null, Arrays.asList(
+                new Item("a", Arrays.asList("x", "y")),
+                null,
+                new Item(null, null),
+                new Item("b", Collections.singletonList("z"))));
+
+        // when
+        Object names = factory.create(Order.class, "order", "items.name").get(contextOf(order));
+        Object tags = factory.create(Order.class, "order", "items.tags").get(contextOf(order));
+        Object flattenedTags = factory.create(Order.class, "order", "items.tags[*]").get(contextOf(order));
+
+        // then
+        assertThat(names).isEqualTo(Arrays.asList("a", null, "b"));
+        assertThat(tags).isEqualTo(Arrays.asList(Arrays.asList("x", "y"), null, Collections.singletonList("z")));
+        assertThat(flattenedTags).isEqualTo(Arrays.asList("x", "y", "z"));
+    }
+
+    @Test
+    void shouldStopVisitingCollectionPathAtFirstMatch() {
+        // given
+        Order order = new Order("order-1", null, Arrays.asList(
+                new Item("a", Arrays.asList("x", "y")),
+                new Item("b", Collections.singletonList("z"))));
+        QuantifiableValueProvider valueProvider = ValueProviderFactory.getQuantifiable(factory.create(Order.class, "order", "items.tags[*]"));
+        List<Object> visited = new ArrayList<>();
+
+        // when
+        Boolean result = valueProvider.anyMatch(contextOf(order), element -> visited.add(element) && "y".equals(element));
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(visited).containsExactly("x", "y");
+    }
+
+    @Test
+    void shouldQuantifyOverCollectionPath() {
+        // given
+        Order order = new Order("order-1", null, Arrays.asList(new Item("a", null), null, new Item("b", null)));
+        QuantifiableValueProvider valueProvider = ValueProviderFactory.getQuantifiable(factory.create(Order.class, "order", "items.name"));
+
+        // when
+        Boolean allNamed = valueProvider.allMatch(contextOf(order), Objects::nonNull);
+        Boolean anyC = valueProvider.anyMatch(contextOf(order), "c"::equals);
+        Boolean unreachable = valueProvider.anyMatch(contextOf(new Order("order-2", null, null)), Objects::isNull);
+
+        // then
+        assertThat(allNamed).isTrue();
+        assertThat(anyC).isFalse();
+        assertThat(unreachable).isNull();
+    }
+
+    @Test
+    void shouldNotQuantifyOverPathNotGoingThroughCollection() {
+        // given
+        ValueProvider valueProvider = factory.create(Order.class, "order", "items");
+
+        // when
+        QuantifiableValueProvider quantifiable = ValueProviderFactory.getQuantifiable(valueProvider);
+
+        // then
+        assertThat(quantifiable).isNull();
+    }
+
+    @Test
+    void shouldReadCollectionPathsContainingNulls() {
+        // given
+        Order order = new Order("order-1", new Customer(false, ImmutableMap.of("tier", "silver")), Arrays.asList(
+                new Item("a", Arrays.asList("x", null)),
+                null,
+                new Item("b", null)));
+
+        // when
+        Object names = factory.create(Order.class, "order", "items.name").get(contextOf(order));
+        Object tags = factory.create(Order.class, "order", "items.tags").get(contextOf(order));
+        Object flattenedTags = factory.create(Order.class, "order", "items.tags[*]").get(contextOf(order));
+
+        // then
+        assertThat(names).isEqualTo(Arrays.asList("a", "b"));
+        assertThat(tags).isEqualTo(Arrays.asList(Arrays.asList("x", null), null));
+        assertThat(flattenedTags).isEqualTo(Arrays.asList("x", null));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void shouldReadPathWithDeprecatedFactories() {
+        // given
+        PredicateContext context = contextOf(new Order("order-1", new Customer(true, ImmutableMap.of("tier", "gold")), null));
+
+        // when
+        Object id = FieldReferringClassFactory.create(Order.class, "order", "id").get(context);
+        Object tier = ValueProviderFactory.createFromPath(Order.class, "order", String.class, "customer.attributes.tier").get(context);
+        Object order = ValueProviderFactory.createFromPath(Order.class, "order", Order.class, null).get(context);
+
+        // then
+        assertThat(id).isEqualTo("order-1");
+        assertThat(tier).isEqualTo("gold");
+        assertThat(order).isInstanceOf(Order.class);
+    }
+
+    private static PredicateContext contextOf(Order order) {
+        return new PredicateContext("any", new Object(), ImmutableMap.of("order", order), emptyMap(), null);
+    }
+
+    public static class Order {
+        public final String id;
+        private final Customer customer;
+        private final List<Item> items;
+
+        Order(String id, Customer customer, List<Item> items) {
+            this.id = id;
+            this.customer = customer;
+            this.items = items;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+    }
+
+    public static class Customer {
+        private final boolean vip;
+        private final Map<String, String> attributes;
+
+        Customer(boolean vip, Map<String, String> attributes) {
+            this.vip = vip;
+            this.attributes = attributes;
+        }
+
+        public boolean isVip() {
+            return vip;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+    }
+
+    public static class Item {
+        private final String name;
+        private final List<String> tags;
+
+        Item(String name, List<String> tags) {
+            this.name = name;
+            this.tags = tags;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AsyncExecutionTest {
+    private static final String THREAD_NAME = "async-execution-test";
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newSingleThreadExecutor(r -> new Thread(r, THREAD_NAME));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void shouldExecuteRulesUsingConfiguredExecutor() throws Exception {
+        // given
+        RuleSession session = new RulesEngineBuilder()
+                .withRulesRepository(i -> createRules())
+                .withActionMapping("collect", method(this, a -> a.collect(null, null)))
+                .withAsyncExecutor(executorService)
+                .build()
+                .createSession("async");
+
+        // when
+        CompletableFuture<List<String>> future = session.executeAsync(new ArrayList<>(), Arrays.asList(new Fact(1L), new Fact(2L)));
+
+        // then
+        assertThat(future.get(10, TimeUnit.SECONDS)).containsExactly(THREAD_NAME, THREAD_NAME);
+    }
+
+    @Test
+    void shouldExecuteRulesUsingDefaultExecutor() throws Exception {
+        // given
+        RuleSession session = new RulesEngineBuilder()
+                .withRulesRepository(i -> createRules())
+                .withActionMapping("collect", method(this, a -> a.collect(null, null)))
+                .build()
+                .createSession("async");
+
+        // when
+        CompletableFuture<List<String>> future = session.executeAsync(new ArrayList<>(), Collections.singletonList(new Fact(1L)));
+
+        // then
+        assertThat(future.get(10, TimeUnit.SECONDS)).hasSize(1);
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWhenExecutionFails() {
+        // given
+        RuleSession session = new RulesEngineBuilder()
+                .withRulesRepository(i -> createRules())
+                .withActionMapping("collect", method(this, a -> a.fail(null, null)))
+                .withAsyncExecutor(executorService)
+                .build()
+                .createSession("async");
+
+        // when
+        CompletableFuture<List<String>> future = session.executeAsync(new ArrayList<>(), Collections.singletonList(new Fact(1L)));
+
+        // then
+        assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<Rule> createRules() {
+        return Collections.singletonList(RuleDsl.ruleBuilder()
+                .name("Should collect thread name")
+                .fact("fact", Fact.class)
+                .predicate(
+                        not(isNull(value("${fact.value}")))
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("fact", value("${fact}")))
+                .build());
+    }
+
+    public void collect(List<String> context, Fact fact) {
+        context.add(Thread.currentThread().getName());
+    }
+
+    public void fail(List<String> context, Fact fact) {
+        throw new IllegalStateException("action failed");
+    }
+
+    public static final class Fact {
+        private final Long value;
+
+        private Fact(Long value) {
+            this.value = value;
+        }
+
+        public Long getValue() {
+            return value;
+        }
+    }
+}
@@ -24,10 +24,13 @@
 
 package com.sabre.oss.yare.engine.integration;
 
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.RulesRepository;
 import com.sabre.oss.yare.core.model.Attribute;
 import com.sabre.oss.yare.core.model.Rule;
 import com.sabre.oss.yare.dsl.ExpressionOperand;
 import com.sabre.oss.yare.dsl.Operand;
+import com.sabre.oss.yare.dsl.RuleDsl;
 
 import java.beans.Introspector;
 import java.util.Arrays;
@@ -35,8 +38,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static com.sabre.oss.yare.dsl.RuleDsl.param;
 import static com.sabre.oss.yare.dsl.RuleDsl.value;
 import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.Expression.expr;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -63,6 +68,8 @@ public abstract class BaseRulesUtils {
     public static final String FACT_ONE = Introspector.decapitalize(FactOne.class.getSimpleName());
     public static final String FACT_TWO = Introspector.decapitalize(FactTwo.class.getSimpleName());
 
+    public static final String COLLECT_ACTION = "collect";
+
     public static final Expression TRUE_VALUE = expr(value(true), "value(true)");
     public static final Expression FALSE_VALUE = expr(value(false), "value(false)");
     public static final Expression NULL_VALUE = expr(value((Boolean) null, Boolean.class), "value(null)");
@@ -75,6 +82,36 @@ public abstract class BaseRulesUtils {
                 .build();
     }
 
+    /**
+     * Creates rule over single fact, which adds its name to {@code List<String>} result when {@code predicate} matches.
+     */
+    static Rule createCollectingRule(String name, String factName, Class<?> factType, com.sabre.oss.yare.dsl.Expression<Boolean> predicate) {
+        return collectingRuleBuilder(name, factName, factType)
+                .predicate(predicate)
+                .build();
+    }
+
+    /**
+     * Returns builder of rule like {@link #createCollectingRule}, to be completed with predicate and other attributes.
+     */
+    static RuleDsl.RuleBuilder collectingRuleBuilder(String name, String factName, Class<?> factType) {
+        return RuleDsl.ruleBuilder()
+                .name(name)
+                .fact(factName, factType)
+                .action(COLLECT_ACTION,
+                        param("context", value("${ctx}")),
+                        param("ruleName", value("${ruleName}")));
+    }
+
+    /**
+     * Creates builder of engine executing rules created with {@link #createCollectingRule}.
+     */
+    static RulesEngineBuilder createCollectingEngineBuilder(RulesRepository rulesRepository) {
+        return new RulesEngineBuilder()
+                .withRulesRepository(rulesRepository)
+                .withActionMapping(COLLECT_ACTION, method(new RuleNameCollector(), a -> a.collect(null, null)));
+    }
+
     static void assertRulesMatching(Map<String, List<Object>> result, List<Rule> rules, List<Object> facts) {
         for (Rule rule : rules) {
             boolean shouldMatch = rule.getAttributes().stream()
@@ -265,4 +302,13 @@ public abstract class BaseRulesUtils {
             ctx.put(ruleName, asList(factOne, factTwo, object));
         }
     }
+
+    public static class RuleNameCollector {
+        public void collect(List<String> context, String ruleName) {
+            // parallel evaluation may run actions of one execution concurrently
+            synchronized (context) {
+                context.add(ruleName);
+            }
+        }
+    }
 }
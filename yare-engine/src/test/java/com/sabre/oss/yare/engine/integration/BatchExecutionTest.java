@@ -0,0 +1,262 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.DefaultContextKey;
+import com.sabre.oss.yare.core.ExecutionContext;
+import com.sabre.oss.yare.core.ExecutionInput;
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.interceptor.InputIndependentInterceptor;
+import com.sabre.oss.yare.core.interceptor.InputOutputLogger;
+import com.sabre.oss.yare.core.internal.BaseExecutionContext;
+import com.sabre.oss.yare.core.invocation.Interceptor;
+import com.sabre.oss.yare.core.management.BatchExecutionCapable;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchExecutionTest {
+    private static final int INPUTS_COUNT = 100;
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void shouldReturnOneResultPerInputInInputOrder() {
+        // given
+        RuleSession session = createSession(new DefaultRulesExecutorBuilder());
+        List<ExecutionInput<List<String>>> inputs = createInputs();
+
+        // when
+        List<List<String>> results = session.executeBatch(inputs);
+
+        // then
+        assertThat(results).containsExactlyElementsOf(expectedResults());
+    }
+
+    @Test
+    void shouldReturnOneResultPerInputInInputOrderInParallelMode() {
+        // given
+        RuleSession session = createSession(new DefaultRulesExecutorBuilder()
+                .withParallelMode(true)
+                .withParallelExecutor(executorService)
+                .withParallelism(4));
+        List<ExecutionInput<List<String>>> inputs = createInputs();
+
+        // when
+        List<List<String>> results = session.executeBatch(inputs);
+
+        // then
+        assertThat(results).containsExactlyElementsOf(expectedResults());
+    }
+
+    @Test
+    void shouldGroupFactsOfEachInputIndependently() {
+        // given
+        RuleSession session = createSession(new DefaultRulesExecutorBuilder());
+        List<ExecutionInput<List<String>>> inputs = Arrays.asList(
+                ExecutionInput.of(new ArrayList<>(), Arrays.asList(new Fact(1L), new Other())),
+                ExecutionInput.of(new ArrayList<>(), Arrays.asList(new Fact(2L), new Fact(4L))),
+                ExecutionInput.of(new ArrayList<>(), Collections.emptyList()));
+
+        // when
+        List<List<String>> results = session.executeBatch(inputs);
+
+        // then
+        assertThat(results).containsExactly(
+                Collections.singletonList("odd-1"),
+                Arrays.asList("even-2", "even-4"),
+                Collections.emptyList());
+    }
+
+    @Test
+    void shouldRunInterceptorsForEachInput() {
+        // given
+        List<Object> interceptedResults = new ArrayList<>();
+        RuleSession session = createSession(new DefaultRulesExecutorBuilder(), Arrays.asList(
+                new InputOutputLogger(),
+                (invocation, context) -> {
+                    interceptedResults.add(context.get(DefaultContextKey.RESULT));
+                    return invocation.proceed(context);
+                }));
+        List<ExecutionInput<List<String>>> inputs = createInputs();
+
+        // when
+        List<List<String>> results = session.executeBatch(inputs);
+
+        // then
+        assertThat(results).containsExactlyElementsOf(expectedResults());
+        assertThat(interceptedResults).containsExactlyElementsOf(results);
+    }
+
+    @Test
+    void shouldRunInputIndependentInterceptorsOncePerBatch() {
+        // given
+        List<ExecutionContext> interceptedContexts = new ArrayList<>();
+        RuleSession session = createSession(new DefaultRulesExecutorBuilder(), Collections.singletonList(
+                (InputIndependentInterceptor) (invocation, context) -> {
+                    interceptedContexts.add(context);
+                    return invocation.proceed(context);
+                }));
+        List<ExecutionInput<List<String>>> inputs = createInputs();
+
+        // when
+        List<List<String>> results = session.executeBatch(inputs);
+
+        // then
+        assertThat(results).containsExactlyElementsOf(expectedResults());
+        assertThat(interceptedContexts).hasSize(1);
+        assertThat(interceptedContexts.get(0).get(DefaultContextKey.BATCH_INPUTS)).hasSize(INPUTS_COUNT);
+    }
+
+    @Test
+    void shouldResolveRulesOncePerBatch() {
+        // given
+        List<Rule> rules = Arrays.asList(
+                createRule("odd", 1L),
+                createRule("even", 0L));
+        BatchExecutionCapable executor = (BatchExecutionCapable) new DefaultRulesExecutorBuilder()
+                .withRulesRepository(i -> rules)
+                .withActionMappings(Collections.singletonMap("collect", method(this, a -> a.collect(null, null, null))))
+                .build();
+        AtomicInteger resolutions = new AtomicInteger();
+        ExecutionContext context = new BaseExecutionContext() {
+            @Override
+            public <T> T get(Key<T> key) {
+                if (DefaultContextKey.RULE_EXECUTION_SET.equals(key)) {
+                    resolutions.incrementAndGet();
+                }
+                return super.get(key);
+            }
+        };
+        context.put(DefaultContextKey.RULE_EXECUTION_SET_URI, "batch");
+        context.put(DefaultContextKey.RULE_EXECUTION_SET, new AtomicReference<>());
+
+        // when
+        List<Object> results = executor.executeBatch(context, new ArrayList<>(createInputs()));
+
+        // then
+        assertThat(results).containsExactlyElementsOf(expectedResults());
+        assertThat(resolutions).hasValue(1);
+    }
+
+    private RuleSession createSession(DefaultRulesExecutorBuilder rulesExecutorBuilder) {
+        return createSession(rulesExecutorBuilder, Collections.emptyList());
+    }
+
+    private RuleSession createSession(DefaultRulesExecutorBuilder rulesExecutorBuilder,
+                                      List<Interceptor<ExecutionContext, ExecutionContext>> interceptors) {
+        List<Rule> rules = Arrays.asList(
+                createRule("odd", 1L),
+                createRule("even", 0L));
+        return new RulesEngineBuilder()
+                .withRulesRepository(i -> rules)
+                .withInterceptors(interceptors)
+                .withActionMapping("collect", method(this, a -> a.collect(null, null, null)))
+                .withRulesExecutorBuilder(rulesExecutorBuilder)
+                .build()
+                .createSession("batch");
+    }
+
+    private static Rule createRule(String name, Long parity) {
+        return RuleDsl.ruleBuilder()
+                .name(name)
+                .fact("fact", Fact.class)
+                .predicate(
+                        equal(
+                                value("${fact.parity}"),
+                                value(parity)
+                        )
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("ruleName", value("${ruleName}")),
+                        param("fact", value("${fact}")))
+                .build();
+    }
+
+    private static List<ExecutionInput<List<String>>> createInputs() {
+        return IntStream.range(0, INPUTS_COUNT)
+                .mapToObj(i -> ExecutionInput.<List<String>>of(new ArrayList<>(), Collections.singletonList(new Fact((long) i))))
+                .collect(Collectors.toList());
+    }
+
+    private static List<List<String>> expectedResults() {
+        return IntStream.range(0, INPUTS_COUNT)
+                .mapToObj(i -> Collections.singletonList((i % 2 == 0 ? "even-" : "odd-") + i))
+                .collect(Collectors.toList());
+    }
+
+    public void collect(List<String> context, String ruleName, Fact fact) {
+        context.add(ruleName + "-" + fact.getValue());
+    }
+
+    public static final class Fact {
+        private final Long value;
+
+        private Fact(Long value) {
+            this.value = value;
+        }
+
+        public Long getValue() {
+            return value;
+        }
+
+        public Long getParity() {
+            return value % 2;
+        }
+    }
+
+    public static final class Other {
+    }
+}
@@ -385,6 +385,86 @@ public class ChainingOperatorTest {
         assertThat(matchingFacts).containsExactly(validFact);
     }
 
+    @Test
+    void shouldMatchWhenCollectionPathContainsAnyOfGiven() {
+        // given
+        OuterChainingFact invalidFact = getInvalidFact();
+        OuterChainingFact nullCollectionFact = new OuterChainingFact((MidChainingFact) null);
+        OuterChainingFact validFact = new OuterChainingFact(Arrays.asList(
+                createMidChainingFact(new InnerChainingFact(Arrays.asList("first", null))),
+                createMidChainingFact(new InnerChainingFact(Arrays.asList("second", "test")))));
+        List<Object> facts = Arrays.asList(invalidFact, nullCollectionFact, validFact);
+
+        List<Rule> rule = getRule(
+                "Should match when outerChainingFact.collection.instance.collection[*] contains any of given",
+                containsAny(
+                        castToCollection(value("${outerChainingFact.collection.instance.collection[*]}"), String.class),
+                        values(String.class, value("test"), value("other"))
+                )
+        );
+
+        RuleSession ruleSession = createRuleSession(rule);
+
+        // when
+        List<Object> matchingFacts = ruleSession.execute(new ArrayList<>(), facts);
+
+        // then
+        assertThat(matchingFacts).containsExactly(validFact);
+    }
+
+    @Test
+    void shouldMatchWhenCollectionPathContainsInstance() {
+        // given
+        OuterChainingFact invalidFact = getInvalidFact();
+        OuterChainingFact validFact = new OuterChainingFact(Arrays.asList(
+                createMidChainingFact(new InnerChainingFact("first")),
+                null,
+                createMidChainingFact(new InnerChainingFact("test"))));
+        List<Object> facts = Arrays.asList(invalidFact, validFact);
+
+        List<Rule> rule = getRule(
+                "Should match when outerChainingFact.collection.instance.string contains test",
+                contains(
+                        castToCollection(value("${outerChainingFact.collection.instance.string}"), String.class),
+                        value("test")
+                )
+        );
+
+        RuleSession ruleSession = createRuleSession(rule);
+
+        // when
+        List<Object> matchingFacts = ruleSession.execute(new ArrayList<>(), facts);
+
+        // then
+        assertThat(matchingFacts).containsExactly(validFact);
+    }
+
+    @Test
+    void shouldMatchWhenGivenContainsAllOfCollectionPath() {
+        // given
+        OuterChainingFact invalidFact = getInvalidFact();
+        OuterChainingFact validFact = new OuterChainingFact(Arrays.asList(
+                createMidChainingFact(new InnerChainingFact(Arrays.asList("first", "test"))),
+                createMidChainingFact(new InnerChainingFact(Collections.singletonList("second")))));
+        List<Object> facts = Arrays.asList(invalidFact, validFact);
+
+        List<Rule> rule = getRule(
+                "Should match when given contains all of outerChainingFact.collection.instance.collection[*]",
+                contains(
+                        values(String.class, value("first"), value("second"), value("test")),
+                        castToCollection(value("${outerChainingFact.collection.instance.collection[*]}"), String.class)
+                )
+        );
+
+        RuleSession ruleSession = createRuleSession(rule);
+
+        // when
+        List<Object> matchingFacts = ruleSession.execute(new ArrayList<>(), facts);
+
+        // then
+        assertThat(matchingFacts).containsExactly(validFact);
+    }
+
     @Test
     void shouldThrowExceptionIfTypeInChainIsObject() {
         // given /when /then
@@ -419,6 +499,12 @@ public class ChainingOperatorTest {
         );
     }
 
+    private MidChainingFact createMidChainingFact(InnerChainingFact innerChainingFact) {
+        MidChainingFact midChainingFact = new MidChainingFact();
+        midChainingFact.put("instance", innerChainingFact);
+        return midChainingFact;
+    }
+
     private List<Rule> getRule(String name, Expression<Boolean> expression) {
         return Collections.singletonList(
                 RuleDsl.ruleBuilder()
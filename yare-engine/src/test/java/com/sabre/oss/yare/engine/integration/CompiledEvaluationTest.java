@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.Expression;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.createCollectingEngineBuilder;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.createCollectingRule;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledEvaluationTest {
+
+    @Test
+    void shouldMatchSameRulesAsInterpretedEvaluation() {
+        // given
+        List<Rule> rules = Arrays.asList(
+                createRule("carrierAndDistance",
+                        and(
+                                equal(
+                                        value("${flight.carrier}"),
+                                        value("AA")
+                                ),
+                                greater(
+                                        value("${flight.distance}"),
+                                        value(100L)
+                                )
+                        )
+                ),
+                createRule("notCarrierOrUnknown",
+                        or(
+                                not(
+                                        equal(
+                                                value("${flight.carrier}"),
+                                                value("AA")
+                                        )
+                                ),
+                                isNull(
+                                        value("${flight.carrier}")
+                                )
+                        )
+                ),
+                createRule("unknownCarrierIsNeitherEqualNorNotEqual",
+                        or(
+                                equal(
+                                        value("${flight.carrier}"),
+                                        value("LH")
+                                ),
+                                not(
+                                        equal(
+                                                value("${flight.carrier}"),
+                                                value("LH")
+                                        )
+                                )
+                        )
+                )
+        );
+        List<Flight> flights = Arrays.asList(new Flight("AA", 200L), new Flight("LH", 50L), new Flight(null, 200L), new Flight("AA", 50L));
+
+        // when
+        List<String> compiled = createSession(rules, true).execute(new ArrayList<>(), flights);
+        List<String> interpreted = createSession(rules, false).execute(new ArrayList<>(), flights);
+
+        // then
+        assertThat(compiled).containsExactly(
+                "carrierAndDistance", "unknownCarrierIsNeitherEqualNorNotEqual",
+                "notCarrierOrUnknown", "unknownCarrierIsNeitherEqualNorNotEqual",
+                "notCarrierOrUnknown",
+                "unknownCarrierIsNeitherEqualNorNotEqual");
+        assertThat(compiled).isEqualTo(interpreted);
+    }
+
+    @Test
+    void shouldNotMixConstantsOfRulesSharingGeneratedClass() {
+        // given
+        List<Rule> rules = Arrays.asList(
+                createRule("american", equal(value("${flight.carrier}"), value("AA"))),
+                createRule("british", equal(value("${flight.carrier}"), value("BA"))),
+                createRule("longHaul", greater(value("${flight.distance}"), value(1000L))),
+                createRule("notShortHaul", greater(value("${flight.distance}"), value(100L))));
+        List<Flight> flights = Collections.singletonList(new Flight("BA", 500L));
+
+        // when
+        List<String> compiled = createSession(rules, true).execute(new ArrayList<>(), flights);
+        List<String> interpreted = createSession(rules, false).execute(new ArrayList<>(), flights);
+
+        // then
+        assertThat(compiled).containsExactly("british", "notShortHaul");
+        assertThat(compiled).isEqualTo(interpreted);
+    }
+
+    @Test
+    void shouldNotMatchComparisonsOfMissingValue() {
+        // given
+        List<Rule> rules = Arrays.asList(
+                createRule("greater", greater(value("${flight.distance}"), value(100L))),
+                createRule("less", less(value("${flight.distance}"), value(100L))),
+                createRule("equal", equal(value("${flight.distance}"), value(100L))),
+                createRule("carrierOfUnknownDistance", and(
+                        equal(value("${flight.carrier}"), value("AA")),
+                        greaterOrEqual(value("${flight.distance}"), value(0L)))));
+        List<Flight> flights = Collections.singletonList(new Flight("AA", null));
+
+        // when
+        List<String> compiled = createSession(rules, true).execute(new ArrayList<>(), flights);
+        List<String> interpreted = createSession(rules, false).execute(new ArrayList<>(), flights);
+
+        // then
+        assertThat(compiled).isEmpty();
+        assertThat(interpreted).isEmpty();
+    }
+
+    private static Rule createRule(String name, Expression<Boolean> predicate) {
+        return createCollectingRule(name, "flight", Flight.class, predicate);
+    }
+
+    private static RuleSession createSession(List<Rule> rules, boolean compiledMode) {
+        return createCollectingEngineBuilder(i -> rules)
+                .withRulesExecutorBuilder(new DefaultRulesExecutorBuilder()
+                        .withCompiledMode(compiledMode))
+                .build()
+                .createSession("compiled");
+    }
+
+    public static final class Flight {
+        private final String carrier;
+        private final Long distance;
+
+        private Flight(String carrier, Long distance) {
+            this.carrier = carrier;
+            this.distance = distance;
+        }
+
+        public String getCarrier() {
+            return carrier;
+        }
+
+        public Long getDistance() {
+            return distance;
+        }
+    }
+}
@@ -523,6 +523,75 @@ public class ContainsOperatorTest {
         assertThat(matchingFacts).isEmpty();
     }
 
+    @Test
+    void shouldMatchWhenGivenContainsAllOfCollection() {
+        // given
+        List<Object> fact = Arrays.asList(
+                new TestFact(Arrays.asList("firstString", "secondString"), null),
+                new TestFact(Arrays.asList("secondString", "fourthString"), null)
+        );
+        List<Rule> rule = singletonList(
+                RuleDsl.ruleBuilder()
+                        .name("RULEshouldMatchWhenGivenContainsAllOfCollection")
+                        .fact("testFact", TestFact.class)
+                        .predicate(
+                                contains(
+                                        values(String.class, value("firstString"), value("secondString"), value("thirdString")),
+                                        castToCollection(value("${testFact.strings}"), String.class)
+                                )
+                        )
+                        .action(ACTION_NAME,
+                                param("context", value("${ctx}")),
+                                param("fact", value("${testFact}")))
+                        .build());
+        RulesExecutionConfig config = createConfig(rule);
+        RulesEngine rulesEngine = createRuleEngine(config);
+        RuleSession ruleSession = rulesEngine.createSession("testSession");
+
+        // when
+        List<Object> matchingFacts = ruleSession.execute(new ArrayList<>(), fact);
+
+        // then
+        assertThat(matchingFacts).containsExactly(
+                new TestFact(Arrays.asList("firstString", "secondString"), null)
+        );
+    }
+
+    @Test
+    void shouldMatchWhenGivenContainsAnyOfCollection() {
+        // given
+        List<Object> fact = Arrays.asList(
+                new TestFact(Arrays.asList("firstString", "secondString"), null),
+                new TestFact(Arrays.asList("secondString", "fourthString"), null)
+        );
+        List<Rule> rule = singletonList(
+                RuleDsl.ruleBuilder()
+                        .name("RULEshouldMatchWhenGivenContainsAnyOfCollection")
+                        .fact("testFact", TestFact.class)
+                        .predicate(
+                                containsAny(
+                                        values(String.class, value("firstString"), value("secondString"), value("thirdString")),
+                                        castToCollection(value("${testFact.strings}"), String.class)
+                                )
+                        )
+                        .action(ACTION_NAME,
+                                param("context", value("${ctx}")),
+                                param("fact", value("${testFact}")))
+                        .build());
+        RulesExecutionConfig config = createConfig(rule);
+        RulesEngine rulesEngine = createRuleEngine(config);
+        RuleSession ruleSession = rulesEngine.createSession("testSession");
+
+        // when
+        List<Object> matchingFacts = ruleSession.execute(new ArrayList<>(), fact);
+
+        // then
+        assertThat(matchingFacts).containsExactly(
+                new TestFact(Arrays.asList("firstString", "secondString"), null),
+                new TestFact(Arrays.asList("secondString", "fourthString"), null)
+        );
+    }
+
     private RulesExecutionConfig createConfig(List<Rule> rule) {
         return RulesExecutionConfig.builder()
                 .withFactTypes(Collections.singletonList(TestFact.class))
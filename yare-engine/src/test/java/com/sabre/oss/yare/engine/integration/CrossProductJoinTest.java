@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.Expression;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CrossProductJoinTest {
+    private static final List<Object> FACTS = Arrays.asList(
+            new Flight("F1", "KRK"), new Flight("F2", "DFW"), new Flight("F3", null), new Flight("F4", "KRK"),
+            new Hotel("H1", "KRK", "PL"), new Hotel("H2", "DFW", "US"), new Hotel("H3", "NYC", "US"), new Hotel("H4", null, "US"),
+            new Car("C1", "PL"), new Car("C2", "US"), new Car("C3", "US"));
+
+    @Test
+    void shouldEnumerateOnlyJoinedFacts() {
+        // given
+        List<Rule> rules = Collections.singletonList(joinRule("join", value(true)));
+
+        // when
+        List<String> result = createSession(rules).execute(new ArrayList<>(), FACTS);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(
+                "join:F1:H1:C1",
+                "join:F4:H1:C1",
+                "join:F2:H2:C2",
+                "join:F2:H2:C3");
+    }
+
+    @Test
+    void shouldMatchSameTuplesWhenSomeRuleDoesNotJoinFacts() {
+        // given
+        Rule notJoined = RuleDsl.ruleBuilder()
+                .name("notJoined")
+                .fact("flight", Flight.class)
+                .fact("hotel", Hotel.class)
+                .fact("car", Car.class)
+                .predicate(
+                        value(false)
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("ruleName", value("${ruleName}")),
+                        param("flight", value("${flight}")),
+                        param("hotel", value("${hotel}")),
+                        param("car", value("${car}")))
+                .build();
+        List<Rule> joinedRules = Arrays.asList(joinRule("first", value(true)), joinRule("second", not(isNull(value("${flight.destination}")))));
+        List<Rule> mixedRules = Arrays.asList(joinRule("first", value(true)), joinRule("second", not(isNull(value("${flight.destination}")))), notJoined);
+
+        // when
+        List<String> joined = createSession(joinedRules).execute(new ArrayList<>(), FACTS);
+        List<String> mixed = createSession(mixedRules).execute(new ArrayList<>(), FACTS);
+
+        // then
+        assertThat(joined).hasSize(8);
+        assertThat(joined).containsExactlyInAnyOrderElementsOf(mixed);
+    }
+
+    private static Rule joinRule(String name, Expression<Boolean> condition) {
+        return RuleDsl.ruleBuilder()
+                .name(name)
+                .fact("flight", Flight.class)
+                .fact("hotel", Hotel.class)
+                .fact("car", Car.class)
+                .predicate(
+                        and(
+                                equal(
+                                        value("${hotel.city}"),
+                                        value("${flight.destination}")
+                                ),
+                                equal(
+                                        value("${car.country}"),
+                                        value("${hotel.country}")
+                                ),
+                                condition
+                        )
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("ruleName", value("${ruleName}")),
+                        param("flight", value("${flight}")),
+                        param("hotel", value("${hotel}")),
+                        param("car", value("${car}")))
+                .build();
+    }
+
+    private RuleSession createSession(List<Rule> rules) {
+        RulesEngine engine = new RulesEngineBuilder()
+                .withRulesRepository(i -> rules)
+                .withActionMapping("collect", method(this, a -> a.collect(null, null, null, null, null)))
+                .withRulesExecutorBuilder(new DefaultRulesExecutorBuilder()
+                        .withCrossProductMode(true))
+                .build();
+        return engine.createSession("join");
+    }
+
+    public void collect(List<String> context, String ruleName, Flight flight, Hotel hotel, Car car) {
+        context.add(String.join(":", ruleName, flight.getId(), hotel.getId(), car.getId()));
+    }
+
+    public static final class Flight {
+        private final String id;
+        private final String destination;
+
+        private Flight(String id, String destination) {
+            this.id = id;
+            this.destination = destination;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getDestination() {
+            return destination;
+        }
+    }
+
+    public static final class Hotel {
+        private final String id;
+        private final String city;
+        private final String country;
+
+        private Hotel(String id, String city, String country) {
+            this.id = id;
+            this.city = city;
+            this.country = country;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public String getCountry() {
+            return country;
+        }
+    }
+
+    public static final class Car {
+        private final String id;
+        private final String country;
+
+        private Car(String id, String country) {
+            this.id = id;
+            this.country = country;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getCountry() {
+            return country;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.Expression;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.createCollectingEngineBuilder;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.createCollectingRule;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FactProjectionTest {
+    private static final int RULES = 20;
+
+    @Test
+    void shouldReadPathSharedByRulesOncePerTuple() {
+        // given
+        List<Rule> rules = IntStream.range(0, RULES)
+                .mapToObj(i -> createRule("rule" + i,
+                        containsAny(
+                                castToCollection(value("${itinerary.segments.carrier}"), String.class),
+                                values(String.class, value("AA"), value("LH" + i)))))
+                .collect(Collectors.toList());
+        RuleSession session = createEngine(rules, new DefaultRulesExecutorBuilder()).createSession("uri");
+        Segment firstSegment = new Segment("AA");
+        Segment secondSegment = new Segment("BA");
+
+        // when
+        List<String> result = session.execute(new ArrayList<>(), Collections.singletonList(
+                new Itinerary("first", Arrays.asList(firstSegment, secondSegment))));
+
+        // then
+        assertThat(result).hasSize(RULES);
+        assertThat(firstSegment.carrierReads).isEqualTo(1);
+        assertThat(secondSegment.carrierReads).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadPathOncePerFact() {
+        // given
+        List<Rule> rules = IntStream.range(0, RULES)
+                .mapToObj(i -> createRule("rule" + i,
+                        equal(value("${itinerary.segments.carrier}"), values(String.class, value("AA")))))
+                .collect(Collectors.toList());
+        RuleSession session = createEngine(rules, new DefaultRulesExecutorBuilder()).createSession("uri");
+        Segment firstSegment = new Segment("AA");
+        Segment secondSegment = new Segment("BA");
+
+        // when
+        List<String> result = session.execute(new ArrayList<>(), Arrays.asList(
+                new Itinerary("first", Collections.singletonList(firstSegment)),
+                new Itinerary("second", Collections.singletonList(secondSegment))));
+
+        // then
+        assertThat(result).hasSize(RULES);
+        assertThat(firstSegment.carrierReads).isEqualTo(1);
+        assertThat(secondSegment.carrierReads).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadPathAgainWhenFactWasModifiedByAction() {
+        // given
+        List<Rule> rules = Arrays.asList(
+                createRule("before", equal(value("${itinerary.name}"), value("before"))),
+                RuleDsl.ruleBuilder()
+                        .name("rename")
+                        .fact("itinerary", Itinerary.class)
+                        .predicate(equal(value("${itinerary.name}"), value("before")))
+                        .action("rename",
+                                param("itinerary", value("${itinerary}")),
+                                param("name", value("after")))
+                        .build(),
+                createRule("after", equal(value("${itinerary.name}"), value("after"))));
+        RuleSession session = createEngine(rules, new DefaultRulesExecutorBuilder().withSequentialMode(true)).createSession("uri");
+
+        // when
+        List<String> result = session.execute(new ArrayList<>(), Collections.singletonList(
+                new Itinerary("before", Collections.emptyList())));
+
+        // then
+        assertThat(result).containsExactly("before", "after");
+    }
+
+    private RulesEngine createEngine(List<Rule> rules, DefaultRulesExecutorBuilder rulesExecutorBuilder) {
+        return createCollectingEngineBuilder(uri -> rules)
+                .withActionMapping("rename", method(this, a -> a.rename(null, null)))
+                .withRulesExecutorBuilder(rulesExecutorBuilder)
+                .build();
+    }
+
+    private static Rule createRule(String name, Expression<Boolean> predicate) {
+        return createCollectingRule(name, "itinerary", Itinerary.class, predicate);
+    }
+
+    public void rename(Itinerary itinerary, String name) {
+        itinerary.name = name;
+    }
+
+    public static final class Itinerary {
+        private String name;
+        private final List<Segment> segments;
+
+        public Itinerary(String name, List<Segment> segments) {
+            this.name = name;
+            this.segments = segments;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<Segment> getSegments() {
+            return segments;
+        }
+    }
+
+    public static final class Segment {
+        private final String carrier;
+        private int carrierReads;
+
+        public Segment(String carrier) {
+            this.carrier = carrier;
+        }
+
+        public String getCarrier() {
+            carrierReads++;
+            return carrier;
+        }
+    }
+}
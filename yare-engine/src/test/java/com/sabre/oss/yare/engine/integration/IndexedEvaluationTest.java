@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import com.sabre.oss.yare.engine.feature.DefaultEngineFeature;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.collectingRuleBuilder;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.createCollectingEngineBuilder;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IndexedEvaluationTest {
+    private static final String[] CARRIERS = {"AA", "LH", "BA", "LO"};
+    private static final int RULES_COUNT = 400;
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    @Test
+    void shouldEvaluateOnlyRulesMatchingIndexedConstant() {
+        // given
+        List<Rule> rules = IntStream.range(0, RULES_COUNT)
+                .mapToObj(i -> collectingRuleBuilder("rule-" + i, "flight", Flight.class)
+                        .priority(i)
+                        .predicate(
+                                and(
+                                        equal(
+                                                value("${flight.carrier}"),
+                                                value(CARRIERS[i % CARRIERS.length])
+                                        ),
+                                        function("count", Boolean.class)
+                                )
+                        )
+                        .build())
+                .collect(Collectors.toList());
+        List<String> expected = IntStream.range(0, RULES_COUNT)
+                .map(i -> RULES_COUNT - 1 - i)
+                .filter(i -> i % CARRIERS.length == 1)
+                .mapToObj(i -> "rule-" + i)
+                .collect(Collectors.toList());
+
+        RuleSession session = createSession(rules, true);
+
+        // when
+        List<String> result = session.execute(new ArrayList<>(), Collections.singletonList(new Flight("LH", 10L)));
+
+        // then
+        assertThat(result).containsExactlyElementsOf(expected);
+        assertThat(evaluations.get()).isEqualTo(RULES_COUNT / CARRIERS.length);
+    }
+
+    @Test
+    void shouldMatchSameRulesAsNotIndexedEvaluation() {
+        // given
+        List<Rule> rules = Arrays.asList(
+                collectingRuleBuilder("carrier", "flight", Flight.class)
+                        .priority(5L)
+                        .predicate(
+                                equal(
+                                        value("${flight.carrier}"),
+                                        value("AA")
+                                )
+                        )
+                        .build(),
+                collectingRuleBuilder("carrierAndDistance", "flight", Flight.class)
+                        .priority(4L)
+                        .predicate(
+                                and(
+                                        greater(
+                                                value("${flight.distance}"),
+                                                value(100L)
+                                        ),
+                                        equal(
+                                                value("AA"),
+                                                value("${flight.carrier}")
+                                        )
+                                )
+                        )
+                        .build(),
+                collectingRuleBuilder("distance", "flight", Flight.class)
+                        .priority(3L)
+                        .predicate(
+                                equal(
+                                        value("${flight.distance}"),
+                                        value(200L)
+                                )
+                        )
+                        .build(),
+                collectingRuleBuilder("notIndexed", "flight", Flight.class)
+                        .priority(2L)
+                        .predicate(
+                                or(
+                                        equal(
+                                                value("${flight.carrier}"),
+                                                value("LH")
+                                        ),
+                                        isNull(
+                                                value("${flight.carrier}")
+                                        )
+                                )
+                        )
+                        .build()
+        );
+        List<Flight> flights = Arrays.asList(new Flight("AA", 200L), new Flight("LH", 50L), new Flight(null, 200L), new Flight("AA", 50L));
+
+        // when
+        List<String> indexed = createSession(rules, true).execute(new ArrayList<>(), flights);
+        List<String> notIndexed = createSession(rules, false).execute(new ArrayList<>(), flights);
+
+        // then
+        assertThat(indexed).containsExactly(
+                "carrier", "carrierAndDistance", "distance",
+                "notIndexed",
+                "distance", "notIndexed",
+                "carrier");
+        assertThat(indexed).isEqualTo(notIndexed);
+    }
+
+    private RuleSession createSession(List<Rule> rules, boolean indexedMode) {
+        RulesEngine engine = createCollectingEngineBuilder(i -> rules)
+                .withFunctionMapping("count", method(this, IndexedEvaluationTest::count), DefaultEngineFeature.DISABLE_CACHE_FUNCTION_RESULT)
+                .withRulesExecutorBuilder(new DefaultRulesExecutorBuilder()
+                        .withIndexedMode(indexedMode))
+                .build();
+        return engine.createSession("indexed");
+    }
+
+    public Boolean count() {
+        evaluations.incrementAndGet();
+        return true;
+    }
+
+    public static final class Flight {
+        private final String carrier;
+        private final Long distance;
+
+        private Flight(String carrier, Long distance) {
+            this.carrier = carrier;
+            this.distance = distance;
+        }
+
+        public String getCarrier() {
+            return carrier;
+        }
+
+        public Long getDistance() {
+            return distance;
+        }
+    }
+}
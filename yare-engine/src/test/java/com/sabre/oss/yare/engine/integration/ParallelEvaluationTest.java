@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.collectingRuleBuilder;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.createCollectingEngineBuilder;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ParallelEvaluationTest {
+    private static final int RULES_COUNT = 1000;
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void shouldExecuteConsequencesInPriorityOrder() {
+        // given
+        List<Rule> rules = IntStream.range(0, RULES_COUNT)
+                .mapToObj(i -> collectingRuleBuilder("rule-" + i, "fact", Fact.class)
+                        .priority(i)
+                        .predicate(
+                                equal(
+                                        value("${fact.value}"),
+                                        value((long) (i % 3))
+                                )
+                        )
+                        .build())
+                .collect(Collectors.toList());
+        List<String> expected = IntStream.range(0, RULES_COUNT)
+                .map(i -> RULES_COUNT - 1 - i)
+                .filter(i -> i % 3 == 1)
+                .mapToObj(i -> "rule-" + i)
+                .collect(Collectors.toList());
+
+        RuleSession session = createSession(rules);
+
+        // when
+        List<String> result = session.execute(new ArrayList<>(), Collections.singletonList(new Fact(1L)));
+
+        // then
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void shouldPropagatePredicateEvaluationFailure() {
+        // given
+        List<Rule> rules = IntStream.range(0, RULES_COUNT)
+                .mapToObj(i -> collectingRuleBuilder("rule-" + i, "fact", Fact.class)
+                        .predicate(
+                                equal(
+                                        value("${fact.value}"),
+                                        function("fail", Long.class)
+                                )
+                        )
+                        .build())
+                .collect(Collectors.toList());
+
+        RuleSession session = createSession(rules);
+
+        // when / then
+        assertThatThrownBy(() -> session.execute(new ArrayList<>(), Collections.singletonList(new Fact(1L))))
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("evaluation failed");
+    }
+
+    private RuleSession createSession(List<Rule> rules) {
+        RulesEngine engine = createCollectingEngineBuilder(i -> rules)
+                .withFunctionMapping("fail", method(this, ParallelEvaluationTest::fail))
+                .withRulesExecutorBuilder(new DefaultRulesExecutorBuilder()
+                        .withParallelMode(true)
+                        .withParallelExecutor(executorService)
+                        .withParallelism(4))
+                .build();
+        return engine.createSession("parallel");
+    }
+
+    public Long fail() {
+        throw new IllegalStateException("evaluation failed");
+    }
+
+    public static final class Fact {
+        private final Long value;
+
+        private Fact(Long value) {
+            this.value = value;
+        }
+
+        public Long getValue() {
+            return value;
+        }
+    }
+}
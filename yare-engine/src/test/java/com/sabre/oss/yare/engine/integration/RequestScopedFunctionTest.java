@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import com.sabre.oss.yare.engine.feature.DefaultEngineFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.collectingRuleBuilder;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.createCollectingEngineBuilder;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestScopedFunctionTest {
+    private static final int RULES = 20;
+
+    private final Map<String, AtomicInteger> computations = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        computations.clear();
+    }
+
+    @Test
+    void shouldComputeRequestScopedFunctionOncePerDistinctArgumentsWithinExecution() {
+        // given
+        RuleSession session = createEngine(new DefaultRulesExecutorBuilder()).createSession("uri");
+
+        // when
+        List<String> result = session.execute(new ArrayList<>(), Arrays.asList(new Flight("AA"), new Flight("AA"), new Flight("BA")));
+
+        // then
+        assertThat(result).hasSize(3 * RULES);
+        assertThat(computations.get("AA")).hasValue(1);
+        assertThat(computations.get("BA")).hasValue(1);
+    }
+
+    @Test
+    void shouldDiscardMemoizedResultsWhenExecutionCompletes() {
+        // given
+        RuleSession session = createEngine(new DefaultRulesExecutorBuilder()).createSession("uri");
+
+        // when
+        session.execute(new ArrayList<>(), Arrays.asList(new Flight("AA"), new Flight("AA")));
+        session.execute(new ArrayList<>(), Arrays.asList(new Flight("AA"), new Flight("AA")));
+
+        // then
+        assertThat(computations.get("AA")).hasValue(2);
+    }
+
+    @Test
+    void shouldComputeRequestScopedFunctionOncePerDistinctArgumentsWhenRulesAreEvaluatedInParallel() {
+        // given
+        RuleSession session = createEngine(new DefaultRulesExecutorBuilder()
+                .withParallelMode(true)
+                .withParallelism(4))
+                .createSession("uri");
+
+        // when
+        List<String> result = session.execute(new ArrayList<>(), Arrays.asList(new Flight("AA"), new Flight("BA")));
+
+        // then
+        assertThat(result).hasSize(2 * RULES);
+        assertThat(computations.get("AA")).hasValue(1);
+        assertThat(computations.get("BA")).hasValue(1);
+    }
+
+    private RulesEngine createEngine(DefaultRulesExecutorBuilder rulesExecutorBuilder) {
+        List<Rule> rules = IntStream.range(0, RULES)
+                .mapToObj(i -> createRule("rule" + i))
+                .collect(Collectors.toList());
+        return createCollectingEngineBuilder(uri -> rules)
+                .withFunctionMapping("isEligible", method(this, a -> a.isEligible(null)), DefaultEngineFeature.REQUEST_SCOPED_FUNCTION_RESULT)
+                .withRulesExecutorBuilder(rulesExecutorBuilder)
+                .build();
+    }
+
+    private static Rule createRule(String name) {
+        return collectingRuleBuilder(name, "flight", Flight.class)
+                .predicate(
+                        function("isEligible", Boolean.class,
+                                param("carrier", value("${flight.carrier}")))
+                )
+                .build();
+    }
+
+    public Boolean isEligible(String carrier) {
+        computations.computeIfAbsent(carrier, c -> new AtomicInteger()).incrementAndGet();
+        return true;
+    }
+
+    public static final class Flight {
+        private String carrier;
+
+        public Flight() {
+        }
+
+        private Flight(String carrier) {
+            this.carrier = carrier;
+        }
+
+        public String getCarrier() {
+            return carrier;
+        }
+    }
+}
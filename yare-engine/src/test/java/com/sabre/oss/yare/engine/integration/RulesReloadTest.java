@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesRepository;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.collectingRuleBuilder;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.createCollectingEngineBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RulesReloadTest {
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void shouldPickUpReloadedRulesInLongLivedSession() {
+        // given
+        AtomicInteger version = new AtomicInteger(1);
+        RuleSession session = createSession(uri -> createRules("rule-v" + version.get()), Runnable::run);
+        session.execute(new ArrayList<>(), Collections.singletonList(new Fact()));
+
+        // when
+        version.set(2);
+        List<String> duringReload = session.execute(new ArrayList<>(), Collections.singletonList(new Fact()));
+        List<String> afterReload = session.execute(new ArrayList<>(), Collections.singletonList(new Fact()));
+
+        // then
+        assertThat(duringReload).containsExactly("rule-v1");
+        assertThat(afterReload).containsExactly("rule-v2");
+    }
+
+    @Test
+    void shouldNotWaitForReloadInProgress() throws InterruptedException {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch reloadStarted = new CountDownLatch(1);
+        CountDownLatch releaseReload = new CountDownLatch(1);
+        RuleSession session = createSession(uri -> {
+            if (loads.incrementAndGet() > 1) {
+                reloadStarted.countDown();
+                await(releaseReload);
+                return createRules("rule-v2");
+            }
+            return createRules("rule-v1");
+        }, executorService);
+        session.execute(new ArrayList<>(), Collections.singletonList(new Fact()));
+        session.execute(new ArrayList<>(), Collections.singletonList(new Fact()));
+        assertThat(reloadStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        List<String> duringReload = session.execute(new ArrayList<>(), Collections.singletonList(new Fact()));
+        releaseReload.countDown();
+
+        // then
+        assertThat(duringReload).containsExactly("rule-v1");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReloadRulesOnDedicatedDaemonThreadByDefault() throws InterruptedException {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch reloaded = new CountDownLatch(1);
+        AtomicReference<Thread> reloadThread = new AtomicReference<>();
+        RuleSession session = createSession(uri -> {
+            if (loads.incrementAndGet() > 1) {
+                reloadThread.set(Thread.currentThread());
+                reloaded.countDown();
+            }
+            return createRules("rule");
+        }, null);
+        session.execute(new ArrayList<>(), Collections.singletonList(new Fact()));
+
+        // when
+        session.execute(new ArrayList<>(), Collections.singletonList(new Fact()));
+
+        // then
+        assertThat(reloaded.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(reloadThread.get().getName()).startsWith("yare-rules-reload-");
+        assertThat(reloadThread.get().isDaemon()).isTrue();
+    }
+
+    private RuleSession createSession(RulesRepository rulesRepository, Executor reloadExecutor) {
+        return createCollectingEngineBuilder(rulesRepository)
+                .withRulesExecutorBuilder(new DefaultRulesExecutorBuilder()
+                        .withRulesCacheRefreshTime(Duration.ZERO)
+                        .withRulesReloadExecutor(reloadExecutor))
+                .build()
+                .createSession("reload");
+    }
+
+    private static List<Rule> createRules(String name) {
+        return Collections.singletonList(collectingRuleBuilder(name, "fact", Fact.class)
+                .predicate(
+                        not(isNull(value("${fact}")))
+                )
+                .build());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static final class Fact {
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.EngineController;
+import com.sabre.oss.yare.core.ExecutionTimeoutException;
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+public class SessionTerminationTest {
+    private static final int FACTS_COUNT = 100;
+
+    @Test
+    void shouldCloseOnlyCurrentExecution() {
+        // given
+        RuleSession session = createSession("collectAndClose");
+        List<Fact> facts = createFacts();
+
+        // when
+        List<Fact> first = session.execute(new ArrayList<>(), facts);
+        List<Fact> second = session.execute(new ArrayList<>(), facts);
+
+        // then
+        assertThat(first).hasSize(1);
+        assertThat(second).hasSize(1);
+    }
+
+    @Test
+    void shouldReturnCompleteResultWhenTimeoutIsNotExceeded() {
+        // given
+        RuleSession session = createSession("collect");
+        List<Fact> facts = createFacts();
+
+        // when
+        List<Fact> result = session.execute(new ArrayList<>(), facts, Duration.ofMinutes(1));
+
+        // then
+        assertThat(result).containsExactlyElementsOf(facts);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStopEvaluationAndReportPartialResultWhenTimeoutIsExceeded() {
+        // given
+        RuleSession session = createSession("collectSlowly");
+        List<Fact> facts = createFacts();
+
+        // when
+        ExecutionTimeoutException exception = catchThrowableOfType(
+                () -> session.execute(new ArrayList<>(), facts, Duration.ofMillis(50)), ExecutionTimeoutException.class);
+
+        // then
+        assertThat(exception).isNotNull();
+        List<Fact> partialResult = (List<Fact>) exception.getPartialResult();
+        assertThat(partialResult).isNotEmpty();
+        assertThat(partialResult.size()).isLessThan(FACTS_COUNT);
+    }
+
+    @Test
+    void shouldNotInheritTerminationFromPreviousExecution() {
+        // given
+        RuleSession session = createSession("collectSlowly");
+        List<Fact> facts = createFacts();
+        catchThrowableOfType(() -> session.execute(new ArrayList<>(), facts, Duration.ofMillis(10)), ExecutionTimeoutException.class);
+
+        // when
+        List<Fact> result = session.execute(new ArrayList<>(), facts.subList(0, 3));
+
+        // then
+        assertThat(result).containsExactlyElementsOf(facts.subList(0, 3));
+    }
+
+    private RuleSession createSession(String action) {
+        List<Rule> rules = Collections.singletonList(RuleDsl.ruleBuilder()
+                .name("Should collect every fact")
+                .fact("fact", Fact.class)
+                .predicate(
+                        not(isNull(value("${fact.value}")))
+                )
+                .action(action,
+                        param("context", value("${ctx}")),
+                        param("fact", value("${fact}")),
+                        param("engineController", value("${engineController}")))
+                .build());
+        RulesEngine engine = new RulesEngineBuilder()
+                .withRulesRepository(i -> rules)
+                .withActionMapping("collect", method(this, a -> a.collect(null, null, null)))
+                .withActionMapping("collectAndClose", method(this, a -> a.collectAndClose(null, null, null)))
+                .withActionMapping("collectSlowly", method(this, a -> a.collectSlowly(null, null, null)))
+                .build();
+        return engine.createSession("termination");
+    }
+
+    private static List<Fact> createFacts() {
+        return IntStream.range(0, FACTS_COUNT)
+                .mapToObj(Fact::new)
+                .collect(Collectors.toList());
+    }
+
+    public void collect(List<Fact> context, Fact fact, EngineController engineController) {
+        context.add(fact);
+    }
+
+    public void collectAndClose(List<Fact> context, Fact fact, EngineController engineController) {
+        context.add(fact);
+        engineController.closeSession();
+    }
+
+    public void collectSlowly(List<Fact> context, Fact fact, EngineController engineController) {
+        context.add(fact);
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static final class Fact {
+        private final Integer value;
+
+        private Fact(Integer value) {
+            this.value = value;
+        }
+
+        public Integer getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.Expression;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.createCollectingEngineBuilder;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.createCollectingRule;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SharedConditionTest {
+    private static final int RULES = 20;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldEvaluateConditionSharedByRulesOncePerTuple(boolean compiledMode) {
+        // given
+        List<Rule> rules = IntStream.range(0, RULES)
+                .mapToObj(i -> createRule("rule" + i, i % 2 == 0
+                        ? and(greater(value("${itinerary.price}"), value("${itinerary.limit}")), equal(value("${itinerary.name}"), value("first")))
+                        : or(equal(value("${itinerary.name}"), value("rule" + i)), greater(value("${itinerary.price}"), value("${itinerary.limit}")))))
+                .collect(Collectors.toList());
+        RuleSession session = createEngine(rules, new DefaultRulesExecutorBuilder().withCompiledMode(compiledMode)).createSession("uri");
+        Amount firstPrice = new Amount(200);
+        Amount secondPrice = new Amount(50);
+
+        // when
+        List<String> result = session.execute(new ArrayList<>(), Arrays.asList(
+                new Itinerary("first", firstPrice, new Amount(100)),
+                new Itinerary("second", secondPrice, new Amount(100))));
+
+        // then
+        assertThat(result).hasSize(RULES);
+        assertThat(firstPrice.comparisons).isEqualTo(1);
+        assertThat(secondPrice.comparisons).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldEvaluateSharedConditionAgainWhenFactWasModifiedByAction(boolean compiledMode) {
+        // given
+        List<Rule> rules = Arrays.asList(
+                createRule("before", greater(value("${itinerary.price}"), value("${itinerary.limit}"))),
+                RuleDsl.ruleBuilder()
+                        .name("raise")
+                        .fact("itinerary", Itinerary.class)
+                        .predicate(greater(value("${itinerary.price}"), value("${itinerary.limit}")))
+                        .action("raise",
+                                param("itinerary", value("${itinerary}")))
+                        .build(),
+                createRule("after", greater(value("${itinerary.price}"), value("${itinerary.limit}"))),
+                createRule("notAfter", not(greater(value("${itinerary.price}"), value("${itinerary.limit}")))));
+        RuleSession session = createEngine(rules, new DefaultRulesExecutorBuilder()
+                .withSequentialMode(true)
+                .withCompiledMode(compiledMode))
+                .createSession("uri");
+        Amount price = new Amount(200);
+
+        // when
+        List<String> result = session.execute(new ArrayList<>(), Collections.singletonList(
+                new Itinerary("first", price, new Amount(100))));
+
+        // then
+        assertThat(result).containsExactly("before", "notAfter");
+        // once before each action-performing rule and once for both rules following the last action
+        assertThat(price.comparisons).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldNotShareConditionCallingFunction(boolean compiledMode) {
+        // given
+        List<Rule> rules = IntStream.range(0, RULES)
+                .mapToObj(i -> createRule("rule" + i,
+                        greater(function("priceOf", Amount.class, param("itinerary", value("${itinerary}"))), value("${itinerary.limit}"))))
+                .collect(Collectors.toList());
+        RuleSession session = createEngine(rules, new DefaultRulesExecutorBuilder().withCompiledMode(compiledMode)).createSession("uri");
+        Amount price = new Amount(200);
+
+        // when
+        List<String> result = session.execute(new ArrayList<>(), Collections.singletonList(
+                new Itinerary("first", price, new Amount(100))));
+
+        // then
+        assertThat(result).hasSize(RULES);
+        assertThat(price.comparisons).isEqualTo(RULES);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldNotShareConditionReferringToContext(boolean compiledMode) {
+        // given
+        List<Rule> rules = IntStream.range(0, RULES)
+                .mapToObj(i -> RuleDsl.ruleBuilder()
+                        .name("rule" + i)
+                        .fact("itinerary", Itinerary.class)
+                        .predicate(greater(value("${ctx}"), value("${itinerary.limit}")))
+                        .action("raise",
+                                param("itinerary", value("${itinerary}")))
+                        .build())
+                .collect(Collectors.toList());
+        RuleSession session = createEngine(rules, new DefaultRulesExecutorBuilder().withCompiledMode(compiledMode)).createSession("uri");
+        Amount budget = new Amount(200);
+
+        // when
+        Amount result = session.execute(budget, Collections.singletonList(
+                new Itinerary("first", new Amount(200), new Amount(100))));
+
+        // then
+        assertThat(result).isSameAs(budget);
+        assertThat(budget.comparisons).isEqualTo(RULES);
+    }
+
+    private RulesEngine createEngine(List<Rule> rules, DefaultRulesExecutorBuilder rulesExecutorBuilder) {
+        return createCollectingEngineBuilder(uri -> rules)
+                .withActionMapping("raise", method(this, a -> a.raise(null)))
+                .withFunctionMapping("priceOf", method(this, a -> a.priceOf(null)))
+                .withRulesExecutorBuilder(rulesExecutorBuilder)
+                .build();
+    }
+
+    private static Rule createRule(String name, Expression<Boolean> predicate) {
+        return createCollectingRule(name, "itinerary", Itinerary.class, predicate);
+    }
+
+    public void raise(Itinerary itinerary) {
+        itinerary.limit = new Amount(itinerary.price.value);
+    }
+
+    public Amount priceOf(Itinerary itinerary) {
+        return itinerary.price;
+    }
+
+    public static final class Itinerary {
+        private final String name;
+        private final Amount price;
+        private Amount limit;
+
+        public Itinerary(String name, Amount price, Amount limit) {
+            this.name = name;
+            this.price = price;
+            this.limit = limit;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Amount getPrice() {
+            return price;
+        }
+
+        public Amount getLimit() {
+            return limit;
+        }
+    }
+
+    public static final class Amount implements Comparable<Amount> {
+        private final int value;
+        private int comparisons;
+
+        public Amount(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(Amount other) {
+            comparisons++;
+            return Integer.compare(value, other.value);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.Expression;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.createCollectingEngineBuilder;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.createCollectingRule;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TypeSpecializedComparisonTest {
+    private static final ZonedDateTime NOW = ZonedDateTime.parse("2018-01-01T12:00:00Z");
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldCompareOperandsOfStaticallyKnownTypes(boolean compiledMode) {
+        // given
+        List<Rule> rules = Arrays.asList(
+                createRule("intGreater", greater(value("${measure.anInt}"), value(4))),
+                createRule("intNotGreater", greater(value("${measure.anInt}"), value(5))),
+                createRule("intGreaterOrEqual", greaterOrEqual(value("${measure.anInt}"), value(5))),
+                createRule("longLess", less(value("${measure.aLong}"), value(11L))),
+                createRule("longNotLess", less(value("${measure.aLong}"), value(10L))),
+                createRule("longLessOrEqual", lessOrEqual(value("${measure.aLong}"), value(10L))),
+                createRule("doubleGreater", greater(value("${measure.aDouble}"), value(0.5))),
+                createRule("doubleNotLess", less(value("${measure.aDouble}"), value(-0.5))),
+                createRule("nanGreater", greater(value("${measure.notANumber}"), value(Double.MAX_VALUE))),
+                createRule("bigDecimalEqualScale", greaterOrEqual(value("${measure.aBigDecimal}"), value(new BigDecimal("1.50")))),
+                createRule("bigDecimalNotGreater", greater(value("${measure.aBigDecimal}"), value(new BigDecimal("1.5")))),
+                createRule("dateLess", less(value("${measure.aDate}"), value(NOW.plusHours(1)))),
+                createRule("dateNotGreater", greater(value("${measure.aDate}"), value(NOW.withZoneSameInstant(NOW.getZone())))));
+
+        // when
+        List<String> result = createSession(rules, compiledMode).execute(new ArrayList<>(), singletonList(new Measure()));
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(
+                "intGreater", "intGreaterOrEqual", "longLess", "longLessOrEqual", "doubleGreater", "nanGreater",
+                "bigDecimalEqualScale", "dateLess");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldNotMatchComparisonsOfMissingValues(boolean compiledMode) {
+        // given
+        List<Rule> rules = Arrays.asList(
+                createRule("intGreater", greater(value("${measure.missingInt}"), value(4))),
+                createRule("intLessOrEqual", lessOrEqual(value("${measure.missingInt}"), value(4))),
+                createRule("longLess", less(value("${measure.missingLong}"), value(11L))),
+                createRule("longGreaterOrEqual", greaterOrEqual(value("${measure.missingLong}"), value(11L))),
+                createRule("doubleGreater", greater(value("${measure.missingDouble}"), value(0.5))),
+                createRule("doubleLessOrEqual", lessOrEqual(value("${measure.missingDouble}"), value(0.5))),
+                createRule("bigDecimalGreaterOrEqual", greaterOrEqual(value("${measure.missingBigDecimal}"), value(BigDecimal.ONE))),
+                createRule("bigDecimalLess", less(value("${measure.missingBigDecimal}"), value(BigDecimal.ONE))));
+
+        // when
+        List<String> result = createSession(rules, compiledMode).execute(new ArrayList<>(), singletonList(new Measure()));
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldCompareOperandsOfStaticallyUnknownTypes(boolean compiledMode) {
+        // given
+        List<Rule> rules = Arrays.asList(
+                createRule("numberGreater", greater(value("${measure.aNumber}"), value("${measure.anInt}"))),
+                createRule("numberNotLess", less(value("${measure.aNumber}"), value("${measure.anInt}"))),
+                createRule("comparableGreaterOrEqual", greaterOrEqual(value("${measure.aComparable}"), value(new BigDecimal("1.50")))),
+                createRule("comparableNotGreater", greater(value("${measure.aComparable}"), value(new BigDecimal("1.5")))));
+
+        // when
+        List<String> result = createSession(rules, compiledMode).execute(new ArrayList<>(), singletonList(new Measure()));
+
+        // then
+        assertThat(result).containsExactly("numberGreater", "comparableGreaterOrEqual");
+    }
+
+    private static Rule createRule(String name, Expression<Boolean> predicate) {
+        return createCollectingRule(name, "measure", Measure.class, predicate);
+    }
+
+    private static RuleSession createSession(List<Rule> rules, boolean compiledMode) {
+        return createCollectingEngineBuilder(uri -> rules)
+                .withRulesExecutorBuilder(new DefaultRulesExecutorBuilder()
+                        .withCompiledMode(compiledMode))
+                .build()
+                .createSession("uri");
+    }
+
+    public static final class Measure {
+
+        public int getAnInt() {
+            return 5;
+        }
+
+        public long getALong() {
+            return 10L;
+        }
+
+        public double getADouble() {
+            return 1.0;
+        }
+
+        public Double getNotANumber() {
+            return Double.NaN;
+        }
+
+        public BigDecimal getABigDecimal() {
+            return new BigDecimal("1.5");
+        }
+
+        public ZonedDateTime getADate() {
+            return NOW;
+        }
+
+        public Integer getMissingInt() {
+            return null;
+        }
+
+        public Long getMissingLong() {
+            return null;
+        }
+
+        public Double getMissingDouble() {
+            return null;
+        }
+
+        public BigDecimal getMissingBigDecimal() {
+            return null;
+        }
+
+        public Object getANumber() {
+            return 6;
+        }
+
+        public Comparable<BigDecimal> getAComparable() {
+            return new BigDecimal("1.5");
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.engine.integration;
+
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.model.Rule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.COLLECT_ACTION;
+import static com.sabre.oss.yare.engine.integration.BaseRulesUtils.collectingRuleBuilder;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WarmUpTest {
+    private static final Set<String> readCarriers = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger failedReads = new AtomicInteger();
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger functionCalls = new AtomicInteger();
+    private final AtomicInteger actions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        readCarriers.clear();
+        failedReads.set(0);
+        loads.set(0);
+        functionCalls.set(0);
+        actions.set(0);
+    }
+
+    @Test
+    void shouldCompileAllUrisAndReportCompileTimes() {
+        // given
+        RulesEngine engine = createEngine(createRule("American", "AA"), createRule("British", "BA"));
+
+        // when
+        Map<String, Duration> compileTimes = engine.warmUp(Arrays.asList("first", "second", "third"), 2, 0);
+        List<String> result = engine.createSession("second").execute(new ArrayList<>(), Collections.singletonList(new Flight("AA")));
+
+        // then
+        assertThat(compileTimes).containsOnlyKeys("first", "second", "third");
+        assertThat(compileTimes.values()).allMatch(time -> !time.isNegative());
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(result).containsExactly("American");
+    }
+
+    @Test
+    void shouldEvaluatePredicatesAgainstFactsBuiltFromRuleConstantsWithoutExecutingActions() {
+        // given
+        RulesEngine engine = createEngine(createRule("American", "AA"), createRule("British", "BA"));
+
+        // when
+        engine.warmUp(Collections.singletonList("uri"), 1, 4);
+
+        // then
+        assertThat(readCarriers).containsExactlyInAnyOrder("AA", "BA");
+        assertThat(actions.get()).isZero();
+    }
+
+    @Test
+    void shouldNotCallFunctionsWithSyntheticFacts() {
+        // given
+        RulesEngine engine = createEngine(createRule("American", "AA"), createObservingRule("British", "BA"));
+
+        // when
+        engine.warmUp(Collections.singletonList("uri"), 1, 4);
+
+        // then
+        assertThat(functionCalls.get()).isZero();
+        assertThat(actions.get()).isZero();
+    }
+
+    @Test
+    void shouldNotOverwriteFinalFieldsOfSyntheticFacts() {
+        // given
+        RulesEngine engine = createEngine(collectingRuleBuilder("American", "ticket", Ticket.class)
+                .predicate(
+                        equal(
+                                value("${ticket.carrier}"),
+                                value("AA")
+                        )
+                )
+                .build());
+
+        // when
+        engine.warmUp(Collections.singletonList("uri"), 1, 4);
+
+        // then
+        assertThat(readCarriers).containsExactly(Ticket.DEFAULT_CARRIER);
+    }
+
+    @Test
+    void shouldEvaluateRemainingRulesWhenFactGetterFailsOnSyntheticFact() {
+        // given
+        RulesEngine engine = createEngine(
+                collectingRuleBuilder("Named", "passenger", Passenger.class)
+                        .predicate(
+                                equal(
+                                        value("${passenger.name}"),
+                                        value("${passenger.surname}")
+                                )
+                        )
+                        .build(),
+                createRule("American", "AA"));
+
+        // when
+        engine.warmUp(Collections.singletonList("uri"), 1, 4);
+
+        // then
+        assertThat(failedReads.get()).isPositive();
+        assertThat(readCarriers).containsExactly("AA");
+        assertThat(actions.get()).isZero();
+    }
+
+    private RulesEngine createEngine(Rule... rules) {
+        return new RulesEngineBuilder()
+                .withRulesRepository(uri -> {
+                    loads.incrementAndGet();
+                    return Arrays.asList(rules);
+                })
+                .withActionMapping(COLLECT_ACTION, method(this, a -> a.collect(null, null)))
+                .withFunctionMapping("observe", method(this, a -> a.observe(null)))
+                .build();
+    }
+
+    private static Rule createRule(String name, String carrier) {
+        return collectingRuleBuilder(name, "flight", Flight.class)
+                .predicate(
+                        equal(
+                                value("${flight.carrier}"),
+                                value(carrier)
+                        )
+                )
+                .build();
+    }
+
+    private static Rule createObservingRule(String name, String carrier) {
+        return collectingRuleBuilder(name, "flight", Flight.class)
+                .predicate(
+                        and(
+                                function("observe", Boolean.class,
+                                        param("carrier", value(carrier))),
+                                equal(
+                                        value("${flight.carrier}"),
+                                        value(carrier)
+                                )
+                        )
+                )
+                .build();
+    }
+
+    public void collect(List<String> context, String ruleName) {
+        actions.incrementAndGet();
+        context.add(ruleName);
+    }
+
+    public Boolean observe(String carrier) {
+        functionCalls.incrementAndGet();
+        return true;
+    }
+
+    public static final class Flight {
+        private String carrier;
+
+        public Flight() {
+        }
+
+        private Flight(String carrier) {
+            this.carrier = carrier;
+        }
+
+        public String getCarrier() {
+            readCarriers.add(carrier);
+            return carrier;
+        }
+    }
+
+    public static final class Passenger {
+        private String name;
+        private String surname;
+
+        public String getName() {
+            if (name == null) {
+                failedReads.incrementAndGet();
+                throw new IllegalStateException("Passenger without name");
+            }
+            return name;
+        }
+
+        public String getSurname() {
+            return surname;
+        }
+    }
+
+    public static final class Ticket {
+        private static final String DEFAULT_CARRIER = "XX";
+
+        private final String carrier;
+
+        public Ticket() {
+            this.carrier = DEFAULT_CARRIER;
+        }
+
+        public String getCarrier() {
+            readCarriers.add(carrier);
+            return carrier;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.invoker.java;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MethodInvokerTest {
+    private final Target target = new Target();
+
+    @Test
+    void shouldInvokeMethodsOfSpecializedArities() {
+        // given
+        MethodInvoker noArgs = MethodInvoker.of(target, method("noArgs"));
+        MethodInvoker oneArg = MethodInvoker.of(target, method("oneArg", String.class));
+        MethodInvoker twoArgs = MethodInvoker.of(target, method("twoArgs", String.class, String.class));
+        MethodInvoker fourArgs = MethodInvoker.of(target, method("fourArgs", String.class, String.class, String.class, String.class));
+
+        // when / then
+        assertThat(noArgs.invoke(new Object[0])).isEqualTo("");
+        assertThat(oneArg.invoke(new Object[]{"a"})).isEqualTo("a");
+        assertThat(twoArgs.invoke(new Object[]{"a", "b"})).isEqualTo("ab");
+        assertThat(fourArgs.invoke(new Object[]{"a", "b", "c", "d"})).isEqualTo("abcd");
+    }
+
+    @Test
+    void shouldInvokeMethodWithMoreArgumentsThanSpecialized() {
+        // given
+        MethodInvoker invoker = MethodInvoker.of(target, method("fiveArgs", String.class, String.class, String.class, String.class, String.class));
+
+        // when
+        Object result = invoker.invoke(new Object[]{"a", "b", "c", "d", "e"});
+
+        // then
+        assertThat(result).isEqualTo("abcde");
+    }
+
+    @Test
+    void shouldAdaptPrimitivesStaticAndVoidMethods() {
+        // given
+        MethodInvoker sum = MethodInvoker.of(null, method("sum", int.class, long.class));
+        MethodInvoker reset = MethodInvoker.of(target, method("reset"));
+
+        // when / then
+        assertThat(sum.invoke(new Object[]{1, 2L})).isEqualTo(3L);
+        assertThat(reset.invoke(new Object[0])).isNull();
+        assertThat(target.resets).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPassArrayToVarargsParameterAsIs() {
+        // given
+        MethodInvoker invoker = MethodInvoker.of(target, method("varargs", String[].class));
+
+        // when
+        Object result = invoker.invoke(new Object[]{new String[]{"a", "b"}});
+
+        // then
+        assertThat(result).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPropagateExceptionThrownByMethod() {
+        // given
+        MethodInvoker invoker = MethodInvoker.of(target, method("fail", String.class));
+
+        // when / then
+        assertThatThrownBy(() -> invoker.invoke(new Object[]{"failure"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("failure");
+    }
+
+    @Test
+    void shouldWrapCheckedExceptionThrownByMethod() {
+        // given
+        MethodInvoker invoker = MethodInvoker.of(target, method("failChecked", String.class));
+
+        // when / then
+        assertThatThrownBy(() -> invoker.invoke(new Object[]{"failure"}))
+                .isExactlyInstanceOf(RuntimeException.class)
+                .hasCauseExactlyInstanceOf(IOException.class);
+    }
+
+    private static Method method(String name, Class<?>... parameterTypes) {
+        try {
+            return Target.class.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class Target {
+        private int resets;
+
+        public String noArgs() {
+            return "";
+        }
+
+        public String oneArg(String a) {
+            return a;
+        }
+
+        public String twoArgs(String a, String b) {
+            return a + b;
+        }
+
+        public String fourArgs(String a, String b, String c, String d) {
+            return a + b + c + d;
+        }
+
+        public String fiveArgs(String a, String b, String c, String d, String e) {
+            return a + b + c + d + e;
+        }
+
+        public static long sum(int a, long b) {
+            return a + b;
+        }
+
+        public void reset() {
+            resets++;
+        }
+
+        public int varargs(String... values) {
+            return values.length;
+        }
+
+        public String fail(String message) {
+            throw new IllegalArgumentException(message);
+        }
+
+        public String failChecked(String message) throws IOException {
+            throw new IOException(message);
+        }
+    }
+}
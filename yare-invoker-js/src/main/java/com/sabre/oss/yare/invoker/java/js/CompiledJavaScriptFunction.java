@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.invoker.java.js;
+
+import jdk.nashorn.api.scripting.NashornException;
+import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
+import jdk.nashorn.api.scripting.ScriptObjectMirror;
+
+import javax.script.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * JavaScript function compiled once and linked once per thread.
+ * <p>
+ * Script is compiled into {@link CompiledScript} on the first call. Each thread evaluates the compiled script
+ * in its own {@link Bindings} (separate global scope, since Nashorn globals are not thread-safe) and caches
+ * the resolved function, so subsequent calls on that thread invoke the function directly.
+ * <p>
+ * After every call global variables are restored to values set by the script evaluation, and globals created
+ * by the call are removed, so that calls do not observe each other's state. Objects referenced by global
+ * variables are not copied, hence scripts should not rely on mutating them.
+ */
+final class CompiledJavaScriptFunction {
+    private static final NashornScriptEngineFactory scriptEngineFactory = new NashornScriptEngineFactory();
+
+    private final String functionName;
+    private final String script;
+    private final ThreadLocal<LinkedFunction> functions = ThreadLocal.withInitial(this::resolveFunction);
+    private volatile CompiledScript compiledScript;
+
+    CompiledJavaScriptFunction(String functionName, String script) {
+        this.functionName = functionName;
+        this.script = script;
+    }
+
+    Object call(Object[] args) {
+        LinkedFunction function = functions.get();
+        try {
+            Object result = function.call(args);
+            return ScriptObjectMirror.isUndefined(result) ? null : result;
+        } catch (NashornException e) {
+            throw new IllegalArgumentException(format("Failed to execute script %s", script), e);
+        } finally {
+            function.resetGlobals();
+        }
+    }
+
+    private LinkedFunction resolveFunction() {
+        CompiledScript compiled = getCompiledScript();
+        Bindings bindings = compiled.getEngine().createBindings();
+        try {
+            compiled.eval(bindings);
+        } catch (ScriptException e) {
+            throw new IllegalArgumentException(format("Failed to execute script %s", script), e);
+        }
+        Object function = bindings.get(functionName);
+        if (!(function instanceof ScriptObjectMirror) || !((ScriptObjectMirror) function).isFunction()) {
+            throw new IllegalArgumentException(format("No function %s in script %s", functionName, script));
+        }
+        return new LinkedFunction(bindings, (ScriptObjectMirror) function);
+    }
+
+    private CompiledScript getCompiledScript() {
+        CompiledScript compiled = compiledScript;
+        if (compiled == null) {
+            synchronized (this) {
+                compiled = compiledScript;
+                if (compiled == null) {
+                    compiled = compile();
+                    compiledScript = compiled;
+                }
+            }
+        }
+        return compiled;
+    }
+
+    private CompiledScript compile() {
+        ScriptEngine scriptEngine = scriptEngineFactory.getScriptEngine();
+        try {
+            return ((Compilable) scriptEngine).compile(script);
+        } catch (ScriptException e) {
+            throw new IllegalArgumentException(format("Failed to compile script %s", script), e);
+        }
+    }
+
+    private static final class LinkedFunction {
+        private final Bindings globals;
+        private final ScriptObjectMirror function;
+        private final Map<String, Object> initialGlobals;
+
+        private LinkedFunction(Bindings globals, ScriptObjectMirror function) {
+            this.globals = globals;
+            this.function = function;
+            this.initialGlobals = new HashMap<>(globals);
+        }
+
+        private Object call(Object[] args) {
+            return function.call(null, args);
+        }
+
+        private void resetGlobals() {
+            for (String key : new ArrayList<>(globals.keySet())) {
+                if (!initialGlobals.containsKey(key)) {
+                    globals.remove(key);
+                }
+            }
+            for (Map.Entry<String, Object> global : initialGlobals.entrySet()) {
+                if (!Objects.equals(globals.get(global.getKey()), global.getValue())) {
+                    globals.put(global.getKey(), global.getValue());
+                }
+            }
+        }
+    }
+}
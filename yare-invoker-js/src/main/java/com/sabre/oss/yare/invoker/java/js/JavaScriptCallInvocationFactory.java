@@ -26,16 +26,10 @@ package com.sabre.oss.yare.invoker.java.js;
 
 import com.sabre.oss.yare.core.call.*;
 import com.sabre.oss.yare.core.invocation.Invocation;
-import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
 
-import javax.script.Invocable;
-import javax.script.ScriptEngine;
-import javax.script.ScriptException;
 import java.util.Objects;
 import java.util.function.Supplier;
 
-import static java.lang.String.format;
-
 public class JavaScriptCallInvocationFactory implements InvocationFactory {
     private final JavaScriptCallMetadata callMetadata;
 
@@ -49,33 +43,17 @@ public class JavaScriptCallInvocationFactory implements InvocationFactory {
     }
 
     private static class JavaScriptBasedInvocation<R> extends ProcessingInvocation<R> {
-        private static final NashornScriptEngineFactory scriptEngineManager = new NashornScriptEngineFactory();
-
-        private final JavaScriptCallMetadata callMetadata;
+        private final CompiledJavaScriptFunction function;
 
         JavaScriptBasedInvocation(Argument.Invocation invocation, ArgumentValueResolver argumentValueResolver, JavaScriptCallMetadata callMetadata) {
             super(invocation, argumentValueResolver);
-            this.callMetadata = Objects.requireNonNull(callMetadata);
+            this.function = Objects.requireNonNull(callMetadata).getCompiledFunction();
         }
 
         @Override
         @SuppressWarnings("unchecked")
         public R call(ProcessingContext processingContext, Object[] args) {
-            try {
-                ScriptEngine scriptEngine = getScriptEngine();
-                scriptEngine.eval(callMetadata.getScript());
-                Invocable invocable = (Invocable) scriptEngine;
-                return (R) invocable.invokeFunction(callMetadata.getFunctionName(), args);
-            } catch (ScriptException e) {
-                throw new IllegalArgumentException(format("Failed to execute script %s", callMetadata.getScript()), e);
-            } catch (NoSuchMethodException e) {
-                throw new IllegalArgumentException(format("No function %s in script %s",
-                        callMetadata.getFunctionName(), callMetadata.getScript()), e);
-            }
-        }
-
-        private ScriptEngine getScriptEngine() {
-            return scriptEngineManager.getScriptEngine();
+            return (R) function.call(args);
         }
     }
 }
@@ -32,10 +32,12 @@ import java.util.Objects;
 public final class JavaScriptCallMetadata implements CallMetadata {
     private final String functionName;
     private final String script;
+    private final CompiledJavaScriptFunction compiledFunction;
 
     private JavaScriptCallMetadata(String functionName, String script) {
         this.functionName = Objects.requireNonNull(functionName);
         this.script = Objects.requireNonNull(script);
+        this.compiledFunction = new CompiledJavaScriptFunction(functionName, script);
     }
 
     /**
@@ -62,6 +64,10 @@ public final class JavaScriptCallMetadata implements CallMetadata {
         return script;
     }
 
+    CompiledJavaScriptFunction getCompiledFunction() {
+        return compiledFunction;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -29,17 +29,22 @@ import com.sabre.oss.yare.core.RulesEngine;
 import com.sabre.oss.yare.core.RulesEngineBuilder;
 import com.sabre.oss.yare.core.model.Rule;
 import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.feature.DefaultEngineFeature;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.sabre.oss.yare.dsl.RuleDsl.*;
 import static com.sabre.oss.yare.invoker.java.js.JavaScriptCallMetadata.js;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JavaScriptBasedFunctionTest {
     private static final String RULE_NAME = "NAME";
@@ -236,6 +241,137 @@ class JavaScriptBasedFunctionTest {
         assertThat(results).containsExactly(RULE_NAME);
     }
 
+    @Test
+    void shouldNotShareGlobalStateBetweenCallsOnTheSameThread() {
+        // given
+        String countingScript = "" +
+                "var calls = 0;" +
+                "function next() {" +
+                "   created = typeof created === 'undefined' ? 1 : created + 1;" +
+                "   return 'call' + ++calls + '-' + created;" +
+                "}";
+        Rule rule = RuleDsl.ruleBuilder()
+                .name(RULE_NAME)
+                .fact("factOne", FactOne.class)
+                .predicate(
+                        equal(
+                                value("${factOne.aString}"),
+                                value("the_value")
+                        ))
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("ruleName", function("next", String.class)))
+                .build();
+        RuleSession ruleSession = new RulesEngineBuilder()
+                .withRulesRepository(i -> singletonList(rule))
+                .withActionMapping("collect", js("collect", script))
+                .withFunctionMapping("next", js("next", countingScript), DefaultEngineFeature.DISABLE_CACHE_FUNCTION_RESULT)
+                .build()
+                .createSession("test");
+        List<Object> facts = singletonList(new FactOne("the_value"));
+
+        // when
+        List<Object> first = ruleSession.execute(new ArrayList<>(), facts);
+        List<Object> second = ruleSession.execute(new ArrayList<>(), facts);
+
+        // then
+        assertThat(first).containsExactly("call1-1");
+        assertThat(second).containsExactly("call1-1");
+    }
+
+    @Test
+    void shouldReturnNullWhenFunctionReturnsUndefined() {
+        // given
+        String undefinedScript = "" +
+                "function nothing() {" +
+                "}";
+        Rule rule = RuleDsl.ruleBuilder()
+                .name(RULE_NAME)
+                .fact("factOne", FactOne.class)
+                .predicate(
+                        isNull(function("nothing", Object.class))
+                )
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("ruleName", value(RULE_NAME)))
+                .build();
+        RuleSession ruleSession = new RulesEngineBuilder()
+                .withRulesRepository(i -> singletonList(rule))
+                .withActionMapping("collect", js("collect", script))
+                .withFunctionMapping("nothing", js("nothing", undefinedScript))
+                .build()
+                .createSession("test");
+
+        // when
+        List<Object> results = ruleSession.execute(new ArrayList<>(), singletonList(new FactOne("the_value")));
+
+        // then
+        assertThat(results).containsExactly(RULE_NAME);
+    }
+
+    @Test
+    void shouldCallFunctionConcurrentlyFromManyThreads() throws Exception {
+        // given
+        Rule rule = RuleDsl.ruleBuilder()
+                .name(RULE_NAME)
+                .fact("factOne", FactOne.class)
+                .predicate(
+                        match(
+                                function("upperCase", String.class,
+                                        param("value", value("${factOne.aString}"))),
+                                value("THE_VALUE")
+                        ))
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("ruleName", value(RULE_NAME)))
+                .build();
+        RuleSession ruleSession = createRuleSession(rule);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+        // when
+        List<Future<List<Object>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 100; i++) {
+                results.add(executorService.submit(() -> ruleSession.execute(new ArrayList<>(), singletonList(new FactOne("the_value")))));
+            }
+
+            // then
+            for (Future<List<Object>> result : results) {
+                assertThat(result.get()).containsExactly(RULE_NAME);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFailWhenFunctionIsMissingInScript() {
+        // given
+        Rule rule = RuleDsl.ruleBuilder()
+                .name(RULE_NAME)
+                .fact("factOne", FactOne.class)
+                .predicate(
+                        match(
+                                function("missing", String.class),
+                                value("THE_VALUE")
+                        ))
+                .action("collect",
+                        param("context", value("${ctx}")),
+                        param("ruleName", value(RULE_NAME)))
+                .build();
+        RuleSession ruleSession = new RulesEngineBuilder()
+                .withRulesRepository(i -> singletonList(rule))
+                .withActionMapping("collect", js("collect", script))
+                .withFunctionMapping("missing", js("missing", script))
+                .build()
+                .createSession("test");
+
+        // when / then
+        assertThatThrownBy(() -> ruleSession.execute(new ArrayList<>(), singletonList(new FactOne("the_value"))))
+                .hasRootCauseInstanceOf(IllegalArgumentException.class)
+                .hasStackTraceContaining("No function missing in script");
+    }
+
     private RuleSession createRuleSession(Rule rule) {
         RulesEngine rulesEngine = new RulesEngineBuilder()
                 .withRulesRepository(i -> singletonList(rule))
@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.performance.suits;
+
+import com.sabre.oss.yare.core.RuleSession;
+import com.sabre.oss.yare.core.RulesEngine;
+import com.sabre.oss.yare.core.RulesEngineBuilder;
+import com.sabre.oss.yare.core.model.Rule;
+import com.sabre.oss.yare.dsl.RuleDsl;
+import com.sabre.oss.yare.engine.executor.DefaultRulesExecutorBuilder;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.sabre.oss.yare.dsl.RuleDsl.*;
+import static com.sabre.oss.yare.invoker.java.MethodCallMetadata.method;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares interpreted and compiled evaluation of rules built of type-specialized relational operators.
+ */
+public class CompiledModeTest {
+    private static final int SELECTIVITY = 10;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        new Runner(
+                new OptionsBuilder().include(CompiledModeTest.class.getSimpleName())
+                        .shouldFailOnError(true)
+                        .mode(Mode.AverageTime)
+                        .timeUnit(TimeUnit.MILLISECONDS)
+                        .warmupIterations(2)
+                        .warmupTime(TimeValue.seconds(2))
+                        .measurementIterations(5)
+                        .measurementTime(TimeValue.seconds(2))
+                        .threads(1)
+                        .forks(1)
+                        .jvmArgs("-server", "-Xms2048M", "-Xmx2048M", "-XX:+UseG1GC")
+                        .shouldDoGC(true)
+                        .build()
+        ).run();
+    }
+
+    @Benchmark
+    public void benchmark(EngineState engineState) {
+        //given
+        RuleSession session = engineState.engine.createSession("test");
+        //when
+        List<Object> result = session.execute(new ArrayList<>(), engineState.facts);
+        //then
+        assertThat(result.size()).isEqualTo(engineState.numberOfRules * engineState.numberOfFacts / SELECTIVITY);
+    }
+
+    @State(Scope.Benchmark)
+    public static class EngineState {
+        @Param({"false", "true"})
+        public boolean compiledMode;
+        @Param({"100", "1000"})
+        public int numberOfRules;
+        @Param({"100", "1000"})
+        public int numberOfFacts;
+        private RulesEngine engine;
+        private List<Object> facts;
+
+        @Setup
+        public void init() {
+            List<Rule> rules = IntStream.range(0, numberOfRules)
+                    .mapToObj(EngineState::createRule)
+                    .collect(Collectors.toList());
+            engine = new RulesEngineBuilder()
+                    .withRulesRepository(uri -> rules)
+                    .withRulesExecutorBuilder(new DefaultRulesExecutorBuilder()
+                            .withCompiledMode(compiledMode))
+                    .withActionMapping("collect", method(new CollectAction(), (action) -> action.execute(null, null)))
+                    .build();
+            facts = IntStream.range(0, numberOfFacts)
+                    .mapToObj(i -> new TypedFact(i % SELECTIVITY, 1000L + i, 0.5, BigDecimal.valueOf(i), "name", Arrays.asList("a", "b")))
+                    .collect(Collectors.toList());
+        }
+
+        // constants differ between rules, so interpreted operators are evaluated with many different operands;
+        // all conditions but the last two hold, each fact is matched by every SELECTIVITY-th rule
+        static Rule createRule(int index) {
+            return RuleDsl.ruleBuilder()
+                    .name("rule" + index)
+                    .fact("fact", TypedFact.class)
+                    .predicate(
+                            and(
+                                    lessOrEqual(value("${fact.longValue}"), value(10_000L + index)),
+                                    less(value("${fact.doubleValue}"), value(1.0 + index)),
+                                    greaterOrEqual(value("${fact.decimalValue}"), value(BigDecimal.valueOf(-index))),
+                                    equal(value("${fact.name}"), value("name")),
+                                    containsAny(
+                                            castToCollection(value("${fact.tags}"), String.class),
+                                            values(String.class, value("b"), value("tag" + index))
+                                    ),
+                                    greaterOrEqual(value("${fact.integerValue}"), value(index % SELECTIVITY)),
+                                    lessOrEqual(value("${fact.integerValue}"), value(index % SELECTIVITY))
+                            )
+                    )
+                    .action("collect",
+                            param("context", value("${ctx}")),
+                            param("fact", value("${fact}")))
+                    .build();
+        }
+    }
+
+    public static class TypedFact {
+        private final Integer integerValue;
+        private final Long longValue;
+        private final Double doubleValue;
+        private final BigDecimal decimalValue;
+        private final String name;
+        private final List<String> tags;
+
+        public TypedFact(Integer integerValue, Long longValue, Double doubleValue, BigDecimal decimalValue, String name, List<String> tags) {
+            this.integerValue = integerValue;
+            this.longValue = longValue;
+            this.doubleValue = doubleValue;
+            this.decimalValue = decimalValue;
+            this.name = name;
+            this.tags = tags;
+        }
+
+        public Integer getIntegerValue() {
+            return integerValue;
+        }
+
+        public Long getLongValue() {
+            return longValue;
+        }
+
+        public Double getDoubleValue() {
+            return doubleValue;
+        }
+
+        public BigDecimal getDecimalValue() {
+            return decimalValue;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+    }
+
+    public static class CollectAction {
+        public void execute(List<Object> context, TypedFact fact) {
+            context.add(fact);
+        }
+    }
+}
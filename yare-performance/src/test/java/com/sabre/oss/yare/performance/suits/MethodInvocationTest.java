@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright 2018 Sabre GLBL Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.sabre.oss.yare.performance.suits;
+
+import com.sabre.oss.yare.invoker.java.MethodInvoker;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Compares {@link MethodHandle#invokeWithArguments(Object...)}, used formerly to call Java functions and actions,
+ * with arity-specialized {@link MethodInvoker}.
+ */
+public class MethodInvocationTest {
+
+    @Test
+    public void runBenchmarks() throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(this.getClass().getSimpleName())
+                .mode(Mode.AverageTime)
+                .timeUnit(NANOSECONDS)
+                .warmupIterations(2)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(10)
+                .measurementTime(TimeValue.seconds(2))
+                .threads(1)
+                .warmupForks(0)
+                .forks(1)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .result("benchmarks/method-invocation-results.csv")
+                .resultFormat(ResultFormatType.CSV)
+                .jvmArgs("-server", "-Xms2048M", "-Xmx2048M", "-XX:+UseG1GC")
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public Object invokeWithArgumentsOneArgument(Context context) {
+        return invokeWithArguments(context.oneArgumentHandle, context.oneArgument);
+    }
+
+    @Benchmark
+    public Object methodInvokerOneArgument(Context context) {
+        return context.oneArgumentInvoker.invoke(context.oneArgument);
+    }
+
+    @Benchmark
+    public Object invokeWithArgumentsThreeArguments(Context context) {
+        return invokeWithArguments(context.threeArgumentsHandle, context.threeArguments);
+    }
+
+    @Benchmark
+    public Object methodInvokerThreeArguments(Context context) {
+        return context.threeArgumentsInvoker.invoke(context.threeArguments);
+    }
+
+    @Benchmark
+    public Object invokeWithArgumentsSixArguments(Context context) {
+        return invokeWithArguments(context.sixArgumentsHandle, context.sixArguments);
+    }
+
+    @Benchmark
+    public Object methodInvokerSixArguments(Context context) {
+        return context.sixArgumentsInvoker.invoke(context.sixArguments);
+    }
+
+    // the same handling of exceptions thrown by the method as MethodInvoker does
+    private static Object invokeWithArguments(MethodHandle methodHandle, Object[] args) {
+        try {
+            return methodHandle.invokeWithArguments(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static class Functions {
+        public Integer length(String value) {
+            return value.length();
+        }
+
+        public boolean between(Integer value, int from, int to) {
+            return from <= value && value <= to;
+        }
+
+        public String join(String a, String b, String c, String d, String e, String f) {
+            return a + b + c + d + e + f;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Context {
+        Object[] oneArgument = {"value"};
+        Object[] threeArguments = {5, 1, 10};
+        Object[] sixArguments = {"a", "b", "c", "d", "e", "f"};
+        MethodHandle oneArgumentHandle;
+        MethodHandle threeArgumentsHandle;
+        MethodHandle sixArgumentsHandle;
+        MethodInvoker oneArgumentInvoker;
+        MethodInvoker threeArgumentsInvoker;
+        MethodInvoker sixArgumentsInvoker;
+
+        @Setup
+        public void setup() throws ReflectiveOperationException {
+            Functions functions = new Functions();
+            Method length = Functions.class.getMethod("length", String.class);
+            Method between = Functions.class.getMethod("between", Integer.class, int.class, int.class);
+            Method join = Functions.class.getMethod("join", String.class, String.class, String.class, String.class, String.class, String.class);
+            oneArgumentHandle = MethodHandles.lookup().unreflect(length).bindTo(functions);
+            threeArgumentsHandle = MethodHandles.lookup().unreflect(between).bindTo(functions);
+            sixArgumentsHandle = MethodHandles.lookup().unreflect(join).bindTo(functions);
+            oneArgumentInvoker = MethodInvoker.of(functions, length);
+            threeArgumentsInvoker = MethodInvoker.of(functions, between);
+            sixArgumentsInvoker = MethodInvoker.of(functions, join);
+        }
+    }
+}